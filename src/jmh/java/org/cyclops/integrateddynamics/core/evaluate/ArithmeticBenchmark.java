@@ -0,0 +1,64 @@
+package org.cyclops.integrateddynamics.core.evaluate;
+
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
+import org.cyclops.integrateddynamics.core.evaluate.variable.DummyVariableDouble;
+import org.cyclops.integrateddynamics.core.evaluate.variable.DummyVariableInteger;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueHelpers;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeDouble;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeInteger;
+import org.cyclops.integrateddynamics.core.evaluate.variable.Variable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for chains of arithmetic operators.
+ * @author rubensworks
+ */
+@State(Scope.Thread)
+public class ArithmeticBenchmark {
+
+    @Param({"100"})
+    public int length;
+
+    private DummyVariableInteger i1;
+    private DummyVariableDouble d1;
+
+    @Setup
+    public void setup() {
+        i1 = new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(1));
+        d1 = new DummyVariableDouble(ValueTypeDouble.ValueDouble.of(1));
+    }
+
+    @Benchmark
+    public IValue additionChainInteger() throws EvaluationException {
+        IValue value = i1.getValue();
+        for (int i = 0; i < length; i++) {
+            value = Operators.ARITHMETIC_ADDITION.evaluate(new Variable<>(value), i1);
+        }
+        return value;
+    }
+
+    @Benchmark
+    public IValue additionChainMixed() throws EvaluationException {
+        IValue value = i1.getValue();
+        for (int i = 0; i < length; i++) {
+            value = Operators.ARITHMETIC_ADDITION.evaluate(new Variable<>(value), i % 2 == 0 ? i1 : d1);
+        }
+        return value;
+    }
+
+    @Benchmark
+    public IValue additionChainViaHelpers() throws EvaluationException {
+        IValue value = i1.getValue();
+        for (int i = 0; i < length; i++) {
+            value = ValueHelpers.evaluateOperator(Operators.ARITHMETIC_ADDITION, value, i1.getValue());
+        }
+        return value;
+    }
+
+}
@@ -0,0 +1,62 @@
+package org.cyclops.integrateddynamics.core.evaluate;
+
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.core.evaluate.operator.CurriedOperator;
+import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
+import org.cyclops.integrateddynamics.core.evaluate.variable.DummyVariableInteger;
+import org.cyclops.integrateddynamics.core.evaluate.variable.DummyVariableOperator;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueHelpers;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeInteger;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeOperator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for currying, applying and piping operators.
+ * @author rubensworks
+ */
+@State(Scope.Thread)
+public class CurryingBenchmark {
+
+    private DummyVariableInteger i1;
+    private DummyVariableInteger i2;
+    private DummyVariableOperator oAddition;
+    private DummyVariableOperator oAddOne;
+    private DummyVariableOperator oIncrement;
+    private CurriedOperator addOne;
+
+    @Setup
+    public void setup() {
+        i1 = new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(1));
+        i2 = new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(2));
+        addOne = new CurriedOperator(Operators.ARITHMETIC_ADDITION, i1);
+        oAddition = new DummyVariableOperator(ValueTypeOperator.ValueOperator.of(Operators.ARITHMETIC_ADDITION));
+        oAddOne = new DummyVariableOperator(ValueTypeOperator.ValueOperator.of(addOne));
+        oIncrement = new DummyVariableOperator(ValueTypeOperator.ValueOperator.of(Operators.INTEGER_INCREMENT));
+    }
+
+    @Benchmark
+    public IValue curry() throws EvaluationException {
+        return ValueHelpers.evaluateOperator(Operators.ARITHMETIC_ADDITION, i1);
+    }
+
+    @Benchmark
+    public IValue evaluateCurried() throws EvaluationException {
+        return addOne.evaluate(i2);
+    }
+
+    @Benchmark
+    public IValue apply2() throws EvaluationException {
+        return Operators.OPERATOR_APPLY_2.evaluate(oAddition, i1, i2);
+    }
+
+    @Benchmark
+    public IValue pipe() throws EvaluationException {
+        IValue piped = Operators.OPERATOR_PIPE.evaluate(oAddOne, oIncrement);
+        return ValueHelpers.evaluateOperator(((ValueTypeOperator.ValueOperator) piped).getRawValue(), i2);
+    }
+
+}
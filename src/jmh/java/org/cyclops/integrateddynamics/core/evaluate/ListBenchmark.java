@@ -0,0 +1,101 @@
+package org.cyclops.integrateddynamics.core.evaluate;
+
+import com.google.common.collect.Lists;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.core.evaluate.operator.CurriedOperator;
+import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
+import org.cyclops.integrateddynamics.core.evaluate.variable.DummyVariableInteger;
+import org.cyclops.integrateddynamics.core.evaluate.variable.DummyVariableList;
+import org.cyclops.integrateddynamics.core.evaluate.variable.DummyVariableOperator;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeInteger;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeList;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeListProxyFactories;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeOperator;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+
+/**
+ * Benchmarks for list operators over large lists.
+ * Mapped and filtered lists are lazy, so they are fully iterated.
+ * @author rubensworks
+ */
+@State(Scope.Thread)
+public class ListBenchmark {
+
+    @Param({"10000"})
+    public int size;
+
+    private DummyVariableList list;
+    private DummyVariableInteger i0;
+    private DummyVariableInteger iLast;
+    private DummyVariableOperator oIncrement;
+    private DummyVariableOperator oAddition;
+    private DummyVariableOperator oLessThanHalf;
+
+    @Setup
+    public void setup() {
+        ValueTypeListProxyFactories.load();
+        List<ValueTypeInteger.ValueInteger> values = Lists.newArrayListWithExpectedSize(size);
+        for (int i = 0; i < size; i++) {
+            values.add(ValueTypeInteger.ValueInteger.of(i));
+        }
+        list = new DummyVariableList(ValueTypeList.ValueList.ofList(ValueTypes.INTEGER, values));
+        i0 = new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(0));
+        iLast = new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(size - 1));
+        oIncrement = new DummyVariableOperator(ValueTypeOperator.ValueOperator.of(Operators.INTEGER_INCREMENT));
+        oAddition = new DummyVariableOperator(ValueTypeOperator.ValueOperator.of(Operators.ARITHMETIC_ADDITION));
+        oLessThanHalf = new DummyVariableOperator(ValueTypeOperator.ValueOperator.of(new CurriedOperator(Operators.RELATIONAL_GT,
+                new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(size / 2)))));
+    }
+
+    @Benchmark
+    public void map(Blackhole blackhole) throws EvaluationException {
+        ValueTypeList.ValueList res = (ValueTypeList.ValueList) Operators.OPERATOR_MAP.evaluate(oIncrement, list);
+        for (Object value : res.getRawValue()) {
+            blackhole.consume(value);
+        }
+    }
+
+    @Benchmark
+    public void filter(Blackhole blackhole) throws EvaluationException {
+        ValueTypeList.ValueList res = (ValueTypeList.ValueList) Operators.OPERATOR_FILTER.evaluate(oLessThanHalf, list);
+        for (Object value : res.getRawValue()) {
+            blackhole.consume(value);
+        }
+    }
+
+    @Benchmark
+    public IValue reduce() throws EvaluationException {
+        return Operators.OPERATOR_REDUCE.evaluate(oAddition, list, i0);
+    }
+
+    @Benchmark
+    public IValue mapReduce() throws EvaluationException {
+        IValue mapped = Operators.OPERATOR_MAP.evaluate(oIncrement, list);
+        return Operators.OPERATOR_REDUCE.evaluate(oAddition, new DummyVariableList((ValueTypeList.ValueList) mapped), i0);
+    }
+
+    @Benchmark
+    public IValue contains() throws EvaluationException {
+        return Operators.LIST_CONTAINS.evaluate(list, iLast);
+    }
+
+    @Benchmark
+    public IValue count() throws EvaluationException {
+        return Operators.LIST_COUNT.evaluate(list, iLast);
+    }
+
+    @Benchmark
+    public IValue uniq() throws EvaluationException {
+        return Operators.LIST_LENGTH.evaluate(new DummyVariableList((ValueTypeList.ValueList) Operators.LIST_UNIQ.evaluate(list)));
+    }
+
+}
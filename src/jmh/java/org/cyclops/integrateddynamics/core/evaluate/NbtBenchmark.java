@@ -0,0 +1,73 @@
+package org.cyclops.integrateddynamics.core.evaluate;
+
+import net.minecraft.nbt.NBTTagCompound;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
+import org.cyclops.integrateddynamics.core.evaluate.variable.DummyVariableInteger;
+import org.cyclops.integrateddynamics.core.evaluate.variable.DummyVariableNbt;
+import org.cyclops.integrateddynamics.core.evaluate.variable.DummyVariableString;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeInteger;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeNbt;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeString;
+import org.cyclops.integrateddynamics.core.evaluate.variable.Variable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for NBT 'with' and union pipelines.
+ * @author rubensworks
+ */
+@State(Scope.Thread)
+public class NbtBenchmark {
+
+    @Param({"100"})
+    public int keys;
+
+    private DummyVariableNbt nLarge;
+    private DummyVariableNbt nSmall;
+    private DummyVariableString[] sKeys;
+    private DummyVariableInteger i1;
+
+    @Setup
+    public void setup() {
+        NBTTagCompound large = new NBTTagCompound();
+        sKeys = new DummyVariableString[keys];
+        for (int i = 0; i < keys; i++) {
+            NBTTagCompound child = new NBTTagCompound();
+            child.setInteger("value", i);
+            child.setString("name", "child" + i);
+            large.setTag("key" + i, child);
+            sKeys[i] = new DummyVariableString(ValueTypeString.ValueString.of("new" + i));
+        }
+        NBTTagCompound small = new NBTTagCompound();
+        small.setInteger("key0", 0);
+        nLarge = new DummyVariableNbt(ValueTypeNbt.ValueNbt.of(large));
+        nSmall = new DummyVariableNbt(ValueTypeNbt.ValueNbt.of(small));
+        i1 = new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(1));
+    }
+
+    @Benchmark
+    public IValue withChain() throws EvaluationException {
+        IValue value = nLarge.getValue();
+        for (int i = 0; i < 10; i++) {
+            value = Operators.NBT_WITH_INTEGER.evaluate(new Variable<>(value), sKeys[i % keys], i1);
+        }
+        return value;
+    }
+
+    @Benchmark
+    public IValue union() throws EvaluationException {
+        return Operators.NBT_UNION.evaluate(nLarge, nSmall);
+    }
+
+    @Benchmark
+    public IValue withUnion() throws EvaluationException {
+        IValue with = Operators.NBT_WITH_INTEGER.evaluate(nSmall, sKeys[0], i1);
+        return Operators.NBT_UNION.evaluate(nLarge, new Variable<>(with));
+    }
+
+}
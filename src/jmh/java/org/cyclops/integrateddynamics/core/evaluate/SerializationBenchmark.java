@@ -0,0 +1,96 @@
+package org.cyclops.integrateddynamics.core.evaluate;
+
+import com.google.common.collect.Lists;
+import net.minecraft.nbt.NBTTagCompound;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueHelpers;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeBinaryCodecs;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeInteger;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeList;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeListProxyFactories;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeNbt;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Benchmarks for the string and binary serialization of values.
+ * @author rubensworks
+ */
+@State(Scope.Thread)
+public class SerializationBenchmark {
+
+    @Param({"1000"})
+    public int size;
+
+    private IValue list;
+    private IValue nbt;
+    private String listString;
+    private String nbtString;
+    private byte[] listBytes;
+    private byte[] nbtBytes;
+
+    @Setup
+    public void setup() {
+        ValueTypeListProxyFactories.load();
+        List<IValue> values = Lists.newArrayListWithCapacity(size);
+        NBTTagCompound tag = new NBTTagCompound();
+        for (int i = 0; i < size; i++) {
+            values.add(ValueTypeInteger.ValueInteger.of(i));
+            tag.setInteger("key" + i, i);
+        }
+        list = ValueTypeList.ValueList.ofList(ValueTypes.INTEGER, values);
+        nbt = ValueTypeNbt.ValueNbt.of(tag);
+        listString = ValueHelpers.serializeRaw(list);
+        nbtString = ValueHelpers.serializeRaw(nbt);
+        listBytes = ValueTypeBinaryCodecs.encode(list);
+        nbtBytes = ValueTypeBinaryCodecs.encode(nbt);
+    }
+
+    @Benchmark
+    public String serializeListString() {
+        return ValueHelpers.serializeRaw(list);
+    }
+
+    @Benchmark
+    public byte[] serializeListBinary() {
+        return ValueTypeBinaryCodecs.encode(list);
+    }
+
+    @Benchmark
+    public IValue deserializeListString() {
+        return ValueHelpers.deserializeRaw(ValueTypes.LIST, listString);
+    }
+
+    @Benchmark
+    public IValue deserializeListBinary() throws IOException {
+        return ValueTypeBinaryCodecs.decode(ValueTypes.LIST, listBytes);
+    }
+
+    @Benchmark
+    public String serializeNbtString() {
+        return ValueHelpers.serializeRaw(nbt);
+    }
+
+    @Benchmark
+    public byte[] serializeNbtBinary() {
+        return ValueTypeBinaryCodecs.encode(nbt);
+    }
+
+    @Benchmark
+    public IValue deserializeNbtString() {
+        return ValueHelpers.deserializeRaw(ValueTypes.NBT, nbtString);
+    }
+
+    @Benchmark
+    public IValue deserializeNbtBinary() throws IOException {
+        return ValueTypeBinaryCodecs.decode(ValueTypes.NBT, nbtBytes);
+    }
+
+}
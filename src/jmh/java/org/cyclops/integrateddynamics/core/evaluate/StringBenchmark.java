@@ -0,0 +1,51 @@
+package org.cyclops.integrateddynamics.core.evaluate;
+
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
+import org.cyclops.integrateddynamics.core.evaluate.variable.DummyVariableString;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeListProxyFactories;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for regex string operators.
+ * @author rubensworks
+ */
+@State(Scope.Thread)
+public class StringBenchmark {
+
+    private DummyVariableString sRegex;
+    private DummyVariableString sWhitespace;
+    private DummyVariableString sReplacement;
+    private DummyVariableString sText;
+
+    @Setup
+    public void setup() {
+        ValueTypeListProxyFactories.load();
+        sRegex = new DummyVariableString(ValueTypeString.ValueString.of("[a-z]+ing"));
+        sWhitespace = new DummyVariableString(ValueTypeString.ValueString.of("\\s+"));
+        sReplacement = new DummyVariableString(ValueTypeString.ValueString.of("X"));
+        sText = new DummyVariableString(ValueTypeString.ValueString.of(
+                "The quick brown fox is jumping over the sleeping dog while singing a song"));
+    }
+
+    @Benchmark
+    public IValue matches() throws EvaluationException {
+        return Operators.STRING_CONTAINS_REGEX.evaluate(sRegex, sText);
+    }
+
+    @Benchmark
+    public IValue replace() throws EvaluationException {
+        return Operators.STRING_REPLACE_REGEX.evaluate(sRegex, sReplacement, sText);
+    }
+
+    @Benchmark
+    public IValue split() throws EvaluationException {
+        return Operators.STRING_SPLIT_ON_REGEX.evaluate(sWhitespace, sText);
+    }
+
+}
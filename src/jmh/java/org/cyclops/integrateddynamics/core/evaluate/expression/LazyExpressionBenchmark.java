@@ -0,0 +1,89 @@
+package org.cyclops.integrateddynamics.core.evaluate.expression;
+
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.expression.VariableAdapter;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueCastMappings;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeInteger;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for the caching and invalidation of chained lazy expressions.
+ * @author rubensworks
+ */
+@State(Scope.Thread)
+public class LazyExpressionBenchmark {
+
+    @Param({"10", "100"})
+    public int length;
+
+    private SettableVariable input;
+    private SettableVariable constant;
+    private LazyExpression<ValueTypeInteger.ValueInteger> head;
+    private LazyExpression<ValueTypeInteger.ValueInteger> tail;
+    private int counter = 0;
+
+    @Setup
+    public void setup() throws EvaluationException {
+        ValueCastMappings.load();
+        LazyExpressionValueCache cache = new LazyExpressionValueCache();
+        input = new SettableVariable(0);
+        constant = new SettableVariable(1);
+        // e0 = input + constant, ei = e(i-1) + constant
+        head = new LazyExpression<>(0, Operators.ARITHMETIC_ADDITION, new IVariable[]{input, constant}, cache);
+        tail = head;
+        for (int i = 1; i < length; i++) {
+            tail = new LazyExpression<>(i, Operators.ARITHMETIC_ADDITION, new IVariable[]{tail, constant}, cache);
+        }
+        tail.getValue();
+    }
+
+    @Benchmark
+    public ValueTypeInteger.ValueInteger cachedRead() throws EvaluationException {
+        return tail.getValue();
+    }
+
+    @Benchmark
+    public ValueTypeInteger.ValueInteger invalidateInput() throws EvaluationException {
+        input.setValue(counter++);
+        return tail.getValue();
+    }
+
+    @Benchmark
+    public ValueTypeInteger.ValueInteger invalidateHead() throws EvaluationException {
+        head.invalidate();
+        return tail.getValue();
+    }
+
+    private static class SettableVariable extends VariableAdapter<ValueTypeInteger.ValueInteger> {
+
+        private ValueTypeInteger.ValueInteger value;
+
+        public SettableVariable(int value) {
+            this.value = ValueTypeInteger.ValueInteger.of(value);
+        }
+
+        public void setValue(int value) {
+            this.value = ValueTypeInteger.ValueInteger.of(value);
+            invalidate();
+        }
+
+        @Override
+        public IValueType<ValueTypeInteger.ValueInteger> getType() {
+            return ValueTypes.INTEGER;
+        }
+
+        @Override
+        public ValueTypeInteger.ValueInteger getValue() throws EvaluationException {
+            return value;
+        }
+    }
+
+}
@@ -0,0 +1,65 @@
+package org.cyclops.integrateddynamics.core.path;
+
+import net.minecraft.util.math.BlockPos;
+import org.cyclops.cyclopscore.datastructure.DimPos;
+import org.cyclops.integrateddynamics.capability.path.SidedPathElement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for finding connected clusters in networks of increasing size.
+ * @author rubensworks
+ */
+@State(Scope.Thread)
+public class PathFinderBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private TestPathFinder.DummyPathElement[] line;
+    private TestPathFinder.DummyPathElement[] grid;
+
+    @Setup
+    public void setup() {
+        line = TestPathFinder.createLine(0, size);
+
+        int width = (int) Math.sqrt(size);
+        grid = new TestPathFinder.DummyPathElement[width * width];
+        for (int x = 0; x < width; x++) {
+            for (int z = 0; z < width; z++) {
+                grid[x * width + z] = new TestPathFinder.DummyPathElement(DimPos.of(0, new BlockPos(x, 0, z)));
+            }
+        }
+        for (int x = 0; x < width; x++) {
+            for (int z = 0; z < width; z++) {
+                TestPathFinder.DummyPathElement element = grid[x * width + z];
+                if (x > 0) {
+                    element.connect(grid[(x - 1) * width + z]);
+                }
+                if (x < width - 1) {
+                    element.connect(grid[(x + 1) * width + z]);
+                }
+                if (z > 0) {
+                    element.connect(grid[x * width + z - 1]);
+                }
+                if (z < width - 1) {
+                    element.connect(grid[x * width + z + 1]);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public Cluster line() {
+        return PathFinder.getConnectedCluster(SidedPathElement.of(line[0], null));
+    }
+
+    @Benchmark
+    public Cluster grid() {
+        return PathFinder.getConnectedCluster(SidedPathElement.of(grid[0], null));
+    }
+
+}
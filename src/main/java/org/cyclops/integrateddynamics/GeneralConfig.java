@@ -131,6 +131,18 @@ public class GeneralConfig extends DummyConfig {
     @ConfigurableProperty(category = ConfigurableTypeCategory.CORE, comment = "The frequency in ticks at which ingredient network should be observed after a position's contents are changed.", minimalValue = 0, isCommandable = true)
     public static int ingredientNetworkObserverFrequencyForced = 0;
 
+    /**
+     * If storages should be observed when they notify their neighbours of content changes.
+     */
+    @ConfigurableProperty(category = ConfigurableTypeCategory.CORE, comment = "If storages should be observed when they notify their neighbours of content changes.", isCommandable = true)
+    public static boolean ingredientNetworkObserverDirtyTracking = true;
+
+    /**
+     * The frequency in ticks at which unchanged storages that notify their neighbours of content changes should be observed.
+     */
+    @ConfigurableProperty(category = ConfigurableTypeCategory.CORE, comment = "The frequency in ticks at which unchanged storages that notify their neighbours of content changes should be observed.", minimalValue = 1, isCommandable = true)
+    public static int ingredientNetworkObserverFrequencyFallback = 200;
+
     /**
      * The number of threads that the ingredient network observer can use.
      */
@@ -154,6 +166,30 @@ public class GeneralConfig extends DummyConfig {
      */
     @ConfigurableProperty(category = ConfigurableTypeCategory.CORE, comment = "How deep the recursion stack on an operator can become. This is to avoid game crashes when building things like the omega operator.", isCommandable = true)
     public static int operatorRecursionLimit = 256;
+
+    /**
+     * How many operator invocations a single evaluation can perform, 0 disables this limit.
+     */
+    @ConfigurableProperty(category = ConfigurableTypeCategory.CORE, comment = "How many operator invocations a single evaluation can perform, 0 disables this limit.", minimalValue = 0, isCommandable = true)
+    public static int operatorEvaluationBudget = 0;
+
+    /**
+     * If reader aspects that support it should only be invalidated when a fingerprint of their target has changed, instead of every tick.
+     */
+    @ConfigurableProperty(category = ConfigurableTypeCategory.CORE, comment = "If reader aspects that support it should only be invalidated when a fingerprint of their target has changed, instead of every tick.", isCommandable = true)
+    public static boolean aspectChangeDetection = false;
+
+    /**
+     * The maximum number of elements of a mapped list that will be cached within a single tick.
+     */
+    @ConfigurableProperty(category = ConfigurableTypeCategory.CORE, comment = "The maximum number of elements of a mapped list that will be cached within a single tick.", minimalValue = 0, isCommandable = true)
+    public static int mappedListCacheSize = 4096;
+
+    /**
+     * The maximum number of compiled regular expressions that will be cached.
+     */
+    @ConfigurableProperty(category = ConfigurableTypeCategory.CORE, comment = "The maximum number of compiled regular expressions that will be cached.", minimalValue = 0, requiresMcRestart = true)
+    public static int regexCacheSize = 1024;
     
     /**
      * Create a new instance.
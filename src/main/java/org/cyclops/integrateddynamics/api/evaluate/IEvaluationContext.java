@@ -0,0 +1,41 @@
+package org.cyclops.integrateddynamics.api.evaluate;
+
+import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
+
+/**
+ * The state of a single operator evaluation, which is passed through nested operator invocations.
+ *
+ * A context holds the recursion depth and the remaining evaluation budget of the outermost evaluation.
+ * Operators themselves are stateless, so the same operator graph can be evaluated from several threads,
+ * as long as each thread uses its own context.
+ * A context instance is therefore confined to the thread that created it.
+ * @author rubensworks
+ */
+public interface IEvaluationContext {
+
+    /**
+     * Mark the start of an invocation of the given operator.
+     * Each call must be followed by a call to {@link #exit(IOperator)}, also when evaluation fails.
+     * @param operator The operator that is being invoked.
+     * @throws EvaluationException If the recursion limit or the evaluation budget was exceeded.
+     */
+    public void enter(IOperator operator) throws EvaluationException;
+
+    /**
+     * Mark the end of an invocation of the given operator.
+     * @param operator The operator that was being invoked.
+     */
+    public void exit(IOperator operator);
+
+    /**
+     * @return The number of operator invocations that are currently on the stack.
+     */
+    public int getDepth();
+
+    /**
+     * @return The number of operator invocations that can still happen in this evaluation,
+     *         or -1 if unlimited.
+     */
+    public int getRemainingBudget();
+
+}
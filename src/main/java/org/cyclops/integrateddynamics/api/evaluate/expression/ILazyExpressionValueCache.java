@@ -1,6 +1,7 @@
 package org.cyclops.integrateddynamics.api.evaluate.expression;
 
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
 
 /**
  * Cache object that is responsible for storing values of this expression.
@@ -14,4 +15,38 @@ public interface ILazyExpressionValueCache {
     public IValue getValue(int id);
     public void removeValue(int id);
 
+    /**
+     * Register the expression for the given id.
+     * When the value of the expression is removed because one of its dependencies was removed,
+     * the expression will be invalidated, so that its own listeners are notified.
+     * Only a weak reference to the expression is kept,
+     * and the dependencies of an expression that was garbage collected will be removed.
+     * @param id The expression id.
+     * @param expression The expression.
+     */
+    public default void setExpression(int id, IVariable<?> expression) {
+
+    }
+
+    /**
+     * Register a stable dependency between two expressions.
+     * When the value of the first expression is removed,
+     * the value of the dependent expression will be removed as well.
+     * @param id The expression id that is depended on.
+     * @param dependentId The id of the expression that depends on the first.
+     * @return If this cache tracks the dependency,
+     *         otherwise the dependent expression must listen to invalidations of the first expression itself.
+     */
+    public default boolean addDependency(int id, int dependentId) {
+        return false;
+    }
+
+    /**
+     * Remove all dependencies the given expression has on other expressions.
+     * @param dependentId The id of the dependent expression.
+     */
+    public default void removeDependencies(int dependentId) {
+
+    }
+
 }
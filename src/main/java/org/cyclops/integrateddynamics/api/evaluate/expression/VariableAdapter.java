@@ -1,11 +1,11 @@
 package org.cyclops.integrateddynamics.api.evaluate.expression;
 
-import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IVariableInvalidateListener;
 
-import java.util.List;
+import java.util.Set;
 
 /**
  * A basic variable implementation.
@@ -13,18 +13,25 @@ import java.util.List;
  */
 public abstract class VariableAdapter<V extends IValue> implements IVariable<V> {
 
-    private List<IVariableInvalidateListener> invalidateListeners = Lists.newLinkedList();
+    private Set<IVariableInvalidateListener> invalidateListeners = null;
 
     @Override
     public void invalidate() {
-        for (IVariableInvalidateListener invalidateListener : Lists.newArrayList(invalidateListeners)) {
-            invalidateListener.invalidate();
+        if (invalidateListeners != null) {
+            // Detach the listeners before calling them, so that they can safely re-attach themselves.
+            Set<IVariableInvalidateListener> listeners = invalidateListeners;
+            invalidateListeners = null;
+            for (IVariableInvalidateListener invalidateListener : listeners) {
+                invalidateListener.invalidate();
+            }
         }
-        invalidateListeners.clear();
     }
 
     @Override
     public void addInvalidationListener(IVariableInvalidateListener invalidateListener) {
+        if (invalidateListeners == null) {
+            invalidateListeners = Sets.newIdentityHashSet();
+        }
         invalidateListeners.add(invalidateListener);
     }
 }
@@ -2,6 +2,7 @@ package org.cyclops.integrateddynamics.api.evaluate.operator;
 
 import org.cyclops.cyclopscore.helper.L10NHelpers;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.IEvaluationContext;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
@@ -72,6 +73,18 @@ public interface IOperator {
      */
     public IValue evaluate(IVariable... input) throws EvaluationException;
 
+    /**
+     * Evaluate the given input values for this operator within the given evaluation context.
+     * By default, this ignores the context, operators that call other operators should override this.
+     * @param context The context of the running evaluation.
+     * @param input The ordered input values.
+     * @return The output value.
+     * @throws EvaluationException When something went wrong while evaluating.
+     */
+    public default IValue evaluate(IEvaluationContext context, IVariable... input) throws EvaluationException {
+        return evaluate(input);
+    }
+
     /**
      * @return The required input length.
      */
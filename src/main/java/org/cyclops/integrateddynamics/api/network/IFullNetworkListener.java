@@ -1,6 +1,7 @@
 package org.cyclops.integrateddynamics.api.network;
 
 import net.minecraft.util.EnumFacing;
+import org.cyclops.integrateddynamics.api.network.event.INetworkEvent;
 import org.cyclops.integrateddynamics.api.path.IPathElement;
 
 /**
@@ -42,6 +43,13 @@ public interface IFullNetworkListener {
      */
     public void update();
 
+    /**
+     * Called each tick after all network elements have been updated.
+     */
+    public default void afterUpdate() {
+
+    }
+
     /**
      * Remove the given path element from the network.
      * If the path element had any network elements registered in the network, these will be killed and removed as well.
@@ -97,4 +105,12 @@ public interface IFullNetworkListener {
      */
     public void revalidateElement(INetworkElement element);
 
+    /**
+     * Called when an event is posted to the network, before it is passed to the network elements.
+     * @param event The posted event.
+     */
+    public default void onEvent(INetworkEvent event) {
+
+    }
+
 }
@@ -79,7 +79,9 @@ public interface INetwork extends IFullNetworkListener, INBTSerializable {
 
     /**
      * Reset the last second duration counts.
+     * @deprecated Durations are kept in rolling windows of one second, so they do not have to be reset anymore.
      */
+    @Deprecated
     public void resetLastSecondDurations();
 
     /**
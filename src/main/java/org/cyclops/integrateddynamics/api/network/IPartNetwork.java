@@ -1,8 +1,10 @@
 package org.cyclops.integrateddynamics.api.network;
 
 import org.cyclops.cyclopscore.datastructure.DimPos;
+import org.cyclops.cyclopscore.helper.L10NHelpers;
 import org.cyclops.integrateddynamics.api.evaluate.expression.ILazyExpressionValueCache;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
 import org.cyclops.integrateddynamics.api.item.IVariableFacade;
 import org.cyclops.integrateddynamics.api.part.IPartState;
@@ -10,6 +12,9 @@ import org.cyclops.integrateddynamics.api.part.IPartType;
 import org.cyclops.integrateddynamics.api.part.PartPos;
 import org.cyclops.integrateddynamics.api.part.aspect.IAspectRead;
 
+import javax.annotation.Nullable;
+import java.util.List;
+
 /**
  * A network capability that can hold parts.
  * Note that this network only contains references to the relevant data, it does not contain the actual information.
@@ -86,6 +91,36 @@ public interface IPartNetwork extends ILazyExpressionValueCache {
      */
     public IVariableFacade getVariableFacade(int variableId);
 
+    /**
+     * Get the memoized validation result of the variable with the given id.
+     * By default, nothing is memoized.
+     * @param variableId The variable id.
+     * @param valueType The value type the variable was validated against.
+     * @return The validation errors, an empty list if the variable was valid, or null if not memoized.
+     */
+    @Nullable
+    public default List<L10NHelpers.UnlocalizedString> getValidationResult(int variableId, IValueType valueType) {
+        return null;
+    }
+
+    /**
+     * Memoize the validation result of the variable with the given id.
+     * Results are forgotten when the variables in this network change.
+     * @param variableId The variable id.
+     * @param valueType The value type the variable was validated against.
+     * @param errors The validation errors, an empty list if the variable was valid.
+     */
+    public default void setValidationResult(int variableId, IValueType valueType, List<L10NHelpers.UnlocalizedString> errors) {
+
+    }
+
+    /**
+     * Forget all memoized validation results.
+     */
+    public default void invalidateValidationResults() {
+
+    }
+
     /**
      * Add the position of a variable container.
      * @param dimPos The variable container position.
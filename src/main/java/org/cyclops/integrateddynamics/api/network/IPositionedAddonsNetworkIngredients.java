@@ -85,6 +85,13 @@ public interface IPositionedAddonsNetworkIngredients<T, M> extends IPositionedAd
         return wrapperHandler != null ? wrapperHandler.wrapStorage(getChannel(channel)) : null;
     }
 
+    /**
+     * Indicate that the contents of the storages at the given block position have changed,
+     * so that they will be observed in the next observation.
+     * @param pos A block position.
+     */
+    public void markPositionDirty(DimPos pos);
+
     /**
      * Get the last tick duration of the index observer.
      * @return Duration in nanoseconds
@@ -93,7 +100,9 @@ public interface IPositionedAddonsNetworkIngredients<T, M> extends IPositionedAd
 
     /**
      * Reset the last second duration count.
+     * @deprecated Durations are kept in rolling windows of one second, so they do not have to be reset anymore.
      */
+    @Deprecated
     public void resetLastSecondDurationsIndex();
 
 }
@@ -108,6 +108,26 @@ public interface IPartState<P extends IPartType> {
      */
     public boolean isUpdateAndReset();
 
+    /**
+     * Write the fields of this state that have changed since the last call,
+     * and that can be sent to the client(s) without a full update of the part container.
+     * The changed fields are reset after this call.
+     * @return A tag with the changed fields, or null if no fields have changed.
+     */
+    @Nullable
+    public default NBTTagCompound writeFieldUpdatesAndReset() {
+        return null;
+    }
+
+    /**
+     * Read fields that were written by {@link #writeFieldUpdatesAndReset()}.
+     * This is called client-side.
+     * @param tag The tag with changed fields.
+     */
+    public default void readFieldUpdates(NBTTagCompound tag) {
+
+    }
+
     /**
      * Set a flag indicating that the next time that
      * {@link IPartType#shouldTriggerBlockRenderUpdate(IPartState, IPartState)}
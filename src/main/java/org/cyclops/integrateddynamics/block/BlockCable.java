@@ -296,6 +296,7 @@ public class BlockCable extends ConfigurableBlockContainer implements ICollidabl
     public void neighborChanged(IBlockState state, World world, BlockPos pos, Block neighborBlock, BlockPos fromPos) {
         super.neighborChanged(state, world, pos, neighborBlock, fromPos);
         NetworkHelpers.onElementProviderBlockNeighborChange(world, pos, neighborBlock, null);
+        NetworkHelpers.onNetworkCarrierNeighborContentsChange(world, pos, fromPos);
     }
 
     @Override
@@ -303,6 +304,7 @@ public class BlockCable extends ConfigurableBlockContainer implements ICollidabl
         super.onNeighborChange(world, pos, neighbor);
         if (world instanceof World) {
             NetworkHelpers.onElementProviderBlockNeighborChange((World) world, pos, world.getBlockState(neighbor).getBlock(), null);
+            NetworkHelpers.onNetworkCarrierNeighborContentsChange((World) world, pos, neighbor);
         }
     }
 
@@ -9,11 +9,13 @@ import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
 import net.minecraftforge.common.capabilities.Capability;
 import org.apache.logging.log4j.Level;
 import org.cyclops.cyclopscore.datastructure.DimPos;
 import org.cyclops.cyclopscore.datastructure.EnumFacingMap;
 import org.cyclops.cyclopscore.helper.ItemStackHelpers;
+import org.cyclops.cyclopscore.helper.LocationHelpers;
 import org.cyclops.cyclopscore.helper.MinecraftHelpers;
 import org.cyclops.integrateddynamics.IntegratedDynamics;
 import org.cyclops.integrateddynamics.api.PartStateException;
@@ -26,6 +28,7 @@ import org.cyclops.integrateddynamics.api.part.IPartType;
 import org.cyclops.integrateddynamics.api.part.PartTarget;
 import org.cyclops.integrateddynamics.core.helper.NetworkHelpers;
 import org.cyclops.integrateddynamics.core.helper.PartHelpers;
+import org.cyclops.integrateddynamics.network.packet.PartStateFieldsPacket;
 
 import javax.annotation.Nullable;
 import java.util.List;
@@ -44,14 +47,43 @@ public abstract class PartContainerDefault implements IPartContainer {
     public void update() {
         if(!MinecraftHelpers.isClientSide()) {
             // Loop over all part states to check their dirtiness
+            boolean update = false;
             for (PartHelpers.PartStateHolder<?, ?> partStateHolder : partData.values()) {
                 if (partStateHolder.getState().isDirtyAndReset()) {
                     markDirty();
                 }
                 if (partStateHolder.getState().isUpdateAndReset()) {
-                    sendUpdate();
+                    update = true;
                 }
             }
+            if (update) {
+                sendUpdate();
+            }
+
+            // Send changed fields of part states, these are already included in full updates.
+            for (Map.Entry<EnumFacing, PartHelpers.PartStateHolder<?, ?>> entry : partData.entrySet()) {
+                NBTTagCompound fields = entry.getValue().getState().writeFieldUpdatesAndReset();
+                if (fields != null && !update) {
+                    sendFieldUpdates(entry.getKey(), fields);
+                }
+            }
+        }
+    }
+
+    /**
+     * Send changed fields of the part state at the given side
+     * to all players within view distance of this container.
+     * @param side The side of the part.
+     * @param fields The changed fields.
+     */
+    protected void sendFieldUpdates(EnumFacing side, NBTTagCompound fields) {
+        World world = getWorld();
+        if (world instanceof WorldServer) {
+            BlockPos pos = getPos();
+            int range = ((WorldServer) world).getMinecraftServer().getPlayerList().getViewDistance() * 16;
+            IntegratedDynamics._instance.getPacketHandler().sendToAllAround(
+                    new PartStateFieldsPacket(pos, side, fields),
+                    LocationHelpers.createTargetPointFromLocation(world, pos, range));
         }
     }
 
@@ -4,9 +4,7 @@ import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import net.minecraftforge.fml.common.gameevent.TickEvent;
 import org.cyclops.cyclopscore.helper.MinecraftHelpers;
 import org.cyclops.integrateddynamics.IntegratedDynamics;
-import org.cyclops.integrateddynamics.api.network.IFullNetworkListener;
 import org.cyclops.integrateddynamics.api.network.INetwork;
-import org.cyclops.integrateddynamics.api.network.IPositionedAddonsNetworkIngredients;
 import org.cyclops.integrateddynamics.core.helper.NetworkHelpers;
 import org.cyclops.integrateddynamics.core.network.diagnostics.NetworkDiagnostics;
 import org.cyclops.integrateddynamics.core.persist.world.NetworkWorldStorage;
@@ -19,6 +17,7 @@ public final class TickHandler {
 
     private static TickHandler INSTANCE;
     private int tick = 0;
+    private int serverTick = 0;
     private boolean shouldCrash = false;
 
     private TickHandler() {
@@ -36,12 +35,21 @@ public final class TickHandler {
         this.shouldCrash = true;
     }
 
+    /**
+     * @return The number of server ticks in which networks have been updated.
+     *         This can be used to invalidate values that should only be cached within a single tick.
+     */
+    public int getServerTick() {
+        return serverTick;
+    }
+
     @SubscribeEvent
     public void onTick(TickEvent event) {
         if (shouldCrash) {
             throw new RuntimeException("Forcefully crashed the server.");
         }
         if(event.type == TickEvent.Type.SERVER && event.phase == TickEvent.Phase.END && NetworkHelpers.shouldWork()) {
+            serverTick++;
             boolean isBeingDiagnozed = NetworkDiagnostics.getInstance().isBeingDiagnozed();
             if (isBeingDiagnozed) {
                 tick = (tick + 1) % MinecraftHelpers.SECOND_IN_TICKS;
@@ -50,15 +58,6 @@ public final class TickHandler {
             for(INetwork network : NetworkWorldStorage.getInstance(IntegratedDynamics._instance).getNetworks()) {
                 if (isBeingDiagnozed && (shouldSendTickDurationInfo || network.hasChanged())) {
                     NetworkDiagnostics.getInstance().sendNetworkUpdate(network);
-                    network.resetLastSecondDurations();
-
-                    // Also reset durations of indexes
-                    for (IFullNetworkListener fullNetworkListener : network.getFullNetworkListeners()) {
-                        if (fullNetworkListener instanceof IPositionedAddonsNetworkIngredients) {
-                            IPositionedAddonsNetworkIngredients<?, ?> networkIngredients = (IPositionedAddonsNetworkIngredients<?, ?>) fullNetworkListener;
-                            networkIngredients.resetLastSecondDurationsIndex();
-                        }
-                    }
                 }
                 try {
                     if (!network.isCrashed()) {
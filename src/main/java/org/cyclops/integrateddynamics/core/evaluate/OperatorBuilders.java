@@ -32,6 +32,7 @@ import org.cyclops.integrateddynamics.core.evaluate.operator.IterativeFunction;
 import org.cyclops.integrateddynamics.core.evaluate.operator.OperatorBase;
 import org.cyclops.integrateddynamics.core.evaluate.variable.*;
 import org.cyclops.integrateddynamics.core.helper.L10NValues;
+import org.cyclops.integrateddynamics.core.helper.NbtHelpers;
 import org.cyclops.integrateddynamics.core.ingredient.IngredientComponentHandlers;
 
 import javax.annotation.Nullable;
@@ -413,7 +414,7 @@ public class OperatorBuilders {
             .appendPre(input -> {
                 ValueTypeNbt.ValueNbt valueNbt = input.getValue(0);
                 ValueTypeString.ValueString valueString = input.getValue(1);
-                return Triple.of(valueNbt.getRawValue().copy(), valueString.getRawValue(),
+                return Triple.of(NbtHelpers.shallowCopy(valueNbt.getRawValue()), valueString.getRawValue(),
                         new OperatorBase.SafeVariablesGetter.Shifted(2, input.getVariables()));
             });
     public static final IterativeFunction.PrePostBuilder<NBTTagCompound, Integer> FUNCTION_NBT_TO_INT =
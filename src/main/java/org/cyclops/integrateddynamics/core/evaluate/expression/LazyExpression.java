@@ -1,5 +1,6 @@
 package org.cyclops.integrateddynamics.core.evaluate.expression;
 
+import com.google.common.collect.Lists;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
 import org.cyclops.integrateddynamics.api.evaluate.expression.IExpression;
 import org.cyclops.integrateddynamics.api.evaluate.expression.ILazyExpressionValueCache;
@@ -9,6 +10,8 @@ import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
 
+import java.util.List;
+
 /**
  * A generic expression with arbitrarily nested binary operations.
  * This is evaluated in a lazy manner.
@@ -20,7 +23,9 @@ public class LazyExpression<V extends IValue> extends VariableAdapter<V> impleme
     private final IOperator op;
     private final IVariable[] input;
     private final ILazyExpressionValueCache valueCache;
+    private final IVariable[] externalInput;
     private boolean errored = false;
+    private boolean listening = false;
 
     public LazyExpression(int id, IOperator op, IVariable[] input, ILazyExpressionValueCache valueCache) {
         this.id = id;
@@ -28,6 +33,19 @@ public class LazyExpression<V extends IValue> extends VariableAdapter<V> impleme
         this.input = input;
         this.valueCache = valueCache;
 
+        // Inputs that are expressions within the same cache are tracked as stable edges in the cache,
+        // all other inputs will notify this expression via invalidation listeners.
+        valueCache.removeDependencies(id);
+        valueCache.setExpression(id, this);
+        List<IVariable> externalInput = Lists.newArrayListWithCapacity(input.length);
+        for (IVariable inputVariable : input) {
+            if (!(inputVariable instanceof LazyExpression && ((LazyExpression) inputVariable).valueCache == valueCache
+                    && valueCache.addDependency(((LazyExpression) inputVariable).getId(), id))) {
+                externalInput.add(inputVariable);
+            }
+        }
+        this.externalInput = externalInput.toArray(new IVariable[externalInput.size()]);
+
         // Make sure that any previous values become un-cached,
         // so that the first evaluation of this expression is guaranteed to happen.
         valueCache.removeValue(id);
@@ -39,8 +57,11 @@ public class LazyExpression<V extends IValue> extends VariableAdapter<V> impleme
             return valueCache.getValue(id);
         }
         IValue value = op.evaluate(input);
-        for (IVariable inputVariable : input) {
-            inputVariable.addInvalidationListener(this);
+        if (!listening) {
+            for (IVariable inputVariable : externalInput) {
+                inputVariable.addInvalidationListener(this);
+            }
+            listening = true;
         }
         valueCache.setValue(id, value);
         return value;
@@ -76,10 +97,15 @@ public class LazyExpression<V extends IValue> extends VariableAdapter<V> impleme
 
     @Override
     public void invalidate() {
+        listening = false;
         valueCache.removeValue(id);
         super.invalidate();
     }
 
+    public int getId() {
+        return id;
+    }
+
     public IOperator getOperator() {
         return op;
     }
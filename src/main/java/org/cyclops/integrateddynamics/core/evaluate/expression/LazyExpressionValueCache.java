@@ -0,0 +1,176 @@
+package org.cyclops.integrateddynamics.core.evaluate.expression;
+
+import com.google.common.collect.Lists;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import org.cyclops.integrateddynamics.api.evaluate.expression.ILazyExpressionValueCache;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+
+import java.lang.ref.WeakReference;
+import java.util.List;
+
+/**
+ * A lazy expression value cache that maintains a dependency graph between expressions.
+ *
+ * Edges in this graph are stable, they are registered once when an expression is created.
+ * Removing the value of an expression marks it as dirty,
+ * which is propagated to all expressions that depend on it.
+ * Propagation stops at expressions that are already dirty,
+ * as all of their dependents are guaranteed to be dirty as well.
+ * Each expression that became dirty is invalidated afterwards, so that its own listeners are notified.
+ *
+ * Expressions are only weakly referenced, the dependencies of expressions that were garbage collected
+ * are removed when they are encountered during propagation.
+ *
+ * Recomputation happens pull-based when the value of a dirty expression is requested,
+ * which will recursively recompute its dirty inputs first.
+ *
+ * @author rubensworks
+ */
+public class LazyExpressionValueCache implements ILazyExpressionValueCache {
+
+    private final Int2ObjectMap<IValue> values = new Int2ObjectOpenHashMap<>();
+    private final Int2ObjectMap<IntSet> dependents = new Int2ObjectOpenHashMap<>();
+    private final Int2ObjectMap<IntSet> dependencies = new Int2ObjectOpenHashMap<>();
+    private final Int2ObjectMap<WeakReference<IVariable<?>>> expressions = new Int2ObjectOpenHashMap<>();
+    private final IntArrayList dirtyQueue = new IntArrayList();
+
+    @Override
+    public void setValue(int id, IValue value) {
+        values.put(id, value);
+    }
+
+    @Override
+    public boolean hasValue(int id) {
+        return values.containsKey(id);
+    }
+
+    @Override
+    public IValue getValue(int id) {
+        return values.get(id);
+    }
+
+    @Override
+    public void removeValue(int id) {
+        values.remove(id);
+        List<IVariable<?>> invalidated = null;
+        IntArrayList discarded = null;
+        dirtyQueue.add(id);
+        while (!dirtyQueue.isEmpty()) {
+            IntSet idDependents = dependents.get(dirtyQueue.popInt());
+            if (idDependents != null) {
+                IntIterator it = idDependents.iterator();
+                while (it.hasNext()) {
+                    int dependentId = it.nextInt();
+                    if (values.containsKey(dependentId)) {
+                        values.remove(dependentId);
+                        dirtyQueue.add(dependentId);
+                        WeakReference<IVariable<?>> reference = expressions.get(dependentId);
+                        IVariable<?> expression = reference == null ? null : reference.get();
+                        if (expression != null) {
+                            if (invalidated == null) {
+                                invalidated = Lists.newArrayList();
+                            }
+                            invalidated.add(expression);
+                        } else {
+                            if (discarded == null) {
+                                discarded = new IntArrayList();
+                            }
+                            discarded.add(dependentId);
+                        }
+                    }
+                }
+            }
+        }
+
+        if (discarded != null) {
+            for (int i = 0; i < discarded.size(); i++) {
+                removeExpression(discarded.getInt(i));
+            }
+        }
+
+        // The values of these expressions have already been removed,
+        // so invalidating them will only notify their listeners.
+        if (invalidated != null) {
+            for (IVariable<?> expression : invalidated) {
+                expression.invalidate();
+            }
+        }
+    }
+
+    @Override
+    public void setExpression(int id, IVariable<?> expression) {
+        expressions.put(id, new WeakReference<>(expression));
+    }
+
+    @Override
+    public boolean addDependency(int id, int dependentId) {
+        IntSet idDependents = dependents.get(id);
+        if (idDependents == null) {
+            idDependents = new IntOpenHashSet();
+            dependents.put(id, idDependents);
+        }
+        idDependents.add(dependentId);
+
+        IntSet dependentDependencies = dependencies.get(dependentId);
+        if (dependentDependencies == null) {
+            dependentDependencies = new IntOpenHashSet();
+            dependencies.put(dependentId, dependentDependencies);
+        }
+        dependentDependencies.add(id);
+        return true;
+    }
+
+    @Override
+    public void removeDependencies(int dependentId) {
+        IntSet dependentDependencies = dependencies.remove(dependentId);
+        if (dependentDependencies != null) {
+            IntIterator it = dependentDependencies.iterator();
+            while (it.hasNext()) {
+                int id = it.nextInt();
+                IntSet idDependents = dependents.get(id);
+                if (idDependents != null) {
+                    idDependents.remove(dependentId);
+                    if (idDependents.isEmpty()) {
+                        dependents.remove(id);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Remove the expression with the given id, its value, and its dependencies on other expressions.
+     * @param id An expression id.
+     */
+    public void removeExpression(int id) {
+        values.remove(id);
+        expressions.remove(id);
+        removeDependencies(id);
+    }
+
+    /**
+     * @param id An expression id.
+     * @return The ids of the expressions that directly depend on the given expression.
+     */
+    public IntSet getDependents(int id) {
+        IntSet idDependents = dependents.get(id);
+        return idDependents == null ? new IntOpenHashSet() : idDependents;
+    }
+
+    /**
+     * Remove all values, expressions and dependencies.
+     */
+    public void clear() {
+        values.clear();
+        dependents.clear();
+        dependencies.clear();
+        expressions.clear();
+    }
+
+}
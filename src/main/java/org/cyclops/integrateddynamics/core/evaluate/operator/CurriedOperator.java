@@ -7,6 +7,7 @@ import net.minecraft.nbt.NBTTagList;
 import org.cyclops.cyclopscore.helper.L10NHelpers;
 import org.cyclops.cyclopscore.helper.MinecraftHelpers;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.IEvaluationContext;
 import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
 import org.cyclops.integrateddynamics.api.evaluate.operator.IOperatorSerializer;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
@@ -34,6 +35,7 @@ public class CurriedOperator implements IOperator {
     public CurriedOperator(IOperator baseOperator, IVariable... appliedVariables) {
         this.baseOperator = baseOperator;
         this.appliedVariables = appliedVariables;
+        RegexCache.precompile(baseOperator, appliedVariables);
     }
 
     protected String getAppliedSymbol() {
@@ -117,7 +119,12 @@ public class CurriedOperator implements IOperator {
 
     @Override
     public IValue evaluate(IVariable[] input) throws EvaluationException {
-        return baseOperator.evaluate(deriveFullInputVariables(input));
+        return evaluate(EvaluationContext.current(), input);
+    }
+
+    @Override
+    public IValue evaluate(IEvaluationContext context, IVariable... input) throws EvaluationException {
+        return baseOperator.evaluate(context, deriveFullInputVariables(input));
     }
 
     @Override
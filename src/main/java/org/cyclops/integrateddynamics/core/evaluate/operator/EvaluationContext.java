@@ -0,0 +1,111 @@
+package org.cyclops.integrateddynamics.core.evaluate.operator;
+
+import org.cyclops.cyclopscore.helper.L10NHelpers;
+import org.cyclops.integrateddynamics.GeneralConfig;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.IEvaluationContext;
+import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
+import org.cyclops.integrateddynamics.core.helper.L10NValues;
+
+import java.util.Arrays;
+
+/**
+ * Default evaluation context.
+ *
+ * While an evaluation is running, its context is bound to the current thread,
+ * so that nested evaluations that do not receive a context explicitly,
+ * such as the ones triggered by lazy variables, continue in the same context.
+ * @author rubensworks
+ */
+public class EvaluationContext implements IEvaluationContext {
+
+    private static final ThreadLocal<EvaluationContext> CURRENT = new ThreadLocal<>();
+
+    private final int recursionLimit;
+    private final int budget;
+
+    private IOperator[] stack = null;
+    private int depth = 0;
+    private int invocations = 0;
+    private boolean bound = false;
+
+    public EvaluationContext(int recursionLimit, int budget) {
+        this.recursionLimit = recursionLimit;
+        this.budget = budget;
+    }
+
+    /**
+     * @return The context of the evaluation that is running on the current thread,
+     *         or a new context if no evaluation is running.
+     */
+    public static IEvaluationContext current() {
+        EvaluationContext context = CURRENT.get();
+        if (context == null) {
+            context = new EvaluationContext(GeneralConfig.operatorRecursionLimit, GeneralConfig.operatorEvaluationBudget);
+        }
+        return context;
+    }
+
+    @Override
+    public void enter(IOperator operator) throws EvaluationException {
+        // A single operator can only reach the recursion limit if the whole stack has reached it,
+        // so the stack only has to be inspected for deep evaluations.
+        if (depth >= recursionLimit && getOperatorDepth(operator) >= recursionLimit) {
+            throw new EvaluationException(new L10NHelpers.UnlocalizedString(L10NValues.OPERATOR_ERROR_RECURSIONLIMIT,
+                    recursionLimit, new L10NHelpers.UnlocalizedString(operator.getTranslationKey())).localize());
+        }
+        if (budget > 0 && invocations >= budget) {
+            throw new EvaluationException(new L10NHelpers.UnlocalizedString(L10NValues.OPERATOR_ERROR_BUDGETLIMIT,
+                    budget, new L10NHelpers.UnlocalizedString(operator.getTranslationKey())).localize());
+        }
+        if (depth == 0 && CURRENT.get() == null) {
+            CURRENT.set(this);
+            bound = true;
+        }
+        if (stack == null) {
+            stack = new IOperator[16];
+        } else if (depth == stack.length) {
+            stack = Arrays.copyOf(stack, depth * 2);
+        }
+        stack[depth++] = operator;
+        invocations++;
+    }
+
+    @Override
+    public void exit(IOperator operator) {
+        if (depth > 0) {
+            stack[--depth] = null;
+        }
+        if (depth == 0) {
+            invocations = 0;
+            if (bound) {
+                CURRENT.remove();
+                bound = false;
+            }
+        }
+    }
+
+    /**
+     * @param operator An operator.
+     * @return The number of invocations of the given operator that are currently on the stack.
+     */
+    protected int getOperatorDepth(IOperator operator) {
+        int count = 0;
+        for (int i = 0; i < depth; i++) {
+            if (stack[i] == operator) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public int getDepth() {
+        return depth;
+    }
+
+    @Override
+    public int getRemainingBudget() {
+        return budget > 0 ? budget - invocations : -1;
+    }
+}
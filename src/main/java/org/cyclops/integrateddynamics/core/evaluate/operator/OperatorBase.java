@@ -1,9 +1,9 @@
 package org.cyclops.integrateddynamics.core.evaluate.operator;
 
 import org.cyclops.cyclopscore.helper.L10NHelpers;
-import org.cyclops.integrateddynamics.GeneralConfig;
 import org.cyclops.integrateddynamics.Reference;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.IEvaluationContext;
 import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
@@ -22,6 +22,8 @@ import java.util.List;
  */
 public abstract class OperatorBase implements IOperator {
 
+    private static final int SIGNATURE_CACHE_SIZE = 4;
+
     private final String symbol;
     private final String operatorName;
     private final IValueType[] inputTypes;
@@ -31,7 +33,8 @@ public abstract class OperatorBase implements IOperator {
     private final IConfigRenderPattern renderPattern;
 
     private String translationKey = null;
-    private int recursiveInvocations;
+    private volatile IValueType[][] validSignatures = new IValueType[0][];
+    private volatile SafeVariablesGetter lastVariablesGetter = null;
 
     protected OperatorBase(String symbol, String operatorName, IValueType[] inputTypes, IValueType outputType,
                            IFunction function, @Nullable IConfigRenderPattern renderPattern) {
@@ -133,21 +136,77 @@ public abstract class OperatorBase implements IOperator {
 
     @Override
     public IValue evaluate(IVariable... input) throws EvaluationException {
-        if (this.recursiveInvocations++ > GeneralConfig.operatorRecursionLimit) {
-            this.recursiveInvocations = 0;
-            throw new EvaluationException(new L10NHelpers.UnlocalizedString(L10NValues.OPERATOR_ERROR_RECURSIONLIMIT,
-                    GeneralConfig.operatorRecursionLimit,
-                    new L10NHelpers.UnlocalizedString(this.getTranslationKey())
-            ).localize());
+        return evaluate(EvaluationContext.current(), input);
+    }
+
+    @Override
+    public IValue evaluate(IEvaluationContext context, IVariable... input) throws EvaluationException {
+        context.enter(this);
+        try {
+            L10NHelpers.UnlocalizedString error = validateVariableTypes(input);
+            if(error != null) {
+                throw new EvaluationException(error.localize());
+            }
+            return function.evaluate(getVariablesGetter(input));
+        } finally {
+            context.exit(this);
+        }
+    }
+
+    /**
+     * Check the types of the given input variables.
+     * Signatures that were valid before are remembered,
+     * so that repeated evaluations with the same input types do not have to validate or allocate again.
+     * This assumes that {@link #validateTypes(IValueType[])} only depends on the given types.
+     * @param input The ordered input variables.
+     * @return An error or null if valid.
+     */
+    protected L10NHelpers.UnlocalizedString validateVariableTypes(IVariable[] input) {
+        IValueType[][] signatures = this.validSignatures;
+        for (IValueType[] signature : signatures) {
+            if (matchesSignature(signature, input)) {
+                return null;
+            }
         }
-        L10NHelpers.UnlocalizedString error = validateTypes(ValueHelpers.from(input));
-        if(error != null) {
-            this.recursiveInvocations--;
-            throw new EvaluationException(error.localize());
+        IValueType[] valueTypes = ValueHelpers.from(input);
+        L10NHelpers.UnlocalizedString error = validateTypes(valueTypes);
+        if (error == null) {
+            int length = Math.min(signatures.length + 1, SIGNATURE_CACHE_SIZE);
+            IValueType[][] newSignatures = new IValueType[length][];
+            newSignatures[0] = valueTypes;
+            System.arraycopy(signatures, 0, newSignatures, 1, length - 1);
+            this.validSignatures = newSignatures;
+        }
+        return error;
+    }
+
+    /**
+     * Get a variables getter for the given input variables.
+     * As getters only wrap the input array, the last getter is reused
+     * when the same input array is evaluated again, such as by expressions and variables.
+     * @param input The ordered input variables.
+     * @return A variables getter.
+     */
+    protected SafeVariablesGetter getVariablesGetter(IVariable[] input) {
+        SafeVariablesGetter getter = this.lastVariablesGetter;
+        if (getter == null || getter.getVariables() != input) {
+            getter = new SafeVariablesGetter(input);
+            this.lastVariablesGetter = getter;
+        }
+        return getter;
+    }
+
+    protected static boolean matchesSignature(IValueType[] signature, IVariable[] input) {
+        if (signature.length != input.length) {
+            return false;
+        }
+        for (int i = 0; i < input.length; i++) {
+            IVariable variable = input[i];
+            if (variable == null || variable.getType() != signature[i]) {
+                return false;
+            }
         }
-        IValue res = function.evaluate(new SafeVariablesGetter(input));
-        this.recursiveInvocations--;
-        return res;
+        return true;
     }
 
     @Override
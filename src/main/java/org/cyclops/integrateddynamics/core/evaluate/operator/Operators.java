@@ -462,7 +462,7 @@ public final class Operators {
                 ValueTypeString.ValueString pattern = variables.getValue(0);
                 ValueTypeString.ValueString str = variables.getValue(1);
                 try {
-                    Matcher m = Pattern.compile(pattern.getRawValue()).matcher(str.getRawValue());
+                    Matcher m = RegexCache.getPattern(pattern.getRawValue()).matcher(str.getRawValue());
                     return ValueTypeBoolean.ValueBoolean.of(m.find());
                 } catch (PatternSyntaxException e) {
                     throw new EvaluationException(e.getMessage());
@@ -477,7 +477,7 @@ public final class Operators {
                 ValueTypeString.ValueString pattern = variables.getValue(0);
                 ValueTypeString.ValueString str = variables.getValue(1);
                 try {
-                    Matcher m = Pattern.compile(pattern.getRawValue()).matcher(str.getRawValue());
+                    Matcher m = RegexCache.getPattern(pattern.getRawValue()).matcher(str.getRawValue());
                     return ValueTypeBoolean.ValueBoolean.of(m.matches());
                 } catch (PatternSyntaxException e) {
                     throw new EvaluationException(e.getMessage());
@@ -502,7 +502,7 @@ public final class Operators {
                 ValueTypeString.ValueString pattern = variables.getValue(0);
                 ValueTypeString.ValueString str = variables.getValue(1);
                 try {
-                    Matcher m = Pattern.compile(pattern.getRawValue()).matcher(str.getRawValue());
+                    Matcher m = RegexCache.getPattern(pattern.getRawValue()).matcher(str.getRawValue());
                     if (m.find()) {
                         return ValueTypeInteger.ValueInteger.of(m.start());
                     } else {
@@ -556,7 +556,7 @@ public final class Operators {
                 ValueTypeString.ValueString pattern = variables.getValue(0);
                 ValueTypeString.ValueString str = variables.getValue(1);
                 try {
-                    List<String> pieces = Arrays.asList(Pattern.compile(pattern.getRawValue()).split(str.getRawValue()));
+                    List<String> pieces = Arrays.asList(RegexCache.getPattern(pattern.getRawValue()).split(str.getRawValue()));
                     List<ValueTypeString.ValueString> values = Lists.newArrayList();
                     for (String piece : pieces) {
                         values.add(ValueTypeString.ValueString.of(piece));
@@ -607,7 +607,7 @@ public final class Operators {
                 throw new EvaluationException("The group index specified in the regex_group operator must not be negative.");
             }
             try {
-                Matcher m = Pattern.compile(pattern.getRawValue()).matcher(str.getRawValue());
+                Matcher m = RegexCache.getPattern(pattern.getRawValue()).matcher(str.getRawValue());
                 if (m.find()) {
                     String result = m.group(group.getRawValue());
                     return ValueTypeString.ValueString.of(result);
@@ -631,7 +631,7 @@ public final class Operators {
             ValueTypeString.ValueString pattern = variables.getValue(0);
             ValueTypeString.ValueString str = variables.getValue(1);
             try {
-                Matcher m = Pattern.compile(pattern.getRawValue()).matcher(str.getRawValue());
+                Matcher m = RegexCache.getPattern(pattern.getRawValue()).matcher(str.getRawValue());
                 if (m.find()) {
                     List<ValueTypeString.ValueString> values = Lists.newArrayList();
                     for (int i = 0; i <= m.groupCount(); i++) {
@@ -662,7 +662,7 @@ public final class Operators {
                 throw new EvaluationException("The group index specified in the regex_scan operator must not be negative.");
             }
             try {
-                Matcher m = Pattern.compile(pattern.getRawValue()).matcher(str.getRawValue());
+                Matcher m = RegexCache.getPattern(pattern.getRawValue()).matcher(str.getRawValue());
                 List<ValueTypeString.ValueString> values = Lists.newArrayList();
                 while (m.find()) {
                     values.add(ValueTypeString.ValueString.of(m.group(group.getRawValue())));
@@ -703,13 +703,18 @@ public final class Operators {
             ValueTypeString.ValueString replacement = variables.getValue(1);
             ValueTypeString.ValueString str = variables.getValue(2);
             try {
-                return ValueTypeString.ValueString.of(Pattern.compile(pattern.getRawValue()).matcher(str.getRawValue()).replaceAll(replacement.getRawValue()));
+                return ValueTypeString.ValueString.of(RegexCache.getPattern(pattern.getRawValue()).matcher(str.getRawValue()).replaceAll(replacement.getRawValue()));
             } catch (PatternSyntaxException e) {
                 throw new EvaluationException(e.getMessage());
             }
         }).build()
     );
 
+    static {
+        RegexCache.registerPatternOperators(STRING_CONTAINS_REGEX, STRING_MATCHES_REGEX, STRING_INDEX_OF_REGEX,
+                STRING_SPLIT_ON_REGEX, STRING_REGEX_GROUP, STRING_REGEX_GROUPS, STRING_REGEX_SCAN, STRING_REPLACE_REGEX);
+    }
+
     /**
      * String operator to join a list using a string delimiter
      */
@@ -897,6 +902,9 @@ public final class Operators {
                 ValueTypeList.ValueList valueList = variables.getValue(0);
                 IValueTypeListProxy<IValueType<IValue>, IValue> list = valueList.getRawValue();
                 IValue input = variables.getValue(1);
+                if (list instanceof ValueTypeListProxyMaterialized) {
+                    return ValueTypeBoolean.ValueBoolean.of(((ValueTypeListProxyMaterialized) list).contains(input));
+                }
                 for (IValue value : list) {
                     if (value.equals(input)) {
                         return ValueTypeBoolean.ValueBoolean.of(true);
@@ -940,6 +948,9 @@ public final class Operators {
                     throw new EvaluationException("Counting elements in an infinite list is not allowed");
                 }
                 IValue value = variables.getValue(1);
+                if (list instanceof ValueTypeListProxyMaterialized) {
+                    return ValueTypeInteger.ValueInteger.of(((ValueTypeListProxyMaterialized) list).count(value));
+                }
                 int count = 0;
                 for (IValue listValue : list) {
                     if (listValue.equals(value)) {
@@ -1077,6 +1088,9 @@ public final class Operators {
                 ValueTypeList.ValueList valueList = variables.getValue(0);
                 IValueTypeListProxy<IValueType<IValue>, IValue> list = valueList.getRawValue();
                 final IOperator operator = OperatorBuilders.getSafePredictate(variables.getValue(1));
+                if (operator == RELATIONAL_EQUALS && list instanceof ValueTypeListProxyMaterialized) {
+                    return ValueTypeList.ValueList.ofFactory(((ValueTypeListProxyMaterialized) list).uniq());
+                }
                 List<IValue> values = new ArrayList<>();
                 outerLoop:
                 for(IValue value : list) {
@@ -1105,6 +1119,9 @@ public final class Operators {
             .function(variables -> {
                 ValueTypeList.ValueList valueList =variables.getValue(0);
                 IValueTypeListProxy<IValueType<IValue>, IValue> list = valueList.getRawValue();
+                if (list instanceof ValueTypeListProxyMaterialized) {
+                    return ValueTypeList.ValueList.ofFactory(((ValueTypeListProxyMaterialized) list).uniq());
+                }
                 return ValueTypeList.ValueList.ofList(list.getValueType(), new ArrayList<>(Sets.newLinkedHashSet(list)));
             }).build());
 
@@ -1126,6 +1143,9 @@ public final class Operators {
                 if (from.getRawValue() < 0 || to.getRawValue() < 0){
                     throw new EvaluationException("The 'from' and 'to' values in the slice operator must not be negative.");
                 }
+                if (list instanceof ValueTypeListProxyPrimitive) {
+                    return ValueTypeList.ValueList.ofFactory(((ValueTypeListProxyPrimitive) list).slice(from.getRawValue(), to.getRawValue()));
+                }
                 return ValueTypeList.ValueList.ofFactory(new ValueTypeListProxySlice<>(list, from.getRawValue(), to.getRawValue()));
             }).build());
 
@@ -1772,7 +1792,9 @@ public final class Operators {
             .output(ValueTypes.NBT).symbol("NBT()").operatorName("nbt")
             .function(input -> {
                 ValueObjectTypeItemStack.ValueItemStack itemStack = input.getValue(0);
-                return ValueTypeNbt.ValueNbt.of(itemStack.getRawValue().getTagCompound());
+                // Copy the tag, as NBT values are immutable while the stack's tag may still be modified.
+                NBTTagCompound tag = itemStack.getRawValue().getTagCompound();
+                return ValueTypeNbt.ValueNbt.of(tag != null ? tag.copy() : null);
             }).build());
 
     /**
@@ -2459,7 +2481,9 @@ public final class Operators {
             .function(input -> {
                 ValueObjectTypeFluidStack.ValueFluidStack fluidStack = input.getValue(0);
                 if (fluidStack.getRawValue().isPresent()) {
-                    return ValueTypeNbt.ValueNbt.of(fluidStack.getRawValue().get().tag);
+                    // Copy the tag, as NBT values are immutable while the stack's tag may still be modified.
+                    NBTTagCompound tag = fluidStack.getRawValue().get().tag;
+                    return ValueTypeNbt.ValueNbt.of(tag != null ? tag.copy() : null);
                 }
                 return ValueTypes.NBT.getDefault();
             }).build());
@@ -2551,12 +2575,17 @@ public final class Operators {
                             final IOperator innerOperator = input.getLeft();
                             OperatorBase.SafeVariablesGetter variables = input.getRight();
                             ValueTypeList.ValueList<?, ?> inputList = variables.getValue(0);
-                            List<IValue> filtered = Lists.newArrayList();
-                            for (IValue value : inputList.getRawValue()) {
-                                IValue result = ValueHelpers.evaluateOperator(innerOperator, value);
-                                ValueHelpers.validatePredicateOutput(innerOperator, result);
-                                if (((ValueTypeBoolean.ValueBoolean) result).getRawValue()) {
-                                    filtered.add(value);
+                            List<IValue> filtered;
+                            if (inputList.getRawValue() instanceof ValueTypeListProxyOperatorMapped) {
+                                filtered = ((ValueTypeListProxyOperatorMapped) inputList.getRawValue()).filter(innerOperator);
+                            } else {
+                                filtered = Lists.newArrayList();
+                                for (IValue value : inputList.getRawValue()) {
+                                    IValue result = ValueHelpers.evaluateOperator(innerOperator, value);
+                                    ValueHelpers.validatePredicateOutput(innerOperator, result);
+                                    if (((ValueTypeBoolean.ValueBoolean) result).getRawValue()) {
+                                        filtered.add(value);
+                                    }
                                 }
                             }
                             IValueType valueType = inputList.getRawValue().getValueType();
@@ -2658,7 +2687,12 @@ public final class Operators {
                 final IOperator innerOperator = OperatorBuilders.getSafeOperator(
                         variables.getValue(0), accumulator.getType());
                 ValueTypeList.ValueList<IValueType<IValue>, IValue> inputList = variables.getValue(1);
-                for (IValue listValue : inputList.getRawValue()) {
+                IValueTypeListProxy<IValueType<IValue>, IValue> list = inputList.getRawValue();
+                if (innerOperator == ARITHMETIC_ADDITION && list instanceof ValueTypeListProxyPrimitive
+                        && list.getValueType() == accumulator.getType()) {
+                    return ((ValueTypeListProxyPrimitive) list).sum(accumulator);
+                }
+                for (IValue listValue : list) {
                     accumulator = ValueHelpers.evaluateOperator(innerOperator, accumulator, listValue);
                 }
                 return accumulator;
@@ -2834,7 +2868,12 @@ public final class Operators {
             .function(variables -> {
                 ValueTypeNbt.ValueNbt value = variables.getValue(0);
                 ValueTypeString.ValueString key = variables.getValue(1);
-                return ValueTypeList.ValueList.ofFactory(new ValueTypeListProxyNbtValueListByte(key.getRawValue(), value.getRawValue()));
+                byte[] bytes = value.getRawValue().getByteArray(key.getRawValue());
+                int[] ints = new int[bytes.length];
+                for (int i = 0; i < bytes.length; i++) {
+                    ints[i] = bytes[i];
+                }
+                return ValueTypeList.ValueList.ofFactory(new ValueTypeListProxyIntegers(ints));
             }).build());
 
     /**
@@ -2845,7 +2884,7 @@ public final class Operators {
             .function(variables -> {
                 ValueTypeNbt.ValueNbt value = variables.getValue(0);
                 ValueTypeString.ValueString key = variables.getValue(1);
-                return ValueTypeList.ValueList.ofFactory(new ValueTypeListProxyNbtValueListInt(key.getRawValue(), value.getRawValue()));
+                return ValueTypeList.ValueList.ofFactory(new ValueTypeListProxyIntegers(value.getRawValue().getIntArray(key.getRawValue())));
             }).build());
 
     /**
@@ -2860,7 +2899,7 @@ public final class Operators {
                 String key = valueString.getRawValue();
                 if (tag.hasKey(key)) {
                     // Copy the tag to ensure immutability
-                    tag = tag.copy();
+                    tag = NbtHelpers.shallowCopy(tag);
                     tag.removeTag(key);
                 }
                 return ValueTypeNbt.ValueNbt.of(tag);
@@ -3377,13 +3416,16 @@ public final class Operators {
      * ------------------------------------ PARSE OPERATORS ------------------------------------
      */
 
+    private static final Pattern PATTERN_PARSE_BOOLEAN_FALSE = Pattern.compile("\\A(F(alse)?|[+-]?(0x|#)?0+|)\\z", Pattern.CASE_INSENSITIVE);
+    // \u221E = infinity symbol
+    private static final Pattern PATTERN_PARSE_DOUBLE_INFINITY = Pattern.compile("\\A([+-]?)(Inf(inity)?|\u221E)\\z", Pattern.CASE_INSENSITIVE);
+
     /**
      * Boolean Parse operator which takes a string of form `/(F(alse)?|[+-]?(0x|#)?0+|)/i`.
      */
     public static final IOperator PARSE_BOOLEAN = Operators.REGISTRY.register(new ParseOperator<>(ValueTypes.BOOLEAN, v -> {
       ValueTypeString.ValueString value = v.getValue(0);
-      Pattern p = Pattern.compile("\\A(F(alse)?|[+-]?(0x|#)?0+|)\\z", Pattern.CASE_INSENSITIVE);
-      return ValueTypeBoolean.ValueBoolean.of(!p.matcher(value.getRawValue().trim()).matches());
+      return ValueTypeBoolean.ValueBoolean.of(!PATTERN_PARSE_BOOLEAN_FALSE.matcher(value.getRawValue().trim()).matches());
     }));
 
     /**
@@ -3396,9 +3438,7 @@ public final class Operators {
         return ValueTypeDouble.ValueDouble.of(Double.parseDouble(value.getRawValue()));
       } catch (NumberFormatException e) {
         try {
-          // \u221E = infinity symbol
-          Pattern p = Pattern.compile("\\A([+-]?)(Inf(inity)?|\u221E)\\z", Pattern.CASE_INSENSITIVE);
-          Matcher m = p.matcher(value.getRawValue().trim());
+          Matcher m = PATTERN_PARSE_DOUBLE_INFINITY.matcher(value.getRawValue().trim());
           if (m.matches()){
             if (m.group(1).equals("-")){
               return ValueTypeDouble.ValueDouble.of(Double.NEGATIVE_INFINITY);
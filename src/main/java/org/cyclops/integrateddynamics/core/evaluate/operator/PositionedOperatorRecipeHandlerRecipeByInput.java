@@ -50,6 +50,11 @@ public class PositionedOperatorRecipeHandlerRecipeByInput<T extends IValueType<V
         protected IMixedIngredients getRecipeIngredients(IRecipeDefinition recipeDefinition) {
             return MixedIngredients.fromRecipeInput(recipeDefinition);
         }
+
+        @Override
+        protected RecipeHandlerIndex.IngredientIndex getRecipeIndex(RecipeHandlerIndex recipeHandlerIndex) {
+            return recipeHandlerIndex.getInputIndex();
+        }
     }
 
 }
@@ -51,7 +51,7 @@ public class PositionedOperatorRecipeHandlerRecipeByOutput<T extends IValueType<
                 try {
                     return getCache().get(key, () -> {
                         IMixedIngredients givenIngredients = ingredients.getRawValue().get();
-                        for (IRecipeDefinition recipe : recipeHandler.getRecipes()) {
+                        for (IRecipeDefinition recipe : getRecipeIndex(RecipeHandlerIndex.get(recipeHandler)).getCandidates(givenIngredients)) {
                             IMixedIngredients outputIngredients = getRecipeIngredients(recipe);
                             // If one valid recipe is found, return it
                             if (recipe.getInputComponents().size() > 0
@@ -81,6 +81,10 @@ public class PositionedOperatorRecipeHandlerRecipeByOutput<T extends IValueType<
         protected IMixedIngredients getRecipeIngredients(IRecipeDefinition recipeDefinition) {
             return recipeDefinition.getOutput();
         }
+
+        protected RecipeHandlerIndex.IngredientIndex getRecipeIndex(RecipeHandlerIndex recipeHandlerIndex) {
+            return recipeHandlerIndex.getOutputIndex();
+        }
     }
 
 }
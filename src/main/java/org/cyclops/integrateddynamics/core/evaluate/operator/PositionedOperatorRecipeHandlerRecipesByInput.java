@@ -50,6 +50,11 @@ public class PositionedOperatorRecipeHandlerRecipesByInput<T extends IValueType<
         protected IMixedIngredients getRecipeIngredients(IRecipeDefinition recipeDefinition) {
             return MixedIngredients.fromRecipeInput(recipeDefinition);
         }
+
+        @Override
+        protected RecipeHandlerIndex.IngredientIndex getRecipeIndex(RecipeHandlerIndex recipeHandlerIndex) {
+            return recipeHandlerIndex.getInputIndex();
+        }
     }
 
 }
@@ -54,7 +54,7 @@ public class PositionedOperatorRecipeHandlerRecipesByOutput<T extends IValueType
                     return getCache().get(key, () -> {
                         IMixedIngredients givenIngredients = ingredients.getRawValue().get();
                         List<ValueObjectTypeRecipe.ValueRecipe> validRecipes = Lists.newArrayList();
-                        for (IRecipeDefinition recipe : recipeHandler.getRecipes()) {
+                        for (IRecipeDefinition recipe : getRecipeIndex(RecipeHandlerIndex.get(recipeHandler)).getCandidates(givenIngredients)) {
                             IMixedIngredients outputIngredients = getRecipeIngredients(recipe);
                             // If one valid recipe is found, add to list
                             if (recipe.getInputComponents().size() > 0
@@ -84,6 +84,10 @@ public class PositionedOperatorRecipeHandlerRecipesByOutput<T extends IValueType
         protected IMixedIngredients getRecipeIngredients(IRecipeDefinition recipeDefinition) {
             return recipeDefinition.getOutput();
         }
+
+        protected RecipeHandlerIndex.IngredientIndex getRecipeIndex(RecipeHandlerIndex recipeHandlerIndex) {
+            return recipeHandlerIndex.getOutputIndex();
+        }
     }
 
 }
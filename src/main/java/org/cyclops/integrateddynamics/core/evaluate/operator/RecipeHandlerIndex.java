@@ -0,0 +1,209 @@
+package org.cyclops.integrateddynamics.core.evaluate.operator;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import org.apache.commons.lang3.tuple.Pair;
+import org.cyclops.commoncapabilities.api.capability.recipehandler.IRecipeDefinition;
+import org.cyclops.commoncapabilities.api.capability.recipehandler.IRecipeHandler;
+import org.cyclops.commoncapabilities.api.ingredient.IMixedIngredients;
+import org.cyclops.commoncapabilities.api.ingredient.IngredientComponent;
+import org.cyclops.commoncapabilities.api.ingredient.MixedIngredients;
+import org.cyclops.cyclopscore.helper.MinecraftHelpers;
+import org.cyclops.integrateddynamics.core.TickHandler;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * An index over the recipes of a recipe handler.
+ *
+ * It provides random access to the recipes,
+ * and inverted indexes from recipe input and output ingredients to the recipes that contain them.
+ * Indexes are kept per recipe handler instance, and are rebuilt when its recipes change.
+ * This is checked by comparing the current recipes with the indexed ones,
+ * at most once per server tick on the server, and on each access on the client,
+ * where the server tick does not advance.
+ * @author rubensworks
+ */
+public class RecipeHandlerIndex {
+
+    private static final Map<Object, RecipeHandlerIndex> INDEXES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Collection<IRecipeDefinition> source;
+    private final List<IRecipeDefinition> recipes;
+    private volatile IngredientIndex inputIndex = null;
+    private volatile IngredientIndex outputIndex = null;
+    private volatile int validatedTick = -1;
+
+    protected RecipeHandlerIndex(Collection<IRecipeDefinition> source) {
+        this.source = source;
+        this.recipes = ImmutableList.copyOf(source);
+    }
+
+    /**
+     * Get the up-to-date index for the given recipe handler.
+     * @param recipeHandler A recipe handler.
+     * @return The recipe index.
+     */
+    public static RecipeHandlerIndex get(IRecipeHandler recipeHandler) {
+        if (MinecraftHelpers.isClientSide()) {
+            return get(recipeHandler, recipeHandler.getRecipes());
+        }
+        return get(recipeHandler, recipeHandler::getRecipes, TickHandler.getInstance().getServerTick());
+    }
+
+    /**
+     * Get the index for the given owner, which is validated at most once in the given tick.
+     * @param owner The owner of the recipes, which is weakly referenced.
+     * @param recipes A supplier of the current recipes of the owner.
+     * @param tick The current tick.
+     * @return The recipe index.
+     */
+    protected static RecipeHandlerIndex get(Object owner, Supplier<Collection<IRecipeDefinition>> recipes, int tick) {
+        RecipeHandlerIndex index = INDEXES.get(owner);
+        if (index == null || index.validatedTick != tick) {
+            index = get(owner, recipes.get());
+            index.validatedTick = tick;
+        }
+        return index;
+    }
+
+    /**
+     * Get the up-to-date index for the given owner.
+     * @param owner The owner of the recipes, which is weakly referenced.
+     * @param recipes The current recipes of the owner.
+     * @return The recipe index.
+     */
+    protected static RecipeHandlerIndex get(Object owner, Collection<IRecipeDefinition> recipes) {
+        RecipeHandlerIndex index = INDEXES.get(owner);
+        if (index == null || !index.isValid(recipes)) {
+            index = new RecipeHandlerIndex(recipes);
+            INDEXES.put(owner, index);
+        }
+        return index;
+    }
+
+    /**
+     * Check if this index still corresponds to the given recipes.
+     * Recipe handlers may return a new collection, or even new recipe instances, on each call,
+     * so in that case the recipes are compared one by one, by identity first.
+     * @param recipes The current recipes.
+     * @return If this index is valid.
+     */
+    protected boolean isValid(Collection<IRecipeDefinition> recipes) {
+        if (recipes == this.source) {
+            return true;
+        }
+        if (recipes.size() != this.recipes.size()) {
+            return false;
+        }
+        Iterator<IRecipeDefinition> it = recipes.iterator();
+        for (IRecipeDefinition recipe : this.recipes) {
+            IRecipeDefinition other = it.next();
+            if (other != recipe && !recipe.equals(other)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return The recipes, with random access.
+     */
+    public List<IRecipeDefinition> getRecipes() {
+        return recipes;
+    }
+
+    /**
+     * @return The index over the recipe inputs.
+     */
+    public IngredientIndex getInputIndex() {
+        IngredientIndex index = this.inputIndex;
+        if (index == null) {
+            this.inputIndex = index = new IngredientIndex(recipes, MixedIngredients::fromRecipeInput);
+        }
+        return index;
+    }
+
+    /**
+     * @return The index over the recipe outputs.
+     */
+    public IngredientIndex getOutputIndex() {
+        IngredientIndex index = this.outputIndex;
+        if (index == null) {
+            this.outputIndex = index = new IngredientIndex(recipes, IRecipeDefinition::getOutput);
+        }
+        return index;
+    }
+
+    /**
+     * An inverted index from ingredient instances to the recipes that contain an exactly matching instance.
+     */
+    public static class IngredientIndex {
+
+        private final List<IRecipeDefinition> recipes;
+        private final Map<IngredientComponent<?, ?>, BitSet> recipesWithComponent = Maps.newIdentityHashMap();
+        private final Map<Pair<IngredientComponent<?, ?>, Integer>, BitSet> recipesWithInstance = Maps.newHashMap();
+
+        public IngredientIndex(List<IRecipeDefinition> recipes, Function<IRecipeDefinition, IMixedIngredients> ingredientsGetter) {
+            this.recipes = recipes;
+            for (int i = 0; i < recipes.size(); i++) {
+                IMixedIngredients ingredients = ingredientsGetter.apply(recipes.get(i));
+                for (IngredientComponent<?, ?> component : ingredients.getComponents()) {
+                    recipesWithComponent.computeIfAbsent(component, c -> new BitSet()).set(i);
+                    for (Object instance : ingredients.getInstances(component)) {
+                        recipesWithInstance.computeIfAbsent(Pair.of(component, hash(component, instance)),
+                                k -> new BitSet()).set(i);
+                    }
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        protected static <T> int hash(IngredientComponent<T, ?> component, Object instance) {
+            return component.getMatcher().hash((T) instance);
+        }
+
+        /**
+         * Get the recipes that can possibly match the given ingredients, in their original order.
+         * Recipes are matched component-wise, where recipes without a component do not constrain it.
+         * So the candidates for the first given instance are the recipes that do not have its component,
+         * and the recipes that have an instance with the same hash.
+         * The candidates must still be validated by the caller.
+         * @param givenIngredients The ingredients to look for.
+         * @return The candidate recipes.
+         */
+        public List<IRecipeDefinition> getCandidates(IMixedIngredients givenIngredients) {
+            for (IngredientComponent<?, ?> component : givenIngredients.getComponents()) {
+                List<?> instances = givenIngredients.getInstances(component);
+                if (!instances.isEmpty()) {
+                    BitSet candidates = new BitSet(recipes.size());
+                    candidates.set(0, recipes.size());
+                    BitSet withComponent = recipesWithComponent.get(component);
+                    if (withComponent != null) {
+                        candidates.andNot(withComponent);
+                    }
+                    BitSet withInstance = recipesWithInstance.get(Pair.of(component, hash(component, instances.get(0))));
+                    if (withInstance != null) {
+                        candidates.or(withInstance);
+                    }
+                    List<IRecipeDefinition> candidateRecipes = Lists.newArrayListWithCapacity(candidates.cardinality());
+                    for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+                        candidateRecipes.add(recipes.get(i));
+                    }
+                    return candidateRecipes;
+                }
+            }
+            return recipes;
+        }
+    }
+
+}
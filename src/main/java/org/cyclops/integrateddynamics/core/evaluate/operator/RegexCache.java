@@ -0,0 +1,103 @@
+package org.cyclops.integrateddynamics.core.evaluate.operator;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Sets;
+import com.google.re2j.Pattern;
+import com.google.re2j.PatternSyntaxException;
+import org.cyclops.integrateddynamics.GeneralConfig;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeString;
+import org.cyclops.integrateddynamics.core.evaluate.variable.Variable;
+
+import java.util.Set;
+
+/**
+ * A bounded cache of compiled regular expressions that is shared by all regex operators.
+ *
+ * Operators that take a pattern as first input can be registered,
+ * so that constant patterns are compiled once when the operator is curried.
+ * @author rubensworks
+ */
+public final class RegexCache {
+
+    private static final Cache<String, Pattern> CACHE = CacheBuilder.newBuilder()
+            .maximumSize(GeneralConfig.regexCacheSize)
+            .recordStats()
+            .build();
+    private static final Set<IOperator> PATTERN_OPERATORS = Sets.newConcurrentHashSet();
+
+    private RegexCache() {
+
+    }
+
+    /**
+     * Get the compiled pattern for the given regular expression.
+     * @param regex A regular expression.
+     * @return The compiled pattern.
+     * @throws PatternSyntaxException If the regular expression is invalid.
+     */
+    public static Pattern getPattern(String regex) throws PatternSyntaxException {
+        Pattern pattern = CACHE.getIfPresent(regex);
+        if (pattern == null) {
+            pattern = Pattern.compile(regex);
+            CACHE.put(regex, pattern);
+        }
+        return pattern;
+    }
+
+    /**
+     * Register operators that take a regular expression string as first input.
+     * @param operators Operators.
+     */
+    public static void registerPatternOperators(IOperator... operators) {
+        for (IOperator operator : operators) {
+            PATTERN_OPERATORS.add(operator);
+        }
+    }
+
+    /**
+     * Compile the pattern of the given operator application ahead of time
+     * if the operator takes a pattern and the pattern is applied as a constant.
+     * @param operator An operator.
+     * @param appliedVariables The variables that are being applied.
+     */
+    public static void precompile(IOperator operator, IVariable... appliedVariables) {
+        if (appliedVariables.length > 0 && appliedVariables[0] instanceof Variable
+                && PATTERN_OPERATORS.contains(operator)) {
+            try {
+                IValue value = appliedVariables[0].getValue();
+                if (value instanceof ValueTypeString.ValueString) {
+                    getPattern(((ValueTypeString.ValueString) value).getRawValue());
+                }
+            } catch (EvaluationException | PatternSyntaxException e) {
+                // Errors will be reported when the operator is evaluated
+            }
+        }
+    }
+
+    /**
+     * @return The number of times a compiled pattern was found in the cache.
+     */
+    public static long getHitCount() {
+        return CACHE.stats().hitCount();
+    }
+
+    /**
+     * @return The number of times a pattern had to be compiled.
+     */
+    public static long getMissCount() {
+        return CACHE.stats().missCount();
+    }
+
+    /**
+     * @return The number of compiled patterns that are currently cached.
+     */
+    public static long getSize() {
+        return CACHE.size();
+    }
+
+}
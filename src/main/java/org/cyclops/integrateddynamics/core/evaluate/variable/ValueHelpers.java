@@ -1,23 +1,29 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraftforge.common.util.Constants;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.tuple.Pair;
+import org.apache.logging.log4j.Level;
 import org.cyclops.cyclopscore.helper.Helpers;
 import org.cyclops.cyclopscore.helper.L10NHelpers;
 import org.cyclops.integrateddynamics.GeneralConfig;
+import org.cyclops.integrateddynamics.IntegratedDynamics;
 import org.cyclops.integrateddynamics.api.PartStateException;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.IEvaluationContext;
 import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
 import org.cyclops.integrateddynamics.api.item.IVariableFacade;
 import org.cyclops.integrateddynamics.core.evaluate.operator.CurriedOperator;
+import org.cyclops.integrateddynamics.core.evaluate.operator.EvaluationContext;
 import org.cyclops.integrateddynamics.core.helper.L10NValues;
 import org.cyclops.integrateddynamics.core.helper.NetworkHelpers;
 
 import javax.annotation.Nullable;
+import java.io.IOException;
 
 /**
  * A collection of helpers for variables, values and value types.
@@ -114,16 +120,28 @@ public class ValueHelpers {
      * @throws EvaluationException If something went wrong during operator evaluation.
      */
     public static IValue evaluateOperator(IOperator operator, IVariable... variables) throws EvaluationException {
+        return evaluateOperator(EvaluationContext.current(), operator, variables);
+    }
+
+    /**
+     * Evaluate an operator for the given variables within the given evaluation context.
+     * @param context The context of the running evaluation.
+     * @param operator The operator.
+     * @param variables The variables.
+     * @return The resulting value.
+     * @throws EvaluationException If something went wrong during operator evaluation.
+     */
+    public static IValue evaluateOperator(IEvaluationContext context, IOperator operator, IVariable... variables) throws EvaluationException {
         int requiredLength = operator.getRequiredInputLength();
         if (requiredLength == variables.length) {
-            return operator.evaluate(variables);
+            return operator.evaluate(context, variables);
         } else {
             if (variables.length > requiredLength) { // We have MORE variables as input than the operator accepts
                 IVariable[] acceptableVariables = ArrayUtils.subarray(variables, 0, requiredLength);
                 IVariable[] remainingVariables = ArrayUtils.subarray(variables, requiredLength, variables.length);
 
                 // Pass all required variables to the operator, and forward all remaining ones to the resulting operator
-                IValue result = evaluateOperator(operator, acceptableVariables);
+                IValue result = evaluateOperator(context, operator, acceptableVariables);
 
                 // Error if the result is NOT an operatorø
                 if (result.getType() != ValueTypes.OPERATOR) {
@@ -133,7 +151,7 @@ public class ValueHelpers {
 
                 // Pass all remaining variables to the resulting operator
                 IOperator nextOperator = ((ValueTypeOperator.ValueOperator) result).getRawValue();
-                return evaluateOperator(nextOperator, remainingVariables);
+                return evaluateOperator(context, nextOperator, remainingVariables);
 
             } else { // Else, the given variables only partially take up the required input
                 return ValueTypeOperator.ValueOperator.of(new CurriedOperator(operator, variables));
@@ -162,7 +180,7 @@ public class ValueHelpers {
     public static NBTTagCompound serialize(IValue value) {
         NBTTagCompound tag = new NBTTagCompound();
         tag.setString("valueType", value.getType().getTranslationKey());
-        tag.setString("value", serializeRaw(value));
+        serializeRaw(tag, "value", value);
         return tag;
     }
 
@@ -176,7 +194,7 @@ public class ValueHelpers {
         if (valueType == null) {
             return null;
         }
-        return deserializeRaw(valueType, tag.getString("value"));
+        return deserializeRaw(tag, "value", valueType);
     }
 
     /**
@@ -193,6 +211,56 @@ public class ValueHelpers {
         return valueType.deserialize(valueString);
     }
 
+    /**
+     * Serialize the given value into the given NBT tag.
+     * If possible, this will use a compact binary representation,
+     * otherwise it falls back to the raw string representation.
+     * @param tag The NBT tag to write to.
+     * @param key The key to write the value at.
+     * @param value The value.
+     */
+    public static void serializeRaw(NBTTagCompound tag, String key, IValue value) {
+        byte[] bytes = ValueTypeBinaryCodecs.encode(value);
+        if (bytes != null && bytes.length < GeneralConfig.maxValueByteSize) {
+            tag.setByteArray(key, bytes);
+        } else {
+            tag.setString(key, serializeRaw(value));
+        }
+    }
+
+    /**
+     * Check if the given NBT tag contains a value that was serialized with
+     * {@link #serializeRaw(NBTTagCompound, String, IValue)} or as raw string.
+     * @param tag The NBT tag.
+     * @param key The key of the value.
+     * @return If a value is present.
+     */
+    public static boolean hasSerializedRaw(NBTTagCompound tag, String key) {
+        return tag.hasKey(key, Constants.NBT.TAG_BYTE_ARRAY) || tag.hasKey(key, Constants.NBT.TAG_STRING);
+    }
+
+    /**
+     * Deserialize a value from the given NBT tag,
+     * which can be stored either in binary or in raw string form.
+     * @param tag The NBT tag to read from.
+     * @param key The key of the value.
+     * @param valueType The value type to deserialize for.
+     * @param <T> The type of value.
+     * @return The value.
+     */
+    public static <T extends IValue> T deserializeRaw(NBTTagCompound tag, String key, IValueType<T> valueType) {
+        if (tag.hasKey(key, Constants.NBT.TAG_BYTE_ARRAY)) {
+            try {
+                return ValueTypeBinaryCodecs.decode(valueType, tag.getByteArray(key));
+            } catch (IOException e) {
+                IntegratedDynamics.clog(Level.ERROR, String.format("Could not decode a value of type %s: %s",
+                        valueType.getTranslationKey(), e.getMessage()));
+                return valueType.getDefault();
+            }
+        }
+        return deserializeRaw(valueType, tag.getString(key));
+    }
+
     /**
      * Check if the given result (from the given operator) is a boolean.
      * @param predicate A predicate, used for error logging.
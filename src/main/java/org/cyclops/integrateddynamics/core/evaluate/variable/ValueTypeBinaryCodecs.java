@@ -0,0 +1,308 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTSizeTracker;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxy;
+
+import javax.annotation.Nullable;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary codecs for values.
+ * This is a faster and smaller alternative to the string-based serialization of {@link IValueType},
+ * which is only available for a subset of value types.
+ * @author rubensworks
+ */
+public class ValueTypeBinaryCodecs {
+
+    private static final Map<IValueType<?>, ICodec<?>> CODECS = Maps.newIdentityHashMap();
+
+    static {
+        register(ValueTypes.BOOLEAN, new ICodec<ValueTypeBoolean.ValueBoolean>() {
+            @Override
+            public void write(DataOutput output, ValueTypeBoolean.ValueBoolean value) throws IOException {
+                output.writeBoolean(value.getRawValue());
+            }
+
+            @Override
+            public ValueTypeBoolean.ValueBoolean read(DataInput input) throws IOException {
+                return ValueTypeBoolean.ValueBoolean.of(input.readBoolean());
+            }
+        });
+        register(ValueTypes.INTEGER, new ICodec<ValueTypeInteger.ValueInteger>() {
+            @Override
+            public void write(DataOutput output, ValueTypeInteger.ValueInteger value) throws IOException {
+                writeVarInt(output, value.getRawValue());
+            }
+
+            @Override
+            public ValueTypeInteger.ValueInteger read(DataInput input) throws IOException {
+                return ValueTypeInteger.ValueInteger.of(readVarInt(input));
+            }
+        });
+        register(ValueTypes.LONG, new ICodec<ValueTypeLong.ValueLong>() {
+            @Override
+            public void write(DataOutput output, ValueTypeLong.ValueLong value) throws IOException {
+                output.writeLong(value.getRawValue());
+            }
+
+            @Override
+            public ValueTypeLong.ValueLong read(DataInput input) throws IOException {
+                return ValueTypeLong.ValueLong.of(input.readLong());
+            }
+        });
+        register(ValueTypes.DOUBLE, new ICodec<ValueTypeDouble.ValueDouble>() {
+            @Override
+            public void write(DataOutput output, ValueTypeDouble.ValueDouble value) throws IOException {
+                output.writeDouble(value.getRawValue());
+            }
+
+            @Override
+            public ValueTypeDouble.ValueDouble read(DataInput input) throws IOException {
+                return ValueTypeDouble.ValueDouble.of(input.readDouble());
+            }
+        });
+        register(ValueTypes.STRING, new ICodec<ValueTypeString.ValueString>() {
+            @Override
+            public void write(DataOutput output, ValueTypeString.ValueString value) throws IOException {
+                writeString(output, value.getRawValue());
+            }
+
+            @Override
+            public ValueTypeString.ValueString read(DataInput input) throws IOException {
+                return ValueTypeString.ValueString.of(readString(input));
+            }
+        });
+        register(ValueTypes.NBT, new ICodec<ValueTypeNbt.ValueNbt>() {
+            @Override
+            public void write(DataOutput output, ValueTypeNbt.ValueNbt value) throws IOException {
+                CompressedStreamTools.write(value.getRawValue(), output);
+            }
+
+            @Override
+            public ValueTypeNbt.ValueNbt read(DataInput input) throws IOException {
+                return ValueTypeNbt.ValueNbt.of(CompressedStreamTools.read(input, NBTSizeTracker.INFINITE));
+            }
+        });
+        register(ValueTypes.LIST, new ICodec<ValueTypeList.ValueList>() {
+            @Override
+            public void write(DataOutput output, ValueTypeList.ValueList value) throws IOException {
+                IValueTypeListProxy<IValueType<IValue>, IValue> list = value.getRawValue();
+                // Only materialized lists can be written element-wise, other proxies must keep their own serialization.
+                if (list.isInfinite() || !ValueTypeListProxyFactories.MATERIALIZED.getName().equals(list.getName())) {
+                    throw new UnsupportedValueException();
+                }
+                IValueType<IValue> valueType = list.getValueType();
+                boolean heterogeneous = valueType.isCategory();
+                int length;
+                try {
+                    length = list.getLength();
+                } catch (EvaluationException e) {
+                    throw new UnsupportedValueException();
+                }
+                writeString(output, valueType.getTranslationKey());
+                writeVarInt(output, length);
+                for (IValue element : list) {
+                    IValueType elementValueType = heterogeneous ? element.getType() : valueType;
+                    ICodec codec = CODECS.get(elementValueType);
+                    if (codec == null || element.getType() != elementValueType) {
+                        throw new UnsupportedValueException();
+                    }
+                    if (heterogeneous) {
+                        writeString(output, elementValueType.getTranslationKey());
+                    }
+                    codec.write(output, element);
+                }
+            }
+
+            @Override
+            public ValueTypeList.ValueList read(DataInput input) throws IOException {
+                IValueType<IValue> valueType = getValueType(readString(input));
+                boolean heterogeneous = valueType.isCategory();
+                int length = readVarInt(input);
+                List<IValue> values = Lists.newArrayListWithCapacity(length);
+                for (int i = 0; i < length; i++) {
+                    IValueType<IValue> elementValueType = heterogeneous ? getValueType(readString(input)) : valueType;
+                    ICodec<?> codec = CODECS.get(elementValueType);
+                    if (codec == null) {
+                        throw new IOException("No binary codec exists for the value type " + elementValueType.getTranslationKey());
+                    }
+                    values.add(codec.read(input));
+                }
+                return ValueTypeList.ValueList.ofFactory(ValueTypeListProxyPrimitive.of(valueType, values));
+            }
+        });
+    }
+
+    /**
+     * Register a binary codec for the given value type.
+     * @param valueType The value type.
+     * @param codec The codec.
+     * @param <V> The value type.
+     */
+    public static <V extends IValue> void register(IValueType<V> valueType, ICodec<V> codec) {
+        CODECS.put(valueType, codec);
+    }
+
+    /**
+     * @param valueType A value type.
+     * @return If a binary codec exists for the given value type.
+     */
+    public static boolean hasCodec(IValueType<?> valueType) {
+        return CODECS.containsKey(valueType);
+    }
+
+    /**
+     * Encode the given value.
+     * @param value The value.
+     * @return The encoded bytes, or null if the value can not be encoded in binary form.
+     */
+    @Nullable
+    public static byte[] encode(IValue value) {
+        ICodec codec = CODECS.get(value.getType());
+        if (codec == null) {
+            return null;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            codec.write(new DataOutputStream(bytes), value);
+        } catch (IOException e) {
+            return null;
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decode the given bytes to a value.
+     * @param valueType The value type to decode for.
+     * @param bytes The encoded bytes.
+     * @param <V> The value type.
+     * @return The decoded value.
+     * @throws IOException If the bytes could not be decoded.
+     */
+    public static <V extends IValue> V decode(IValueType<V> valueType, byte[] bytes) throws IOException {
+        ICodec<V> codec = (ICodec<V>) CODECS.get(valueType);
+        if (codec == null) {
+            throw new IOException("No binary codec exists for the value type " + valueType.getTranslationKey());
+        }
+        return codec.read(new DataInputStream(new ByteArrayInputStream(bytes)));
+    }
+
+    protected static IValueType<IValue> getValueType(String name) throws IOException {
+        IValueType<IValue> valueType = ValueTypes.REGISTRY.getValueType(name);
+        if (valueType == null) {
+            throw new IOException("Could not find the value type " + name);
+        }
+        return valueType;
+    }
+
+    /**
+     * Write a zigzag-encoded variable-length integer.
+     * @param output The output.
+     * @param value The integer.
+     * @throws IOException If writing failed.
+     */
+    public static void writeVarInt(DataOutput output, int value) throws IOException {
+        int zigzag = (value << 1) ^ (value >> 31);
+        while ((zigzag & ~0x7F) != 0) {
+            output.writeByte((zigzag & 0x7F) | 0x80);
+            zigzag >>>= 7;
+        }
+        output.writeByte(zigzag);
+    }
+
+    /**
+     * Read a zigzag-encoded variable-length integer.
+     * @param input The input.
+     * @return The integer.
+     * @throws IOException If reading failed.
+     */
+    public static int readVarInt(DataInput input) throws IOException {
+        int zigzag = 0;
+        int shift = 0;
+        byte b;
+        do {
+            if (shift > 28) {
+                throw new IOException("Variable-length integer is too long");
+            }
+            b = input.readByte();
+            zigzag |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+
+    /**
+     * Write a length-prefixed UTF-8 string.
+     * @param output The output.
+     * @param value The string.
+     * @throws IOException If writing failed.
+     */
+    public static void writeString(DataOutput output, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(output, bytes.length);
+        output.write(bytes);
+    }
+
+    /**
+     * Read a length-prefixed UTF-8 string.
+     * @param input The input.
+     * @return The string.
+     * @throws IOException If reading failed.
+     */
+    public static String readString(DataInput input) throws IOException {
+        int length = readVarInt(input);
+        if (length < 0) {
+            throw new IOException("Negative string length");
+        }
+        byte[] bytes = new byte[length];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * A binary codec for values of a certain type.
+     * @param <V> The value type.
+     */
+    public static interface ICodec<V extends IValue> {
+
+        /**
+         * Write the given value.
+         * @param output The output to write to.
+         * @param value The value.
+         * @throws IOException If the value could not be written.
+         */
+        public void write(DataOutput output, V value) throws IOException;
+
+        /**
+         * Read a value.
+         * @param input The input to read from.
+         * @return The value.
+         * @throws IOException If no value could be read.
+         */
+        public V read(DataInput input) throws IOException;
+
+    }
+
+    /**
+     * Thrown when a value can not be written in binary form, in which case string serialization must be used.
+     */
+    public static class UnsupportedValueException extends IOException {
+
+    }
+
+}
@@ -133,7 +133,7 @@ public class ValueTypeList extends ValueObjectTypeBase<ValueTypeList.ValueList>
 
         @Override
         public boolean equals(Object o) {
-            return o instanceof ValueList && ((ValueList) o).value.equals(this.value);
+            return o == this || (o instanceof ValueList && ((ValueList) o).value.equals(this.value));
         }
 
         @Override
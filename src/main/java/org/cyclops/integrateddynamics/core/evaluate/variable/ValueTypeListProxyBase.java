@@ -1,13 +1,12 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
-import com.google.common.collect.Iterables;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxy;
 
-import java.util.Arrays;
 import java.util.Iterator;
+import java.util.Objects;
 
 /**
  * A list proxy base implementation.
@@ -84,17 +83,22 @@ public abstract class ValueTypeListProxyBase<T extends IValueType<V>, V extends
             return false;
         }
 
-        Object[] o = Iterables.toArray(this, Object.class);
-        Object[] o2 = Iterables.toArray(other, Object.class);
-        return Arrays.equals(o, o2);
+        // Compare element-wise without copying both lists.
+        Iterator<V> it = iterator();
+        Iterator<?> it2 = other.iterator();
+        while (it.hasNext() && it2.hasNext()) {
+            if (!Objects.equals(it.next(), it2.next())) {
+                return false;
+            }
+        }
+        return !it.hasNext() && !it2.hasNext();
     }
 
     @Override
     public int hashCode() {
         if(this.isInfinite()) return System.identityHashCode(this);
+        // Only the elements are part of the hash, since lists of different proxy or corresponding value types can be equal.
         int result = 1;
-        result = 37 * result + getName().hashCode();
-        result = 37 * result + getValueType().hashCode();
         for(Object obj : this) {
             result = 37 * result + (obj != null ? obj.hashCode() : 0);
         }
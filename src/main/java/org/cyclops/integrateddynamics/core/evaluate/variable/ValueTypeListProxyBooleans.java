@@ -0,0 +1,85 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import org.cyclops.cyclopscore.helper.L10NHelpers;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
+
+import java.util.BitSet;
+
+/**
+ * An immutable list of booleans that is backed by a bitset.
+ * @author rubensworks
+ */
+public class ValueTypeListProxyBooleans extends ValueTypeListProxyPrimitive<ValueTypeBoolean, ValueTypeBoolean.ValueBoolean> {
+
+    private final BitSet values;
+    private final int length;
+
+    /**
+     * @param values The backing bitset, which must not be modified afterwards.
+     * @param length The number of elements.
+     */
+    public ValueTypeListProxyBooleans(BitSet values, int length) {
+        super(ValueTypes.BOOLEAN, length, i -> ValueTypeBoolean.ValueBoolean.of(values.get(i)));
+        this.values = values;
+        this.length = length;
+    }
+
+    public boolean getBoolean(int index) {
+        return values.get(index);
+    }
+
+    protected int countTrue() {
+        return values.get(0, length).cardinality();
+    }
+
+    @Override
+    public boolean contains(IValue value) {
+        return count(value) > 0;
+    }
+
+    @Override
+    public int count(IValue value) {
+        if (value instanceof ValueTypeBoolean.ValueBoolean) {
+            int countTrue = countTrue();
+            return ((ValueTypeBoolean.ValueBoolean) value).getRawValue() ? countTrue : length - countTrue;
+        }
+        return 0;
+    }
+
+    @Override
+    public ValueTypeListProxyBooleans slice(int from, int to) {
+        int start = clampFrom(length, from);
+        int end = clampTo(length, from, to);
+        return new ValueTypeListProxyBooleans(values.get(start, end), end - start);
+    }
+
+    @Override
+    public ValueTypeListProxyBooleans uniq() {
+        BitSet unique = new BitSet(2);
+        if (length == 0) {
+            return new ValueTypeListProxyBooleans(unique, 0);
+        }
+        boolean head = values.get(0);
+        unique.set(0, head);
+        int other = head ? values.nextClearBit(0) : values.nextSetBit(0);
+        if (other >= 0 && other < length) {
+            unique.set(1, !head);
+            return new ValueTypeListProxyBooleans(unique, 2);
+        }
+        return new ValueTypeListProxyBooleans(unique, 1);
+    }
+
+    @Override
+    public ValueTypeBoolean.ValueBoolean sum(ValueTypeBoolean.ValueBoolean start) throws EvaluationException {
+        if (length == 0) {
+            return start;
+        }
+        // Booleans can not be added, so fail in the same way as the addition operator.
+        L10NHelpers.UnlocalizedString error = Operators.ARITHMETIC_ADDITION
+                .validateTypes(new IValueType[]{ValueTypes.BOOLEAN, ValueTypes.BOOLEAN});
+        throw new EvaluationException(error != null ? error.localize() : "Booleans can not be added");
+    }
+}
@@ -0,0 +1,89 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * An immutable list of doubles that is backed by a double array.
+ * @author rubensworks
+ */
+public class ValueTypeListProxyDoubles extends ValueTypeListProxyPrimitive<ValueTypeDouble, ValueTypeDouble.ValueDouble> {
+
+    private final double[] values;
+
+    /**
+     * @param values The backing array, which must not be modified afterwards.
+     */
+    public ValueTypeListProxyDoubles(double[] values) {
+        super(ValueTypes.DOUBLE, values.length, i -> ValueTypeDouble.ValueDouble.of(values[i]));
+        this.values = values;
+    }
+
+    public double getDouble(int index) {
+        return values[index];
+    }
+
+    @Override
+    public boolean contains(IValue value) {
+        if (value instanceof ValueTypeDouble.ValueDouble) {
+            double raw = ((ValueTypeDouble.ValueDouble) value).getRawValue();
+            for (double element : values) {
+                if (element == raw) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int count(IValue value) {
+        int count = 0;
+        if (value instanceof ValueTypeDouble.ValueDouble) {
+            double raw = ((ValueTypeDouble.ValueDouble) value).getRawValue();
+            for (double element : values) {
+                if (element == raw) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public ValueTypeListProxyDoubles slice(int from, int to) {
+        return new ValueTypeListProxyDoubles(Arrays.copyOfRange(values,
+                clampFrom(values.length, from), clampTo(values.length, from, to)));
+    }
+
+    @Override
+    public ValueTypeListProxyDoubles uniq() {
+        // Keys follow the equality of double values, so 0 and -0 are equal, and NaN is never equal.
+        long[] keys = new long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            keys[i] = Double.doubleToLongBits(values[i] == 0 ? 0D : values[i]);
+        }
+        BitSet first = firstOccurrences(keys);
+        for (int i = 0; i < values.length; i++) {
+            if (Double.isNaN(values[i])) {
+                first.set(i);
+            }
+        }
+        double[] unique = new double[first.cardinality()];
+        for (int i = first.nextSetBit(0), j = 0; i >= 0; i = first.nextSetBit(i + 1), j++) {
+            unique[j] = values[i];
+        }
+        return new ValueTypeListProxyDoubles(unique);
+    }
+
+    @Override
+    public ValueTypeDouble.ValueDouble sum(ValueTypeDouble.ValueDouble start) {
+        double sum = start.getRawValue();
+        for (double element : values) {
+            sum += element;
+        }
+        return ValueTypeDouble.ValueDouble.of(sum);
+    }
+}
@@ -0,0 +1,83 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * An immutable list of integers that is backed by an int array.
+ * @author rubensworks
+ */
+public class ValueTypeListProxyIntegers extends ValueTypeListProxyPrimitive<ValueTypeInteger, ValueTypeInteger.ValueInteger> {
+
+    private final int[] values;
+
+    /**
+     * @param values The backing array, which must not be modified afterwards.
+     */
+    public ValueTypeListProxyIntegers(int[] values) {
+        super(ValueTypes.INTEGER, values.length, i -> ValueTypeInteger.ValueInteger.of(values[i]));
+        this.values = values;
+    }
+
+    public int getInt(int index) {
+        return values[index];
+    }
+
+    @Override
+    public boolean contains(IValue value) {
+        if (value instanceof ValueTypeInteger.ValueInteger) {
+            int raw = ((ValueTypeInteger.ValueInteger) value).getRawValue();
+            for (int element : values) {
+                if (element == raw) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int count(IValue value) {
+        int count = 0;
+        if (value instanceof ValueTypeInteger.ValueInteger) {
+            int raw = ((ValueTypeInteger.ValueInteger) value).getRawValue();
+            for (int element : values) {
+                if (element == raw) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public ValueTypeListProxyIntegers slice(int from, int to) {
+        return new ValueTypeListProxyIntegers(Arrays.copyOfRange(values,
+                clampFrom(values.length, from), clampTo(values.length, from, to)));
+    }
+
+    @Override
+    public ValueTypeListProxyIntegers uniq() {
+        long[] keys = new long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            keys[i] = values[i];
+        }
+        BitSet first = firstOccurrences(keys);
+        int[] unique = new int[first.cardinality()];
+        for (int i = first.nextSetBit(0), j = 0; i >= 0; i = first.nextSetBit(i + 1), j++) {
+            unique[j] = values[i];
+        }
+        return new ValueTypeListProxyIntegers(unique);
+    }
+
+    @Override
+    public ValueTypeInteger.ValueInteger sum(ValueTypeInteger.ValueInteger start) {
+        int sum = start.getRawValue();
+        for (int element : values) {
+            sum += element;
+        }
+        return ValueTypeInteger.ValueInteger.of(sum);
+    }
+}
@@ -0,0 +1,83 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * An immutable list of longs that is backed by a long array.
+ * @author rubensworks
+ */
+public class ValueTypeListProxyLongs extends ValueTypeListProxyPrimitive<ValueTypeLong, ValueTypeLong.ValueLong> {
+
+    private final long[] values;
+
+    /**
+     * @param values The backing array, which must not be modified afterwards.
+     */
+    public ValueTypeListProxyLongs(long[] values) {
+        super(ValueTypes.LONG, values.length, i -> ValueTypeLong.ValueLong.of(values[i]));
+        this.values = values;
+    }
+
+    public long getLong(int index) {
+        return values[index];
+    }
+
+    @Override
+    public boolean contains(IValue value) {
+        if (value instanceof ValueTypeLong.ValueLong) {
+            long raw = ((ValueTypeLong.ValueLong) value).getRawValue();
+            for (long element : values) {
+                if (element == raw) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int count(IValue value) {
+        int count = 0;
+        if (value instanceof ValueTypeLong.ValueLong) {
+            long raw = ((ValueTypeLong.ValueLong) value).getRawValue();
+            for (long element : values) {
+                if (element == raw) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public ValueTypeListProxyLongs slice(int from, int to) {
+        return new ValueTypeListProxyLongs(Arrays.copyOfRange(values,
+                clampFrom(values.length, from), clampTo(values.length, from, to)));
+    }
+
+    @Override
+    public ValueTypeListProxyLongs uniq() {
+        long[] keys = new long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            keys[i] = values[i];
+        }
+        BitSet first = firstOccurrences(keys);
+        long[] unique = new long[first.cardinality()];
+        for (int i = first.nextSetBit(0), j = 0; i >= 0; i = first.nextSetBit(i + 1), j++) {
+            unique[j] = values[i];
+        }
+        return new ValueTypeListProxyLongs(unique);
+    }
+
+    @Override
+    public ValueTypeLong.ValueLong sum(ValueTypeLong.ValueLong start) {
+        long sum = start.getRawValue();
+        for (long element : values) {
+            sum += element;
+        }
+        return ValueTypeLong.ValueLong.of(sum);
+    }
+}
@@ -1,20 +1,46 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
+import com.google.common.collect.LinkedHashMultiset;
+import com.google.common.collect.Multiset;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxy;
 
+import javax.annotation.Nullable;
+import java.lang.ref.SoftReference;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A list proxy for a list that is fully materialized already.
+ *
+ * If the list and all of its elements are immutable, its hash is cached,
+ * and a hash index over its elements is built lazily when the list is repeatedly queried for membership.
+ * This index is shared by all expressions that refer to the same list value,
+ * and is only softly referenced, so that it is dropped again under memory pressure.
  * @param <T> The value type type.
  * @param <V> The value type.
  */
 public class ValueTypeListProxyMaterialized<T extends IValueType<V>, V extends IValue> extends ValueTypeListProxyBase<T, V> {
 
+    /**
+     * Lists that are shorter than this are always scanned linearly.
+     */
+    protected static final int INDEX_MIN_LENGTH = 16;
+    /**
+     * The number of linear queries after which an index is built.
+     */
+    protected static final int INDEX_MIN_QUERIES = 2;
+
     private final List<V> list;
 
+    private int hash = 0;
+    private Boolean immutable = null;
+    private volatile SoftReference<Multiset<V>> index = null;
+    private final AtomicInteger queries = new AtomicInteger();
+
     public ValueTypeListProxyMaterialized(T valueType, List<V> list) {
         super(ValueTypeListProxyFactories.MATERIALIZED.getName(), valueType);
         this.list = list;
@@ -29,4 +55,152 @@ public class ValueTypeListProxyMaterialized<T extends IValueType<V>, V extends I
     public V get(int index) throws EvaluationException {
         return list.get(index);
     }
+
+    /**
+     * @param value A value.
+     * @return If the given value and its hash can never change.
+     *         Item, fluid and NBT values are not immutable, as they may wrap stacks or tags that are modified elsewhere.
+     */
+    public static boolean isImmutable(@Nullable IValue value) {
+        if (value == null) {
+            return true;
+        }
+        IValueType<?> type = value.getType();
+        if (type == ValueTypes.BOOLEAN || type == ValueTypes.INTEGER || type == ValueTypes.DOUBLE
+                || type == ValueTypes.LONG || type == ValueTypes.STRING || type == ValueTypes.OBJECT_BLOCK) {
+            return true;
+        }
+        if (value instanceof ValueTypeList.ValueList) {
+            // Other list proxies, such as positioned proxies, may read live values.
+            IValueTypeListProxy<?, ?> proxy = ((ValueTypeList.ValueList) value).getRawValue();
+            return proxy instanceof ValueTypeListProxyMaterialized && ((ValueTypeListProxyMaterialized) proxy).isImmutable();
+        }
+        return false;
+    }
+
+    /**
+     * @return If all elements of this list are immutable, so that its hash and index can be cached.
+     */
+    public boolean isImmutable() {
+        // Racing threads compute the same value.
+        Boolean immutable = this.immutable;
+        if (immutable == null) {
+            immutable = true;
+            for (V element : list) {
+                if (!isImmutable(element)) {
+                    immutable = false;
+                    break;
+                }
+            }
+            this.immutable = immutable;
+        }
+        return immutable;
+    }
+
+    @Override
+    public int hashCode() {
+        if (!isImmutable()) {
+            return super.hashCode();
+        }
+        // Like String, a zero hash is recomputed, and racing threads compute the same value.
+        int hash = this.hash;
+        if (hash == 0) {
+            this.hash = hash = super.hashCode();
+        }
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        // Hashes are only cached for immutable lists, and those with different hashes can never be equal.
+        if (obj instanceof ValueTypeListProxyMaterialized) {
+            int hash = this.hash;
+            int otherHash = ((ValueTypeListProxyMaterialized) obj).hash;
+            if (hash != 0 && otherHash != 0 && hash != otherHash) {
+                return false;
+            }
+        }
+        return super.equals(obj);
+    }
+
+    /**
+     * @return The index of this list, or null if it should not be used for this query.
+     */
+    @Nullable
+    protected Multiset<V> getIndex() {
+        Multiset<V> index = getBuiltIndex();
+        if (index == null && list.size() >= INDEX_MIN_LENGTH && isImmutable()
+                && queries.incrementAndGet() > INDEX_MIN_QUERIES) {
+            // Racing threads may each build an index, but these are equal, so any of them can be kept.
+            index = buildIndex();
+            this.index = new SoftReference<>(index);
+        }
+        return index;
+    }
+
+    /**
+     * @return The index of this list if it has been built and was not dropped yet, otherwise null.
+     */
+    @Nullable
+    protected Multiset<V> getBuiltIndex() {
+        SoftReference<Multiset<V>> reference = this.index;
+        return reference != null ? reference.get() : null;
+    }
+
+    protected Multiset<V> buildIndex() {
+        return LinkedHashMultiset.create(list);
+    }
+
+    /**
+     * @param value A value.
+     * @return If this list contains the given value.
+     */
+    public boolean contains(IValue value) {
+        Multiset<V> index = getIndex();
+        if (index != null) {
+            return index.contains(value);
+        }
+        for (V element : list) {
+            if (element.equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param value A value.
+     * @return How many times the given value occurs in this list.
+     */
+    public int count(IValue value) {
+        Multiset<V> index = getIndex();
+        if (index != null) {
+            return index.count(value);
+        }
+        int count = 0;
+        for (V element : list) {
+            if (element.equals(value)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return A list with only the first occurrence of each value, in order.
+     */
+    public ValueTypeListProxyMaterialized<T, V> uniq() {
+        Multiset<V> index = getBuiltIndex();
+        if (index == null) {
+            index = buildIndex();
+            if (isImmutable()) {
+                this.index = new SoftReference<>(index);
+            }
+        }
+        List<V> values = new ArrayList<>(index.elementSet());
+        return new ValueTypeListProxyMaterialized<>(getValueType(), values);
+    }
 }
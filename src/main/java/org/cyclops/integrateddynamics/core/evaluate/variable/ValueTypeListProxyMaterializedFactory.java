@@ -74,6 +74,6 @@ public class ValueTypeListProxyMaterializedFactory implements IValueTypeListProx
             builder.add(deserializedValue);
         }
 
-        return new ValueTypeListProxyMaterialized<>(valueType, builder.build());
+        return ValueTypeListProxyPrimitive.of(valueType, builder.build());
     }
 }
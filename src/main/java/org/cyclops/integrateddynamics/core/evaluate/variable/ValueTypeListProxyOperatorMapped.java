@@ -1,33 +1,141 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
+import com.google.common.collect.Lists;
+import org.apache.commons.lang3.ArrayUtils;
+import org.cyclops.integrateddynamics.GeneralConfig;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
 import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxy;
+import org.cyclops.integrateddynamics.core.TickHandler;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * A list proxy for a list that is mapped to another list by an operator.
+ *
+ * Mapped elements are memoized within a single tick, up to {@link GeneralConfig#mappedListCacheSize} elements.
+ * When mapping an already mapped list, both operators are fused and applied in a single pass over the original list.
+ * Filtering a mapped list is fused as well, see {@link #filter(IOperator)}.
  */
 public class ValueTypeListProxyOperatorMapped extends ValueTypeListProxyBase<IValueType<IValue>, IValue> {
 
-    private final IOperator operator;
+    private final IOperator[] operators;
     private final IValueTypeListProxy listProxy;
 
+    private volatile Cache cache = null;
+
     public ValueTypeListProxyOperatorMapped(IOperator operator, IValueTypeListProxy listProxy) {
         super(ValueTypeListProxyFactories.MATERIALIZED.getName(), operator.getInputTypes().length == 1 ? operator.getOutputType() : (IValueType) ValueTypes.OPERATOR);
-        this.operator = operator;
-        this.listProxy = listProxy;
+        if (listProxy instanceof ValueTypeListProxyOperatorMapped) {
+            ValueTypeListProxyOperatorMapped mappedListProxy = (ValueTypeListProxyOperatorMapped) listProxy;
+            this.operators = ArrayUtils.add(mappedListProxy.operators, operator);
+            this.listProxy = mappedListProxy.listProxy;
+        } else {
+            this.operators = new IOperator[]{operator};
+            this.listProxy = listProxy;
+        }
+    }
+
+    /**
+     * Get the cache of the current tick.
+     * @param withValues If the cache must contain an array for the mapped values.
+     * @return The cache.
+     * @throws EvaluationException If the length of the original list could not be determined.
+     */
+    protected Cache getCache(boolean withValues) throws EvaluationException {
+        int tick = TickHandler.getInstance().getServerTick();
+        // Read the field only once, as it may be replaced concurrently
+        Cache cache = this.cache;
+        if (cache == null || cache.tick != tick) {
+            cache = new Cache(tick, listProxy.getLength(), null);
+            this.cache = cache;
+        }
+        if (withValues && cache.values == null) {
+            cache = new Cache(tick, cache.length,
+                    new AtomicReferenceArray<>(Math.min(cache.length, GeneralConfig.mappedListCacheSize)));
+            this.cache = cache;
+        }
+        return cache;
     }
 
     @Override
     public int getLength() throws EvaluationException {
-        return listProxy.getLength();
+        return getCache(false).length;
     }
 
     @Override
     public IValue get(int index) throws EvaluationException {
-        IValue value = listProxy.get(index);
-        return ValueHelpers.evaluateOperator(operator, value);
+        AtomicReferenceArray<IValue> values = getCache(true).values;
+        boolean cacheable = index >= 0 && index < values.length();
+        if (cacheable) {
+            IValue value = values.get(index);
+            if (value != null) {
+                return value;
+            }
+        }
+        IValue value = map(listProxy.get(index));
+        if (cacheable) {
+            values.set(index, value);
+        }
+        return value;
+    }
+
+    protected IValue map(IValue value) throws EvaluationException {
+        for (IOperator operator : operators) {
+            value = ValueHelpers.evaluateOperator(operator, value);
+        }
+        return value;
+    }
+
+    /**
+     * Filter the mapped list with the given predicate in a single pass over the original list,
+     * so that mapped elements are passed to the predicate directly.
+     * Elements that were already mapped in this tick are reused.
+     * @param predicate A predicate operator.
+     * @return The mapped elements that match the predicate.
+     * @throws EvaluationException If evaluation of an operator failed.
+     */
+    public List<IValue> filter(IOperator predicate) throws EvaluationException {
+        AtomicReferenceArray<IValue> values = getCache(true).values;
+        List<IValue> filtered = Lists.newArrayList();
+        int index = 0;
+        for (Object originalValue : listProxy) {
+            IValue value = index < values.length() ? values.get(index) : null;
+            if (value == null) {
+                value = map((IValue) originalValue);
+                if (index < values.length()) {
+                    values.set(index, value);
+                }
+            }
+            IValue result = ValueHelpers.evaluateOperator(predicate, value);
+            ValueHelpers.validatePredicateOutput(predicate, result);
+            if (((ValueTypeBoolean.ValueBoolean) result).getRawValue()) {
+                filtered.add(value);
+            }
+            index++;
+        }
+        return filtered;
+    }
+
+    /**
+     * The state of the mapped list within a single tick.
+     * Its fields are published together, so that concurrent readers never see a tick with stale values.
+     */
+    protected static class Cache {
+
+        private final int tick;
+        private final int length;
+        @Nullable
+        private final AtomicReferenceArray<IValue> values;
+
+        public Cache(int tick, int length, @Nullable AtomicReferenceArray<IValue> values) {
+            this.tick = tick;
+            this.length = length;
+            this.values = values;
+        }
     }
 }
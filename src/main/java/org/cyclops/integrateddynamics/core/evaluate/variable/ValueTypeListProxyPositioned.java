@@ -2,19 +2,34 @@ package org.cyclops.integrateddynamics.core.evaluate.variable;
 
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.EnumFacing;
+import net.minecraftforge.common.capabilities.Capability;
+import org.cyclops.commoncapabilities.api.capability.inventorystate.IInventoryState;
 import org.cyclops.cyclopscore.datastructure.DimPos;
+import org.cyclops.cyclopscore.helper.MinecraftHelpers;
+import org.cyclops.cyclopscore.helper.TileHelpers;
 import org.cyclops.cyclopscore.persist.nbt.INBTProvider;
 import org.cyclops.cyclopscore.persist.nbt.NBTClassType;
+import org.cyclops.integrateddynamics.Capabilities;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.core.TickHandler;
+
+import javax.annotation.Nullable;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.function.IntFunction;
 
 /**
  * A list proxy for a certain position.
+ *
+ * On the server, the capability at the position is looked up at most once per tick.
+ * If the target exposes an {@link IInventoryState}, values are also cached until that state changes.
  */
 public abstract class ValueTypeListProxyPositioned<T extends IValueType<V>, V extends IValue> extends ValueTypeListProxyBase<T, V> implements INBTProvider {
 
     private DimPos pos;
     private EnumFacing side;
+    private volatile CapabilitySnapshot<?> snapshot = null;
 
     public ValueTypeListProxyPositioned(String name, T valueType, DimPos pos, EnumFacing side) {
         super(name, valueType);
@@ -34,12 +49,63 @@ public abstract class ValueTypeListProxyPositioned<T extends IValueType<V>, V ex
         this.side = NBTClassType.readNbt(EnumFacing.class, "side", tag);
     }
 
+    /**
+     * Get the given capability at this position.
+     * @param capability The capability type.
+     * @param <C> The capability type.
+     * @return The capability instance or null.
+     */
+    @Nullable
+    protected <C> C getCapability(Capability<C> capability) {
+        if (MinecraftHelpers.isClientSide()) {
+            return TileHelpers.getCapability(getPos(), getSide(), capability);
+        }
+        CapabilitySnapshot<C> snapshot = getSnapshot(capability);
+        C instance = snapshot.getCapability();
+        if (instance == null && snapshot.hasCapability()) {
+            // The capability was only weakly reachable and has been collected, so it is looked up again.
+            this.snapshot = null;
+            instance = TileHelpers.getCapability(getPos(), getSide(), capability);
+        }
+        return instance;
+    }
+
+    /**
+     * Get the value at the given index,
+     * which is cached as long as the inventory state at this position does not change within the current tick.
+     * @param capability The capability type the value is derived from.
+     * @param index The value index.
+     * @param loader The function to load a value for the given index if it is not cached.
+     * @param <C> The capability type.
+     * @return The value.
+     */
+    protected <C> V getCachedValue(Capability<C> capability, int index, IntFunction<V> loader) {
+        if (MinecraftHelpers.isClientSide()) {
+            return loader.apply(index);
+        }
+        return getSnapshot(capability).getValue(index, loader);
+    }
+
+    @SuppressWarnings("unchecked")
+    protected <C> CapabilitySnapshot<C> getSnapshot(Capability<C> capability) {
+        int tick = TickHandler.getInstance().getServerTick();
+        CapabilitySnapshot<?> snapshot = this.snapshot;
+        if (snapshot == null || snapshot.getTick() != tick || snapshot.getCapabilityType() != capability) {
+            snapshot = new CapabilitySnapshot<>(tick, capability,
+                    TileHelpers.getCapability(getPos(), getSide(), capability),
+                    TileHelpers.getCapability(getPos(), getSide(), Capabilities.INVENTORY_STATE));
+            this.snapshot = snapshot;
+        }
+        return (CapabilitySnapshot<C>) snapshot;
+    }
+
     protected DimPos getPos() {
         return pos;
     }
 
     protected void setPos(DimPos pos) {
         this.pos = pos;
+        this.snapshot = null;
     }
 
     protected EnumFacing getSide() {
@@ -48,5 +114,75 @@ public abstract class ValueTypeListProxyPositioned<T extends IValueType<V>, V ex
 
     protected void setSide(EnumFacing side) {
         this.side = side;
+        this.snapshot = null;
+    }
+
+    /**
+     * A capability that was looked up in a certain tick, together with its lazily loaded values.
+     * The capability and inventory state are only weakly referenced,
+     * so that proxies that are kept in variables do not keep unloaded tile entities alive.
+     * @param <C> The capability type.
+     */
+    protected static class CapabilitySnapshot<C> {
+
+        private final int tick;
+        private final Capability<C> capabilityType;
+        private final WeakReference<C> capability;
+        private final boolean hasCapability;
+        private final WeakReference<IInventoryState> inventoryState;
+        private int inventoryStateHash;
+        private Object[] values = null;
+
+        public CapabilitySnapshot(int tick, Capability<C> capabilityType, @Nullable C capability,
+                                  @Nullable IInventoryState inventoryState) {
+            this.tick = tick;
+            this.capabilityType = capabilityType;
+            this.capability = new WeakReference<>(capability);
+            this.hasCapability = capability != null;
+            this.inventoryState = new WeakReference<>(inventoryState);
+            this.inventoryStateHash = inventoryState != null ? inventoryState.getHash() : 0;
+        }
+
+        public int getTick() {
+            return tick;
+        }
+
+        public Capability<C> getCapabilityType() {
+            return capabilityType;
+        }
+
+        @Nullable
+        public C getCapability() {
+            return capability.get();
+        }
+
+        /**
+         * @return If a capability was present when this snapshot was created.
+         */
+        public boolean hasCapability() {
+            return hasCapability;
+        }
+
+        @SuppressWarnings("unchecked")
+        public synchronized <V> V getValue(int index, IntFunction<V> loader) {
+            // Values can only be cached if we can detect changes to the target.
+            IInventoryState inventoryState = this.inventoryState.get();
+            if (inventoryState == null) {
+                return loader.apply(index);
+            }
+            int hash = inventoryState.getHash();
+            if (values == null || hash != inventoryStateHash) {
+                values = new Object[Math.max(16, index + 1)];
+                inventoryStateHash = hash;
+            } else if (index >= values.length) {
+                values = Arrays.copyOf(values, Math.max(index + 1, values.length * 2));
+            }
+            Object value = values[index];
+            if (value == null) {
+                value = loader.apply(index);
+                values[index] = value;
+            }
+            return (V) value;
+        }
     }
 }
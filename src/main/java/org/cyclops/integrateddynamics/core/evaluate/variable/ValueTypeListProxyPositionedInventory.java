@@ -4,7 +4,6 @@ import net.minecraft.util.EnumFacing;
 import net.minecraftforge.items.CapabilityItemHandler;
 import net.minecraftforge.items.IItemHandler;
 import org.cyclops.cyclopscore.datastructure.DimPos;
-import org.cyclops.cyclopscore.helper.TileHelpers;
 import org.cyclops.cyclopscore.persist.nbt.INBTProvider;
 
 import java.util.Iterator;
@@ -23,7 +22,7 @@ public class ValueTypeListProxyPositionedInventory extends ValueTypeListProxyPos
     }
 
     protected IItemHandler getInventory() {
-        return TileHelpers.getCapability(getPos(), getSide(), CapabilityItemHandler.ITEM_HANDLER_CAPABILITY);
+        return getCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY);
     }
 
     @Override
@@ -37,7 +36,8 @@ public class ValueTypeListProxyPositionedInventory extends ValueTypeListProxyPos
 
     @Override
     public ValueObjectTypeItemStack.ValueItemStack get(int index) {
-        return ValueObjectTypeItemStack.ValueItemStack.of(getInventory().getStackInSlot(index));
+        return getCachedValue(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, index,
+                i -> ValueObjectTypeItemStack.ValueItemStack.of(getInventory().getStackInSlot(i)));
     }
 
     @Override
@@ -1,19 +1,28 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
-import com.google.common.collect.Iterables;
 import net.minecraft.util.EnumFacing;
 import org.cyclops.commoncapabilities.api.capability.recipehandler.IRecipeDefinition;
 import org.cyclops.commoncapabilities.api.capability.recipehandler.IRecipeHandler;
 import org.cyclops.cyclopscore.datastructure.DimPos;
 import org.cyclops.cyclopscore.helper.Helpers;
+import org.cyclops.cyclopscore.helper.MinecraftHelpers;
 import org.cyclops.cyclopscore.persist.nbt.INBTProvider;
 import org.cyclops.integrateddynamics.Capabilities;
+import org.cyclops.integrateddynamics.core.TickHandler;
+import org.cyclops.integrateddynamics.core.evaluate.operator.RecipeHandlerIndex;
+
+import javax.annotation.Nullable;
 
 /**
  * A list proxy for the recipes of a recipe handler at a certain position.
+ *
+ * On the server, the recipe index is resolved at most once per tick, so that iterating over the list is linear.
  */
 public class ValueTypeListProxyPositionedRecipes extends ValueTypeListProxyPositioned<ValueObjectTypeRecipe, ValueObjectTypeRecipe.ValueRecipe> implements INBTProvider {
 
+    private RecipeHandlerIndex index = null;
+    private int indexTick = -1;
+
     public ValueTypeListProxyPositionedRecipes(DimPos pos, EnumFacing side) {
         super(ValueTypeListProxyFactories.POSITIONED_RECIPES.getName(), ValueTypes.OBJECT_RECIPE, pos, side);
     }
@@ -27,18 +36,57 @@ public class ValueTypeListProxyPositionedRecipes extends ValueTypeListProxyPosit
                 Capabilities.RECIPE_HANDLER);
     }
 
+    /**
+     * @return The recipe index of the recipe handler at this position, or null if there is no recipe handler.
+     */
+    @Nullable
+    protected synchronized RecipeHandlerIndex getRecipeIndex() {
+        if (MinecraftHelpers.isClientSide()) {
+            return resolveRecipeIndex();
+        }
+        int tick = TickHandler.getInstance().getServerTick();
+        if (indexTick != tick) {
+            index = resolveRecipeIndex();
+            indexTick = tick;
+        }
+        return index;
+    }
+
+    @Nullable
+    protected RecipeHandlerIndex resolveRecipeIndex() {
+        IRecipeHandler recipeHandler = getRecipeHandler();
+        return recipeHandler == null ? null : RecipeHandlerIndex.get(recipeHandler);
+    }
+
+    @Override
+    protected void setPos(DimPos pos) {
+        super.setPos(pos);
+        resetRecipeIndex();
+    }
+
+    @Override
+    protected void setSide(EnumFacing side) {
+        super.setSide(side);
+        resetRecipeIndex();
+    }
+
+    protected synchronized void resetRecipeIndex() {
+        this.index = null;
+        this.indexTick = -1;
+    }
+
     @Override
     public int getLength() {
-        IRecipeHandler recipeHandler = getRecipeHandler();
-        if(recipeHandler == null) {
+        RecipeHandlerIndex recipeIndex = getRecipeIndex();
+        if(recipeIndex == null) {
             return 0;
         }
-        return recipeHandler.getRecipes().size();
+        return recipeIndex.getRecipes().size();
     }
 
     @Override
     public ValueObjectTypeRecipe.ValueRecipe get(int index) {
-        IRecipeDefinition recipeDefinition = Iterables.get(getRecipeHandler().getRecipes(), index);
+        IRecipeDefinition recipeDefinition = getRecipeIndex().getRecipes().get(index);
         return ValueObjectTypeRecipe.ValueRecipe.of(recipeDefinition);
     }
 }
@@ -5,7 +5,6 @@ import net.minecraftforge.fluids.capability.CapabilityFluidHandler;
 import net.minecraftforge.fluids.capability.IFluidHandler;
 import net.minecraftforge.fluids.capability.IFluidTankProperties;
 import org.cyclops.cyclopscore.datastructure.DimPos;
-import org.cyclops.cyclopscore.helper.TileHelpers;
 import org.cyclops.cyclopscore.persist.nbt.INBTProvider;
 
 /**
@@ -22,7 +21,7 @@ public class ValueTypeListProxyPositionedTankCapacities extends ValueTypeListPro
     }
 
     protected IFluidHandler getTank() {
-        return TileHelpers.getCapability(getPos(), getSide(), CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY);
+        return getCapability(CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY);
     }
 
     @Override
@@ -40,6 +39,7 @@ public class ValueTypeListProxyPositionedTankCapacities extends ValueTypeListPro
 
     @Override
     public ValueTypeInteger.ValueInteger get(int index) {
-        return ValueTypeInteger.ValueInteger.of(getTank().getTankProperties()[index].getCapacity());
+        return getCachedValue(CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, index,
+                i -> ValueTypeInteger.ValueInteger.of(getTank().getTankProperties()[i].getCapacity()));
     }
 }
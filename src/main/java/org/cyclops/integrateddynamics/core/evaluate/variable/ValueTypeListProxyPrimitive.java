@@ -0,0 +1,175 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+
+import java.util.AbstractList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * An immutable list proxy that stores its elements as primitives instead of as values.
+ * Elements are only boxed into values when they are accessed one by one,
+ * list operators can use the primitive operations of this class instead.
+ *
+ * This is serialized as a materialized list.
+ * @param <T> The value type type.
+ * @param <V> The value type.
+ */
+public abstract class ValueTypeListProxyPrimitive<T extends IValueType<V>, V extends IValue> extends ValueTypeListProxyMaterialized<T, V> {
+
+    protected ValueTypeListProxyPrimitive(T valueType, int length, IntFunction<V> getter) {
+        super(valueType, new ElementList<>(length, getter));
+    }
+
+    /**
+     * Create a materialized list proxy for the given values.
+     * If all values are integers, longs, doubles or booleans, a primitive list proxy is created.
+     * @param valueType The value type of the list.
+     * @param values The list values.
+     * @param <T> The value type type.
+     * @param <V> The value type.
+     * @return A list proxy.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends IValueType<V>, V extends IValue> ValueTypeListProxyMaterialized<T, V> of(T valueType, List<V> values) {
+        ValueTypeListProxyMaterialized<?, ?> proxy = null;
+        if (valueType == ValueTypes.INTEGER && allOfClass(values, ValueTypeInteger.ValueInteger.class)) {
+            int[] array = new int[values.size()];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = ((ValueTypeInteger.ValueInteger) values.get(i)).getRawValue();
+            }
+            proxy = new ValueTypeListProxyIntegers(array);
+        } else if (valueType == ValueTypes.LONG && allOfClass(values, ValueTypeLong.ValueLong.class)) {
+            long[] array = new long[values.size()];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = ((ValueTypeLong.ValueLong) values.get(i)).getRawValue();
+            }
+            proxy = new ValueTypeListProxyLongs(array);
+        } else if (valueType == ValueTypes.DOUBLE && allOfClass(values, ValueTypeDouble.ValueDouble.class)) {
+            double[] array = new double[values.size()];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = ((ValueTypeDouble.ValueDouble) values.get(i)).getRawValue();
+            }
+            proxy = new ValueTypeListProxyDoubles(array);
+        } else if (valueType == ValueTypes.BOOLEAN && allOfClass(values, ValueTypeBoolean.ValueBoolean.class)) {
+            BitSet bits = new BitSet(values.size());
+            for (int i = 0; i < values.size(); i++) {
+                bits.set(i, ((ValueTypeBoolean.ValueBoolean) values.get(i)).getRawValue());
+            }
+            proxy = new ValueTypeListProxyBooleans(bits, values.size());
+        }
+        return proxy != null ? (ValueTypeListProxyMaterialized<T, V>) proxy : new ValueTypeListProxyMaterialized<>(valueType, values);
+    }
+
+    @Override
+    public boolean isImmutable() {
+        return true;
+    }
+
+    protected static boolean allOfClass(List<? extends IValue> values, Class<?> clazz) {
+        for (IValue value : values) {
+            if (value == null || value.getClass() != clazz) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param value A value.
+     * @return If this list contains the given value.
+     */
+    public abstract boolean contains(IValue value);
+
+    /**
+     * @param value A value.
+     * @return How many times the given value occurs in this list.
+     */
+    public abstract int count(IValue value);
+
+    /**
+     * @param from The start index, inclusive.
+     * @param to The end index, exclusive.
+     * @return A copy of the given range of this list, clamped to the length of this list.
+     */
+    public abstract ValueTypeListProxyPrimitive<T, V> slice(int from, int to);
+
+    /**
+     * @return A copy of this list with only the first occurrence of each value.
+     */
+    public abstract ValueTypeListProxyPrimitive<T, V> uniq();
+
+    /**
+     * Add all elements of this list to the given value, in order.
+     * @param start The start value.
+     * @return The sum.
+     * @throws EvaluationException If this list is not empty and its elements can not be added.
+     */
+    public abstract V sum(V start) throws EvaluationException;
+
+    protected static int clampFrom(int length, int from) {
+        return Math.min(Math.max(0, from), length);
+    }
+
+    protected static int clampTo(int length, int from, int to) {
+        return Math.max(clampFrom(length, from), Math.min(length, to));
+    }
+
+    /**
+     * Determine the first occurrence of each key.
+     * @param keys The keys.
+     * @return A bitset where each index is set if that key did not occur before.
+     */
+    protected static BitSet firstOccurrences(long[] keys) {
+        BitSet first = new BitSet(keys.length);
+        int capacity = Integer.highestOneBit(Math.max(2, keys.length) * 2 - 1) << 1;
+        int mask = capacity - 1;
+        long[] table = new long[capacity];
+        boolean[] used = new boolean[capacity];
+        for (int i = 0; i < keys.length; i++) {
+            long key = keys[i];
+            int h = (int) (key ^ (key >>> 32)) * 0x9E3779B9;
+            int slot = (h ^ (h >>> 16)) & mask;
+            while (used[slot] && table[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            if (!used[slot]) {
+                used[slot] = true;
+                table[slot] = key;
+                first.set(i);
+            }
+        }
+        return first;
+    }
+
+    /**
+     * A list view that boxes elements on access.
+     * @param <V> The value type.
+     */
+    protected static class ElementList<V> extends AbstractList<V> {
+
+        private final int length;
+        private final IntFunction<V> getter;
+
+        public ElementList(int length, IntFunction<V> getter) {
+            this.length = length;
+            this.getter = getter;
+        }
+
+        @Override
+        public V get(int index) {
+            if (index < 0 || index >= length) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + length);
+            }
+            return getter.apply(index);
+        }
+
+        @Override
+        public int size() {
+            return length;
+        }
+    }
+}
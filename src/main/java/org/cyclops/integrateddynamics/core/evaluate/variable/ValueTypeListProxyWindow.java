@@ -0,0 +1,153 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import net.minecraft.nbt.NBTTagCompound;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+
+/**
+ * An immutable list proxy over a window of a {@link Buffer}.
+ *
+ * This is serialized as a materialized list.
+ * @param <T> The value type type.
+ * @param <V> The value type.
+ */
+public class ValueTypeListProxyWindow<T extends IValueType<V>, V extends IValue> extends ValueTypeListProxyMaterialized<T, V> {
+
+    protected ValueTypeListProxyWindow(T valueType, IValue[] values, int from, int to) {
+        super(valueType, new WindowList<>(values, from, to));
+    }
+
+    /**
+     * A bounded buffer of values to which values can be added,
+     * where the oldest value is dropped when it is full.
+     *
+     * Snapshots of this buffer can be created in constant time, without copying.
+     * This is possible because values are only appended to a backing array that is twice the capacity,
+     * and a new backing array is created when the end is reached or when the buffer is cleared,
+     * so that parts of a backing array are never modified after they have been exposed in a snapshot.
+     * @param <V> The value type.
+     */
+    public static class Buffer<V extends IValue> {
+
+        private final int capacity;
+        private IValue[] values;
+        private NBTTagCompound[] serializedValues;
+        private int from;
+        private int to;
+
+        public Buffer(int capacity) {
+            this.capacity = capacity;
+            clear();
+        }
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        public int size() {
+            return to - from;
+        }
+
+        /**
+         * Add a value, and drop the oldest value if the buffer is full.
+         * @param value A value.
+         */
+        public void add(V value) {
+            if (size() == capacity) {
+                from++;
+            }
+            if (to == values.length) {
+                int size = size();
+                IValue[] newValues = new IValue[values.length];
+                NBTTagCompound[] newSerializedValues = new NBTTagCompound[values.length];
+                System.arraycopy(values, from, newValues, 0, size);
+                System.arraycopy(serializedValues, from, newSerializedValues, 0, size);
+                values = newValues;
+                serializedValues = newSerializedValues;
+                from = 0;
+                to = size;
+            }
+            values[to++] = value;
+        }
+
+        /**
+         * @param index An index.
+         * @return The value at the given index, where index 0 is the oldest value.
+         */
+        @SuppressWarnings("unchecked")
+        public V get(int index) {
+            return (V) values[from + index];
+        }
+
+        /**
+         * Get the serialized value at the given index.
+         * Values are only serialized once, so the returned tag must not be modified.
+         * @param index An index.
+         * @return The serialized value at the given index, as produced by {@link ValueHelpers#serialize(IValue)}.
+         */
+        public NBTTagCompound getSerialized(int index) {
+            NBTTagCompound tag = serializedValues[from + index];
+            if (tag == null) {
+                tag = ValueHelpers.serialize(get(index));
+                serializedValues[from + index] = tag;
+            }
+            return tag;
+        }
+
+        /**
+         * Remove all values.
+         */
+        public void clear() {
+            this.values = new IValue[capacity * 2];
+            this.serializedValues = new NBTTagCompound[capacity * 2];
+            this.from = 0;
+            this.to = 0;
+        }
+
+        /**
+         * Create an immutable snapshot of the current values.
+         * @param valueType The value type of the list.
+         * @param <T> The value type type.
+         * @return A list proxy.
+         */
+        public <T extends IValueType<V>> ValueTypeListProxyWindow<T, V> snapshot(T valueType) {
+            return new ValueTypeListProxyWindow<>(valueType, values, from, to);
+        }
+
+    }
+
+    protected static class WindowList<V> extends AbstractList<V> {
+
+        private final IValue[] values;
+        private final int from;
+        private final int to;
+
+        public WindowList(IValue[] values, int from, int to) {
+            this.values = values;
+            this.from = from;
+            this.to = to;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public V get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+            }
+            return (V) values[from + index];
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+
+        @Override
+        public Object[] toArray() {
+            return Arrays.copyOfRange(values, from, to);
+        }
+    }
+}
@@ -10,6 +10,7 @@ import org.cyclops.cyclopscore.config.IChangedCallback;
 import org.cyclops.cyclopscore.helper.Helpers;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeNamed;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeNullable;
+import org.cyclops.integrateddynamics.core.helper.NbtHelpers;
 
 import javax.annotation.Nullable;
 import java.util.Set;
@@ -68,7 +69,7 @@ public class ValueTypeNbt extends ValueTypeBase<ValueTypeNbt.ValueNbt>
             if (tag.hasKey(key)) {
                 if (!copied) {
                     copied = true;
-                    tag = tag.copy();
+                    tag = NbtHelpers.shallowCopy(tag);
                 }
                 tag.removeTag(key);
             }
@@ -101,11 +102,19 @@ public class ValueTypeNbt extends ValueTypeBase<ValueTypeNbt.ValueNbt>
 
         @Override
         public boolean equals(Object o) {
-            return o instanceof ValueNbt && ((ValueNbt) o).value.equals(this.value);
+            if (o == this) {
+                return true;
+            }
+            if (!(o instanceof ValueNbt)) {
+                return false;
+            }
+            ValueNbt other = (ValueNbt) o;
+            return other.value == this.value || other.value.equals(this.value);
         }
 
         @Override
         public int hashCode() {
+            // The hash is not cached, as the wrapped tag may still be modified elsewhere.
             return getType().hashCode() + value.hashCode();
         }
     }
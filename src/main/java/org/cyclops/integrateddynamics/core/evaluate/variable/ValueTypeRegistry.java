@@ -1,8 +1,13 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Maps;
 import com.google.gson.JsonObject;
+import net.minecraft.nbt.NBTBase;
+import net.minecraft.nbt.NBTTagByteArray;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagString;
 import net.minecraft.util.ResourceLocation;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
@@ -20,10 +25,12 @@ import org.cyclops.integrateddynamics.api.item.IVariableFacadeHandlerRegistry;
 import org.cyclops.integrateddynamics.core.item.ValueTypeVariableFacade;
 
 import javax.annotation.Nullable;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Registry for {@link IValueType}.
@@ -35,6 +42,8 @@ public final class ValueTypeRegistry implements IValueTypeRegistry {
     private static final IValueTypeVariableFacade INVALID_FACADE = new ValueTypeVariableFacade(false, null, (IValue) null);
 
     private final Map<String, IValueType> valueTypes = Maps.newHashMap();
+    private final Cache<ValueKey, IValue> valueCache = CacheBuilder.newBuilder()
+            .maximumSize(1024).expireAfterAccess(1, TimeUnit.MINUTES).build();
     @SideOnly(Side.CLIENT)
     private Map<IValueType, ResourceLocation> valueTypeModels;
 
@@ -101,21 +110,52 @@ public final class ValueTypeRegistry implements IValueTypeRegistry {
     @Override
     public IValueTypeVariableFacade getVariableFacade(int id, NBTTagCompound tag) {
         if(!tag.hasKey("typeName", MinecraftHelpers.NBTTag_Types.NBTTagString.ordinal())
-                || !tag.hasKey("value", MinecraftHelpers.NBTTag_Types.NBTTagString.ordinal())) {
+                || !ValueHelpers.hasSerializedRaw(tag, "value")) {
             return INVALID_FACADE;
         }
         IValueType type = getValueType(tag.getString("typeName"));
         if(type == null) {
             return INVALID_FACADE;
         }
-        IValue value = ValueHelpers.deserializeRaw(type, tag.getString("value"));
+        IValue value = getVariableFacadeValue(id, type, tag);
         return new ValueTypeVariableFacade(id, type, value);
     }
 
+    /**
+     * Deserialize the value of a value variable facade.
+     * Since the same (possibly large) values are deserialized each time the variables of a network are refreshed,
+     * values are cached by facade id and contents.
+     * Facades themselves are not cached, as their variables are bound to the network they are used in.
+     * @param id The facade id.
+     * @param type The value type.
+     * @param tag The facade tag.
+     * @return The deserialized value.
+     */
+    @Nullable
+    protected IValue getVariableFacadeValue(int id, IValueType type, NBTTagCompound tag) {
+        if (!ValueHelpers.hasSerializedRaw(tag, "value")) {
+            // Missing or unexpected tags are not cached, and deserialize as before.
+            return ValueHelpers.deserializeRaw(tag, "value", type);
+        }
+        NBTBase valueTag = tag.getTag("value");
+        Object contents = valueTag instanceof NBTTagByteArray ? ((NBTTagByteArray) valueTag).getByteArray()
+                : ((NBTTagString) valueTag).getString();
+        ValueKey key = new ValueKey(id, type, contents);
+        IValue value = valueCache.getIfPresent(key);
+        if (value == null) {
+            value = ValueHelpers.deserializeRaw(tag, "value", type);
+            if (value != null) {
+                // Copy binary contents, so that the key does not change with the array of the tag.
+                valueCache.put(contents instanceof byte[] ? new ValueKey(id, type, ((byte[]) contents).clone()) : key, value);
+            }
+        }
+        return value;
+    }
+
     @Override
     public void setVariableFacade(NBTTagCompound tag, IValueTypeVariableFacade variableFacade) {
         tag.setString("typeName", variableFacade.getValueType().getTranslationKey());
-        tag.setString("value", ValueHelpers.serializeRaw(variableFacade.getValue()));
+        ValueHelpers.serializeRaw(tag, "value", variableFacade.getValue());
     }
 
     @Override
@@ -142,4 +182,44 @@ public final class ValueTypeRegistry implements IValueTypeRegistry {
                     && valuePredicate.test(variableFacade.getValue());
         }
     }
+
+    /**
+     * A cache key for serialized values, which compares the serialized contents without deserializing them.
+     */
+    protected static final class ValueKey {
+
+        private final int id;
+        private final IValueType type;
+        private final Object contents;
+        private final int hash;
+
+        public ValueKey(int id, IValueType type, Object contents) {
+            this.id = id;
+            this.type = type;
+            this.contents = contents;
+            int contentsHash = contents instanceof byte[] ? Arrays.hashCode((byte[]) contents) : contents.hashCode();
+            this.hash = 31 * (31 * id + type.hashCode()) + contentsHash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof ValueKey)) {
+                return false;
+            }
+            ValueKey other = (ValueKey) obj;
+            if (this.hash != other.hash || this.id != other.id || this.type != other.type) {
+                return false;
+            }
+            if (this.contents instanceof byte[] && other.contents instanceof byte[]) {
+                return Arrays.equals((byte[]) this.contents, (byte[]) other.contents);
+            }
+            return this.contents.equals(other.contents);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
 }
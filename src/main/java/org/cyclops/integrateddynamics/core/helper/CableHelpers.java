@@ -23,6 +23,7 @@ import org.cyclops.integrateddynamics.api.network.INetworkElement;
 import org.cyclops.integrateddynamics.api.network.INetworkElementProvider;
 import org.cyclops.integrateddynamics.api.part.IPartContainer;
 import org.cyclops.integrateddynamics.api.part.IPartType;
+import org.cyclops.integrateddynamics.api.part.PartPos;
 import org.cyclops.integrateddynamics.api.path.IPathElement;
 import org.cyclops.integrateddynamics.capability.cable.CableConfig;
 import org.cyclops.integrateddynamics.capability.cable.CableFakeableConfig;
@@ -186,9 +187,10 @@ public class CableHelpers {
                 sidesToUpdate.add(cableConnectionHit);
                 CableHelpers.updateConnectionsNeighbours(world, pos, sidesToUpdate);
 
-                // Reinit the networks for this block and the disconnected neighbour.
-                NetworkHelpers.initNetwork(world, pos, side);
-                NetworkHelpers.initNetwork(world, pos.offset(cableConnectionHit), side.getOpposite());
+                // Split the networks for this block and the disconnected neighbour.
+                NetworkHelpers.splitNetworks(Lists.newArrayList(
+                        PartPos.of(world, pos, side),
+                        PartPos.of(world, pos.offset(cableConnectionHit), side.getOpposite())));
                 return true;
             } else if (cableConnectionHit == null) {
                 // Reconnect cable side
@@ -208,9 +210,8 @@ public class CableHelpers {
                     sidesToUpdate.add(side);
                     CableHelpers.updateConnectionsNeighbours(world, pos, sidesToUpdate);
 
-                    // Reinit the networks for this block and the connected neighbour.
-                    NetworkHelpers.initNetwork(world, pos, side);
-                    NetworkHelpers.initNetwork(world, neighbourPos, side.getOpposite());
+                    // Join the networks for this block and the connected neighbour.
+                    NetworkHelpers.joinNetwork(world, pos, side);
                 }
                 return true;
             }
@@ -229,7 +230,7 @@ public class CableHelpers {
     public static void onCableAdded(World world, BlockPos pos) {
         CableHelpers.updateConnectionsNeighbours(world, pos, CableHelpers.ALL_SIDES);
         if(!world.isRemote) {
-            INetwork network = NetworkHelpers.initNetwork(world, pos, null);
+            INetwork network = NetworkHelpers.joinNetwork(world, pos, null);
             MinecraftForge.EVENT_BUS.post(new NetworkInitializedEvent(network, world, pos, null));
         }
     }
@@ -245,7 +246,7 @@ public class CableHelpers {
     public static void onCableAddedByPlayer(World world, BlockPos pos, @Nullable EntityLivingBase placer) {
         CableHelpers.updateConnectionsNeighbours(world, pos, CableHelpers.ALL_SIDES);
         if(!world.isRemote) {
-            INetwork network = NetworkHelpers.initNetwork(world, pos, null);
+            INetwork network = NetworkHelpers.joinNetwork(world, pos, null);
             MinecraftForge.EVENT_BUS.post(new NetworkInitializedEvent(network, world, pos, placer));
         }
     }
@@ -297,11 +298,12 @@ public class CableHelpers {
     public static boolean onCableRemoved(World world, BlockPos pos, Collection<EnumFacing> sides) {
         updateConnectionsNeighbours(world, pos, sides);
         if (!world.isRemote) {
-            // Reinit neighbouring networks.
+            // Split neighbouring networks.
+            List<PartPos> neighbours = Lists.newArrayList();
             for(EnumFacing side : sides) {
-                BlockPos sidePos = pos.offset(side);
-                NetworkHelpers.initNetwork(world, sidePos, side.getOpposite());
+                neighbours.add(PartPos.of(world, pos.offset(side), side.getOpposite()));
             }
+            NetworkHelpers.splitNetworks(neighbours);
         }
         return true;
     }
@@ -95,5 +95,7 @@ public class L10NValues {
     public static final String OPERATOR_ERROR_WRONGINPUTLENGTHVIRTIUAL = "operator." + NS + ".error.wrong_input_length_virtual";
     // 0: limit, 1: operator
     public static final String OPERATOR_ERROR_RECURSIONLIMIT = "operator." + NS + ".error.operator_recursion_limit";
+    // 0: budget, 1: operator
+    public static final String OPERATOR_ERROR_BUDGETLIMIT = "operator." + NS + ".error.operator_budget_limit";
 
 }
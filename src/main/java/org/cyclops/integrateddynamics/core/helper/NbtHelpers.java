@@ -9,10 +9,29 @@ import net.minecraftforge.common.util.Constants;
 import java.util.Set;
 
 /**
+ * Helpers for NBT tags.
+ *
+ * The tags inside NBT values are considered immutable,
+ * so the operations in this class share unchanged nested tags between their inputs and outputs,
+ * instead of copying the full tree.
  * @author rubensworks
  */
 public class NbtHelpers {
 
+    /**
+     * Create a copy of the given tag that shares all nested tags with the original tag.
+     * This must only be used for tags that are not modified at a nested level afterwards.
+     * @param tag An NBT tag.
+     * @return A new tag containing the same entries.
+     */
+    public static NBTTagCompound shallowCopy(NBTTagCompound tag) {
+        NBTTagCompound copy = new NBTTagCompound();
+        for (String key : tag.getKeySet()) {
+            copy.setTag(key, tag.getTag(key));
+        }
+        return copy;
+    }
+
     /**
      * Check if the first tag is a subset of the second tag.
      * @param a An NBT tag.
@@ -74,7 +93,14 @@ public class NbtHelpers {
     public static NBTTagCompound union(NBTTagCompound... tags) {
         NBTTagCompound tag = new NBTTagCompound();
         for (NBTTagCompound inputTag : tags) {
-            tag.merge(inputTag);
+            for (String key : inputTag.getKeySet()) {
+                NBTBase value = inputTag.getTag(key);
+                if (value.getId() == Constants.NBT.TAG_COMPOUND && tag.hasKey(key, Constants.NBT.TAG_COMPOUND)) {
+                    tag.setTag(key, union(tag.getCompoundTag(key), (NBTTagCompound) value));
+                } else {
+                    tag.setTag(key, value);
+                }
+            }
         }
         return tag;
     }
@@ -92,7 +118,7 @@ public class NbtHelpers {
         NBTTagCompound tag = null;
         for (NBTTagCompound inputTag : tags) {
             if (tag == null) {
-                tag = inputTag.copy();
+                tag = shallowCopy(inputTag);
             } else {
                 Set<String> keys = Sets.newHashSet(tag.getKeySet());
                 for (String key : keys) {
@@ -116,7 +142,7 @@ public class NbtHelpers {
      * @return A new tag containing the entries of a minus b.
      */
     public static NBTTagCompound minus(NBTTagCompound a, NBTTagCompound b) {
-        NBTTagCompound tag = a.copy();
+        NBTTagCompound tag = shallowCopy(a);
         for (String key : b.getKeySet()) {
             int type = b.getTag(key).getId();
             if (tag.hasKey(key, type)) {
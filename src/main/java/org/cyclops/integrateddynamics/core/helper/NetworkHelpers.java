@@ -1,5 +1,6 @@
 package org.cyclops.integrateddynamics.core.helper;
 
+import com.google.common.collect.Lists;
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.tileentity.TileEntity;
@@ -8,10 +9,12 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.IBlockAccess;
 import net.minecraft.world.World;
 import org.cyclops.commoncapabilities.api.ingredient.IngredientComponent;
+import org.cyclops.cyclopscore.datastructure.DimPos;
 import org.cyclops.cyclopscore.helper.TileHelpers;
 import org.cyclops.integrateddynamics.GeneralConfig;
 import org.cyclops.integrateddynamics.IntegratedDynamics;
 import org.cyclops.integrateddynamics.api.network.IEnergyNetwork;
+import org.cyclops.integrateddynamics.api.network.IFullNetworkListener;
 import org.cyclops.integrateddynamics.api.network.INetwork;
 import org.cyclops.integrateddynamics.api.network.INetworkCarrier;
 import org.cyclops.integrateddynamics.api.network.INetworkElement;
@@ -20,6 +23,7 @@ import org.cyclops.integrateddynamics.api.network.IPartNetwork;
 import org.cyclops.integrateddynamics.api.network.IPositionedAddonsNetworkIngredients;
 import org.cyclops.integrateddynamics.api.part.PartPos;
 import org.cyclops.integrateddynamics.api.path.IPathElement;
+import org.cyclops.integrateddynamics.api.path.ISidedPathElement;
 import org.cyclops.integrateddynamics.capability.network.EnergyNetworkConfig;
 import org.cyclops.integrateddynamics.capability.network.NetworkCarrierConfig;
 import org.cyclops.integrateddynamics.capability.network.PartNetworkConfig;
@@ -31,6 +35,8 @@ import org.cyclops.integrateddynamics.core.network.Network;
 import org.cyclops.integrateddynamics.core.persist.world.NetworkWorldStorage;
 
 import javax.annotation.Nullable;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Network helper methods.
@@ -147,6 +153,51 @@ public class NetworkHelpers {
         return null;
     }
 
+    /**
+     * Join the network at the given position with the networks of its neighbours.
+     * This should be called when a new connection was made from the given position.
+     * Instead of forming a completely new network, all neighbouring networks are spliced into the largest one.
+     * This position should have a {@link IPathElement} capability,
+     * otherwise this method will fail silently.
+     * @param world The world.
+     * @param pos The starting position.
+     * @param side The side.
+     * @return The joined network.
+     * Can be null if the starting position did not have a {@link IPathElement} capability.
+     */
+    public static @Nullable INetwork joinNetwork(World world, BlockPos pos, @Nullable EnumFacing side) {
+        IPathElement pathElement = TileHelpers.getCapability(world, pos, side, PathElementConfig.CAPABILITY);
+        if (pathElement != null) {
+            Network network = Network.joinNetworks(SidedPathElement.of(pathElement, side));
+            if (network == null) {
+                return initNetwork(world, pos, side);
+            }
+            return network;
+        }
+        return null;
+    }
+
+    /**
+     * Split the networks at the given positions.
+     * This should be called when connections between the given positions were removed.
+     * Only the parts of the network that became disconnected will be moved into new networks.
+     * @param positions The positions that were connected via the removed connections.
+     */
+    public static void splitNetworks(Collection<PartPos> positions) {
+        List<ISidedPathElement> heads = Lists.newArrayList();
+        for (PartPos position : positions) {
+            IPathElement pathElement = (IPathElement) TileHelpers.getCapability(position.getPos(), position.getSide(), PathElementConfig.CAPABILITY);
+            if (pathElement != null) {
+                heads.add(SidedPathElement.of(pathElement, position.getSide()));
+            }
+        }
+        if (!Network.splitNetworks(heads)) {
+            for (PartPos position : positions) {
+                initNetwork(position.getPos().getWorld(), position.getPos().getBlockPos(), position.getSide());
+            }
+        }
+    }
+
     /**
      * This MUST be called by blocks having the {@link INetworkElementProvider} capability in
      * when a neighbouring block is updated, more specifically when
@@ -168,6 +219,52 @@ public class NetworkHelpers {
         }
     }
 
+    /**
+     * This should be called by blocks having the {@link INetworkCarrier} capability
+     * when {@link Block#onNeighborChange(IBlockAccess, BlockPos, BlockPos)}
+     * or {@link Block#neighborChanged(IBlockState, World, BlockPos, Block, BlockPos)} is called,
+     * which is also the case when the contents of a neighbouring tile entity have changed.
+     * This will make the ingredient networks of the center block observe the neighbour in their next observation.
+     * @param world The world in which the neighbour was updated.
+     * @param pos The position of the center block.
+     * @param neighbor The position of the neighbour that was updated.
+     */
+    public static void onNetworkCarrierNeighborContentsChange(World world, BlockPos pos, BlockPos neighbor) {
+        if (!world.isRemote && GeneralConfig.ingredientNetworkObserverDirtyTracking) {
+            markPositionDirty(getNetwork(world, pos, null), DimPos.of(world, neighbor), null);
+        }
+    }
+
+    /**
+     * This should be called by storages when the contents of their ingredient component capabilities have changed,
+     * which is needed for storages that do not call {@link TileEntity#markDirty()} for all of their changes.
+     * This will make the ingredient networks at all sides of the storage observe it in their next observation.
+     * @param world The world.
+     * @param pos The position of the storage.
+     * @param component The ingredient component of the changed capability,
+     *                  or null if the changed component is unknown.
+     */
+    public static void onStorageContentsChange(World world, BlockPos pos, @Nullable IngredientComponent<?, ?> component) {
+        if (!world.isRemote && GeneralConfig.ingredientNetworkObserverDirtyTracking) {
+            DimPos dimPos = DimPos.of(world, pos);
+            for (EnumFacing side : EnumFacing.VALUES) {
+                markPositionDirty(getNetwork(world, pos.offset(side), null), dimPos, component);
+            }
+        }
+    }
+
+    private static void markPositionDirty(@Nullable INetwork network, DimPos pos,
+                                          @Nullable IngredientComponent<?, ?> component) {
+        if (network != null) {
+            for (IFullNetworkListener fullNetworkListener : network.getFullNetworkListeners()) {
+                if (fullNetworkListener instanceof IPositionedAddonsNetworkIngredients
+                        && (component == null || ((IPositionedAddonsNetworkIngredients<?, ?>) fullNetworkListener).getComponent() == component)) {
+                    ((IPositionedAddonsNetworkIngredients<?, ?>) fullNetworkListener).markPositionDirty(pos);
+                }
+            }
+        }
+    }
+
     /**
      * @return If networks should work and evaluations should be done.
      */
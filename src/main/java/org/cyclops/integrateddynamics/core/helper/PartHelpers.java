@@ -243,7 +243,7 @@ public class PartHelpers {
             if (CableHelpers.getCable(world, pos.offset(side), side.getOpposite()) != null) {
                 CableHelpers.updateConnections(world, pos, side);
                 CableHelpers.updateConnections(world, pos.offset(side), side.getOpposite());
-                NetworkHelpers.initNetwork(world, pos, side);
+                NetworkHelpers.joinNetwork(world, pos, side);
             }
         }
 
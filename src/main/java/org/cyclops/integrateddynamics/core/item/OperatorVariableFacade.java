@@ -1,5 +1,6 @@
 package org.cyclops.integrateddynamics.core.item;
 
+import com.google.common.collect.Lists;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import net.minecraft.client.renderer.block.model.BakedQuad;
@@ -7,7 +8,6 @@ import net.minecraft.client.renderer.block.model.IBakedModel;
 import net.minecraft.world.World;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
-import org.cyclops.cyclopscore.datastructure.Wrapper;
 import org.cyclops.cyclopscore.helper.L10NHelpers;
 import org.cyclops.integrateddynamics.api.client.model.IVariableModelBaked;
 import org.cyclops.integrateddynamics.api.evaluate.expression.IExpression;
@@ -123,23 +123,26 @@ public class OperatorVariableFacade extends VariableFacadeBase implements IOpera
                         checkFurther = false;
                     } else if (variableFacade != null) {
                         IValueType valueType = getOperator().getInputTypes()[i];
-                        final Wrapper<Boolean> isValid = new Wrapper<>(true);
                         if (validatingVariables[i]) {
                             validator.addError(new L10NHelpers.UnlocalizedString(
                                     L10NValues.OPERATOR_ERROR_CYCLICREFERENCE, getId()));
                             checkFurther = false;
                             break;
                         }
-                        validatingVariables[i] = true;
-                        variableFacade.validate(network, new IValidator() {
-                            @Override
-                            public void addError(L10NHelpers.UnlocalizedString error) {
-                                validator.addError(error);
-                                isValid.set(false);
-                            }
-                        }, valueType);
-                        validatingVariables[i] = false;
-                        if (isValid.get()) {
+                        // Variables that are shared by several operators are only validated once
+                        List<L10NHelpers.UnlocalizedString> errors = network.getValidationResult(variableId, valueType);
+                        if (errors == null) {
+                            List<L10NHelpers.UnlocalizedString> newErrors = Lists.newArrayList();
+                            validatingVariables[i] = true;
+                            variableFacade.validate(network, newErrors::add, valueType);
+                            validatingVariables[i] = false;
+                            errors = newErrors;
+                            network.setValidationResult(variableId, valueType, errors);
+                        }
+                        for (L10NHelpers.UnlocalizedString error : errors) {
+                            validator.addError(error);
+                        }
+                        if (errors.isEmpty()) {
                             IVariable variable = variableFacade.getVariable(network);
                             if (variable != null) {
                                 variables [i] = variable;
@@ -1,5 +1,8 @@
 package org.cyclops.integrateddynamics.core.network;
 
+import it.unimi.dsi.fastutil.ints.Int2IntMap;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import lombok.Getter;
 import lombok.Setter;
 import org.cyclops.commoncapabilities.api.ingredient.IngredientComponent;
@@ -11,6 +14,10 @@ import org.cyclops.integrateddynamics.api.network.INetworkElement;
 
 /**
  * A network that can hold energy.
+ *
+ * Energy for consuming network elements is extracted per channel in bulk into a buffer,
+ * from which the elements are served until the buffer is empty.
+ * Energy that was not consumed is returned to the batteries at the end of each tick.
  * @author rubensworks
  */
 public class EnergyNetwork extends PositionedAddonsNetworkIngredients<Integer, Boolean>
@@ -20,6 +27,11 @@ public class EnergyNetwork extends PositionedAddonsNetworkIngredients<Integer, B
     @Setter
     private INetwork network;
 
+    private final Object2IntOpenHashMap<INetworkElement> elementConsumptionRates = new Object2IntOpenHashMap<>();
+    private final Object2IntOpenHashMap<INetworkElement> elementConsumptionChannels = new Object2IntOpenHashMap<>();
+    private final Int2IntOpenHashMap channelConsumptionRates = new Int2IntOpenHashMap();
+    private final Int2IntOpenHashMap energyBuffers = new Int2IntOpenHashMap();
+
     public EnergyNetwork(IngredientComponent<Integer, Boolean> component) {
         super(component);
     }
@@ -29,8 +41,8 @@ public class EnergyNetwork extends PositionedAddonsNetworkIngredients<Integer, B
         if(!(element instanceof IEnergyConsumingNetworkElement)) return true;
         int multiplier = GeneralConfig.energyConsumptionMultiplier;
         if(multiplier == 0) return true;
-        int consumptionRate = ((IEnergyConsumingNetworkElement) element).getConsumptionRate() * multiplier;
-        return getChannel(element.getChannel()).extract(consumptionRate, true) == consumptionRate;
+        int consumptionRate = updateConsumptionRate((IEnergyConsumingNetworkElement) element) * multiplier;
+        return fillEnergyBuffer(element.getChannel(), consumptionRate) >= consumptionRate;
     }
 
     @Override
@@ -45,13 +57,125 @@ public class EnergyNetwork extends PositionedAddonsNetworkIngredients<Integer, B
         if(element instanceof IEnergyConsumingNetworkElement) {
             int multiplier = GeneralConfig.energyConsumptionMultiplier;
             if (multiplier > 0) {
-                int consumptionRate = ((IEnergyConsumingNetworkElement) element).getConsumptionRate() * multiplier;
-                getChannel(element.getChannel()).extract(consumptionRate, false);
+                int consumptionRate = elementConsumptionRates.getInt(element) * multiplier;
+                int channel = element.getChannel();
+                energyBuffers.put(channel, Math.max(0, energyBuffers.get(channel) - consumptionRate));
             }
             ((IEnergyConsumingNetworkElement) element).postUpdate(getNetwork(), true);
         }
     }
 
+    /**
+     * Make sure that the energy buffer of the given channel contains at least the given amount,
+     * if the network contains sufficient energy.
+     * If the buffer must be filled, the consumption of all elements in the channel is extracted at once,
+     * so that the following elements in the channel can be served from the buffer.
+     * Nothing is extracted if the network can not provide the required amount.
+     * @param channel A channel.
+     * @param required The required amount of energy.
+     * @return The amount of energy in the buffer.
+     */
+    protected int fillEnergyBuffer(int channel, int required) {
+        int buffered = energyBuffers.get(channel);
+        if (buffered < required) {
+            int target = Math.max(required, channelConsumptionRates.get(channel) * GeneralConfig.energyConsumptionMultiplier);
+            int available = extractEnergy(channel, target - buffered, true);
+            if (buffered + available >= required) {
+                buffered += extractEnergy(channel, available, false);
+                energyBuffers.put(channel, buffered);
+            }
+        }
+        return buffered;
+    }
+
+    /**
+     * Return the energy that was not consumed to the batteries.
+     * Energy that can not be inserted remains buffered.
+     */
+    protected void refundEnergyBuffers() {
+        for (Int2IntMap.Entry entry : energyBuffers.int2IntEntrySet()) {
+            if (entry.getIntValue() > 0) {
+                entry.setValue(insertEnergy(entry.getIntKey(), entry.getIntValue()));
+            }
+        }
+    }
+
+    /**
+     * Extract energy from the batteries in the given channel.
+     * @param channel A channel.
+     * @param amount The maximum amount to extract.
+     * @param simulate If the extraction should be simulated.
+     * @return The extracted amount.
+     */
+    protected int extractEnergy(int channel, int amount, boolean simulate) {
+        return getChannel(channel).extract(amount, simulate);
+    }
+
+    /**
+     * Insert energy into the batteries in the given channel.
+     * @param channel A channel.
+     * @param amount The amount to insert.
+     * @return The amount that could not be inserted.
+     */
+    protected int insertEnergy(int channel, int amount) {
+        return getChannel(channel).insert(amount, false);
+    }
+
+    /**
+     * Store the current consumption rate of the given element.
+     * @param element An energy consuming element.
+     * @return The consumption rate of the element, without multiplier.
+     */
+    protected int updateConsumptionRate(IEnergyConsumingNetworkElement element) {
+        int rate = element.getConsumptionRate();
+        int channel = element.getChannel();
+        if (elementConsumptionRates.containsKey(element)) {
+            int oldRate = elementConsumptionRates.getInt(element);
+            int oldChannel = elementConsumptionChannels.getInt(element);
+            if (oldRate == rate && oldChannel == channel) {
+                return rate;
+            }
+            removeConsumptionRate(element);
+        }
+        elementConsumptionRates.put(element, rate);
+        elementConsumptionChannels.put(element, channel);
+        channelConsumptionRates.addTo(channel, rate);
+        return rate;
+    }
+
+    protected void removeConsumptionRate(INetworkElement element) {
+        if (elementConsumptionRates.containsKey(element)) {
+            int rate = elementConsumptionRates.removeInt(element);
+            int channel = elementConsumptionChannels.removeInt(element);
+            channelConsumptionRates.addTo(channel, -rate);
+        }
+    }
+
+    @Override
+    public void removeNetworkElementPost(INetworkElement element) {
+        super.removeNetworkElementPost(element);
+        removeConsumptionRate(element);
+    }
+
+    @Override
+    public void afterUpdate() {
+        refundEnergyBuffers();
+    }
+
+    @Override
+    public void kill() {
+        super.kill();
+        // Return the buffered energy to the batteries that are still available.
+        refundEnergyBuffers();
+        energyBuffers.clear();
+    }
+
+    @Override
+    public void beforeServerStop() {
+        super.beforeServerStop();
+        refundEnergyBuffers();
+    }
+
     @Override
     public int getConsumptionRate() {
         int multiplier = GeneralConfig.energyConsumptionMultiplier;
@@ -10,6 +10,7 @@ import it.unimi.dsi.fastutil.ints.IntLinkedOpenHashSet;
 import it.unimi.dsi.fastutil.ints.IntSet;
 import net.minecraftforge.fml.common.FMLCommonHandler;
 import org.cyclops.commoncapabilities.api.capability.inventorystate.IInventoryState;
+import org.cyclops.cyclopscore.datastructure.DimPos;
 import org.cyclops.cyclopscore.helper.TileHelpers;
 import org.cyclops.cyclopscore.ingredient.collection.diff.IngredientCollectionDiff;
 import org.cyclops.cyclopscore.ingredient.collection.diff.IngredientCollectionDiffManager;
@@ -18,11 +19,11 @@ import org.cyclops.integrateddynamics.GeneralConfig;
 import org.cyclops.integrateddynamics.api.ingredient.IIngredientComponentStorageObservable;
 import org.cyclops.integrateddynamics.api.network.IPositionedAddonsNetworkIngredients;
 import org.cyclops.integrateddynamics.api.part.PartPos;
-import org.cyclops.integrateddynamics.api.part.PartTarget;
 import org.cyclops.integrateddynamics.api.part.PrioritizedPartPos;
-import org.cyclops.integrateddynamics.core.network.diagnostics.NetworkDiagnostics;
 
 import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -51,6 +52,9 @@ public class IngredientObserver<T, M> {
 
     private final Int2ObjectMap<List<PrioritizedPartPos>> lastRemoved;
     private final Map<PartPos, Integer> lastInventoryStates;
+    private final Set<DimPos> dirtyPositions;
+    private final Set<DimPos> notifyingPositions;
+    private final Set<DimPos> unreliablePositions;
     private Future<?> lastObserverBarrier;
 
     public IngredientObserver(IPositionedAddonsNetworkIngredients<T, M> network) {
@@ -61,6 +65,9 @@ public class IngredientObserver<T, M> {
         this.channeledDiffManagers = new Int2ObjectOpenHashMap<>();
         this.lastRemoved = new Int2ObjectOpenHashMap<>();
         this.lastInventoryStates = Maps.newHashMap();
+        this.dirtyPositions = Sets.newConcurrentHashSet();
+        this.notifyingPositions = Sets.newConcurrentHashSet();
+        this.unreliablePositions = Sets.newConcurrentHashSet();
 
         this.lastObserverBarrier = null;
     }
@@ -82,6 +89,75 @@ public class IngredientObserver<T, M> {
         }
         positions.add(pos);
         this.lastInventoryStates.remove(pos.getPartPos());
+        this.notifyingPositions.remove(pos.getPartPos().getPos());
+        this.unreliablePositions.remove(pos.getPartPos().getPos());
+    }
+
+    /**
+     * Indicate that the contents at the given position have changed.
+     * All positions at this block position will be observed in the next observation.
+     * @param pos A block position.
+     */
+    public void markDirty(DimPos pos) {
+        this.dirtyPositions.add(pos);
+    }
+
+    /**
+     * Update the notification state of the given position after it was observed.
+     * A position is only considered to notify its changes once a change of this ingredient component
+     * was detected right after it was marked dirty.
+     * If a change is ever detected without the position being marked dirty,
+     * it only notifies part of its changes for this ingredient component,
+     * so it will never be considered notifying again, and its regular polling interval is kept.
+     * @param pos A block position.
+     * @param dirty If the position was marked dirty before this observation.
+     * @param hasChanges If changes were detected in this observation.
+     */
+    protected void onObserved(DimPos pos, boolean dirty, boolean hasChanges) {
+        if (hasChanges) {
+            if (!dirty) {
+                this.unreliablePositions.add(pos);
+                this.notifyingPositions.remove(pos);
+            } else if (!this.unreliablePositions.contains(pos)) {
+                this.notifyingPositions.add(pos);
+            }
+        }
+    }
+
+    /**
+     * @param pos A block position.
+     * @return If the given position has been observed to notify its changes for this ingredient component.
+     */
+    public boolean isNotifying(DimPos pos) {
+        return this.notifyingPositions.contains(pos);
+    }
+
+    /**
+     * Determine the interval until the next observation of a position.
+     * Positions that notify us of their changes only have to be polled as a fallback
+     * as long as they do not change.
+     * @param pos A block position.
+     * @param tickInterval The adaptive tick interval of the position.
+     * @param hasChanges If changes were detected in this observation.
+     * @return The interval in ticks.
+     */
+    protected int getNextTickInterval(DimPos pos, int tickInterval, boolean hasChanges) {
+        if (!hasChanges && isNotifying(pos)) {
+            return Math.max(tickInterval, GeneralConfig.ingredientNetworkObserverFrequencyFallback);
+        }
+        return tickInterval;
+    }
+
+    protected Set<DimPos> drainDirtyPositions() {
+        if (this.dirtyPositions.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Set<DimPos> dirty = Sets.newHashSet();
+        for (Iterator<DimPos> it = this.dirtyPositions.iterator(); it.hasNext();) {
+            dirty.add(it.next());
+            it.remove();
+        }
+        return dirty;
     }
 
     /**
@@ -160,14 +236,16 @@ public class IngredientObserver<T, M> {
                 }
 
                 // Schedule the observation job
+                Set<DimPos> dirty = drainDirtyPositions();
                 this.lastObserverBarrier = WORKER_POOL.submit(() -> {
                     for (int channel : getChannels()) {
-                        observe(channel);
+                        observe(channel, dirty);
                     }
                 });
             } else {
+                Set<DimPos> dirty = drainDirtyPositions();
                 for (int channel : getChannels()) {
-                    observe(channel);
+                    observe(channel, dirty);
                 }
             }
         }
@@ -178,7 +256,7 @@ public class IngredientObserver<T, M> {
         return Sets.newHashSet(getNetwork().getPrioritizedPositions(channel));
     }
 
-    protected void observe(int channel) {
+    protected void observe(int channel, Set<DimPos> dirtyPositions) {
         int currentTick = getCurrentTick();
 
         // Prepare ticking collections
@@ -198,26 +276,18 @@ public class IngredientObserver<T, M> {
             this.channeledDiffManagers.put(channel, diffManagers);
         }
 
-        // Check if we should diagnoze the observer
-        boolean isBeingDiagnozed = NetworkDiagnostics.getInstance().isBeingDiagnozed();
-        Map<PartPos, Long> lastSecondDurations = network.getLastSecondDurationIndex();
-        if (!isBeingDiagnozed && !lastSecondDurations.isEmpty()) {
-            // Make sure we aren't using any unnecessary memory.
-            lastSecondDurations.clear();
-        }
+        PositionDurationStatistics lastSecondDurations = network instanceof PositionedAddonsNetworkIngredients
+                ? ((PositionedAddonsNetworkIngredients<T, M>) network).getLastSecondDurationStatistics() : null;
 
         // Emit diffs for all current positions
         Set<PrioritizedPartPos> positions = getPositionsCopy(channel);
         for (PrioritizedPartPos partPos : positions) {
-            // Get current time if diagnostics are enabled
-            long startTime = 0;
-            if (isBeingDiagnozed) {
-                startTime = System.nanoTime();
-            }
+            long startTime = System.nanoTime();
 
             // Check if we should observe this position in this tick
+            boolean dirty = dirtyPositions.contains(partPos.getPartPos().getPos());
             int lastTick = channelTargetTicks.getOrDefault(partPos.getPartPos(), currentTick);
-            if (lastTick <= currentTick) {
+            if (dirty || lastTick <= currentTick) {
                 // If an inventory state is exposed, check if it has changed since the last observation call.
                 boolean skipPosition = false;
 
@@ -280,12 +350,14 @@ public class IngredientObserver<T, M> {
                             tickInterval = Math.min(GeneralConfig.ingredientNetworkObserverFrequencyMax, tickInterval + GeneralConfig.ingredientNetworkObserverFrequencyIncreaseFactor);
                         }
                     }
+                    onObserved(partPos.getPartPos().getPos(), dirty, hasChanges);
+                    int nextTickInterval = getNextTickInterval(partPos.getPartPos().getPos(), tickInterval, hasChanges);
                     // No need to store the interval if it == 1, as the previous or default value will
                     // definitely also cause this part to tick in next tick.
                     // This makes these cases slightly faster, as no map updates are needed.
-                    if (tickInterval != 1) {
-                        channelTargetTicks.put(partPos.getPartPos(), currentTick + tickInterval);
-
+                    // Dirty positions may have been observed before their previous tick value, so this must be overwritten.
+                    if (nextTickInterval != 1 || dirty) {
+                        channelTargetTicks.put(partPos.getPartPos(), currentTick + nextTickInterval);
                     }
                     // Only update when the interval has changed.
                     // In most cases, this will remain the same.
@@ -299,15 +371,9 @@ public class IngredientObserver<T, M> {
                 }
             }
 
-            // Calculate duration if diagnostics are enabled
-            if (isBeingDiagnozed) {
-                long duration = System.nanoTime() - startTime;
-                PartPos interfacePos = PartTarget.fromCenter(partPos.getPartPos()).getTarget();
-                Long lastDuration = lastSecondDurations.get(interfacePos);
-                if (lastDuration != null) {
-                    duration = duration + lastDuration;
-                }
-                lastSecondDurations.put(interfacePos, duration);
+            // Positions are converted to interface positions when the durations are exported
+            if (lastSecondDurations != null) {
+                lastSecondDurations.record(partPos.getPartPos(), currentTick, System.nanoTime() - startTime);
             }
         }
 
@@ -3,6 +3,7 @@ package org.cyclops.integrateddynamics.core.network;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
@@ -11,7 +12,7 @@ import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.capabilities.CapabilityDispatcher;
 import org.apache.logging.log4j.Level;
-import org.cyclops.cyclopscore.datastructure.DimPos;
+import org.cyclops.cyclopscore.helper.MinecraftHelpers;
 import org.cyclops.cyclopscore.helper.TileHelpers;
 import org.cyclops.integrateddynamics.IntegratedDynamics;
 import org.cyclops.integrateddynamics.api.PartStateException;
@@ -30,7 +31,6 @@ import org.cyclops.integrateddynamics.api.path.ISidedPathElement;
 import org.cyclops.integrateddynamics.capability.network.NetworkCarrierConfig;
 import org.cyclops.integrateddynamics.capability.networkelementprovider.NetworkElementProviderConfig;
 import org.cyclops.integrateddynamics.capability.path.SidedPathElement;
-import org.cyclops.integrateddynamics.core.network.diagnostics.NetworkDiagnostics;
 import org.cyclops.integrateddynamics.core.network.event.NetworkElementAddEvent;
 import org.cyclops.integrateddynamics.core.network.event.NetworkElementRemoveEvent;
 import org.cyclops.integrateddynamics.core.network.event.NetworkEventBus;
@@ -38,12 +38,15 @@ import org.cyclops.integrateddynamics.core.path.Cluster;
 import org.cyclops.integrateddynamics.core.path.PathFinder;
 import org.cyclops.integrateddynamics.core.persist.world.NetworkWorldStorage;
 
+import javax.annotation.Nullable;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.function.Function;
 
 /**
  * A network instance that can hold a set of {@link INetworkElement}s.
@@ -54,15 +57,14 @@ public class Network implements INetwork {
 
     private Cluster baseCluster;
 
-    private final INetworkEventBus eventBus = new NetworkEventBus();
+    private final INetworkEventBus eventBus = new NetworkEventBus(this::onEvent);
     private final TreeSet<INetworkElement> elements = Sets.newTreeSet();
-    private TreeSet<INetworkElement> updateableElements = null;
-    private TreeMap<INetworkElement, Integer> updateableElementsTicks = null;
+    private NetworkElementUpdateScheduler updateScheduler = null;
     private TreeSet<INetworkElement> invalidatedElements = Sets.newTreeSet();
-    private Map<INetworkElement, Long> lastSecondDurations = Maps.newHashMap();
+    private TreeMap<INetworkElement, Integer> carriedElementTicks = null;
 
     private final CapabilityDispatcher capabilityDispatcher;
-    private IFullNetworkListener[] fullNetworkListeners;
+    private IFullNetworkListener[] fullNetworkListeners = new IFullNetworkListener[0];
 
     private NBTTagCompound toRead = null;
     private volatile boolean changed = false;
@@ -81,6 +83,122 @@ public class Network implements INetwork {
         return network;
     }
 
+    /**
+     * Join the given path element with the networks of its neighbours.
+     * The largest of these networks is retained, and all other networks are spliced into it,
+     * together with the given path element.
+     * @param sidedPathElement The sided path element to start from.
+     * @return The joined network, or null if a neighbour was not part of a valid network,
+     *         in which case {@link #initiateNetworkSetup(ISidedPathElement)} must be used.
+     */
+    @Nullable
+    public static Network joinNetworks(ISidedPathElement sidedPathElement) {
+        return joinNetworks(sidedPathElement, Network::getNetworkCarrierCapability);
+    }
+
+    /**
+     * Join the given path element with the networks of its neighbours.
+     * @param sidedPathElement The sided path element to start from.
+     * @param carrierGetter Function to look up the network carrier of path elements.
+     * @return The joined network, or null if a neighbour was not part of a valid network.
+     */
+    @Nullable
+    protected static Network joinNetworks(ISidedPathElement sidedPathElement,
+                                          Function<ISidedPathElement, INetworkCarrier> carrierGetter) {
+        Set<Network> networks = Sets.newIdentityHashSet();
+        Network headNetwork = getValidNetwork(sidedPathElement, carrierGetter);
+        if (headNetwork != null) {
+            networks.add(headNetwork);
+        }
+        for (ISidedPathElement neighbour : sidedPathElement.getPathElement().getReachableElements()) {
+            Network network = getValidNetwork(neighbour, carrierGetter);
+            if (network == null) {
+                return null;
+            }
+            networks.add(network);
+        }
+        if (networks.isEmpty()) {
+            return null;
+        }
+
+        Network target = null;
+        for (Network network : networks) {
+            if (target == null || network.getCablesCount() > target.getCablesCount()) {
+                target = network;
+            }
+        }
+        for (Network network : networks) {
+            if (network != target) {
+                target.addPathElements(Lists.newArrayList(network.baseCluster));
+                network.killIfEmpty();
+            }
+        }
+        if (!target.containsSidedPathElement(sidedPathElement)) {
+            target.addPathElements(Collections.singletonList(sidedPathElement));
+        }
+        return target;
+    }
+
+    /**
+     * Split the networks of the given path elements after connections between them were removed.
+     * Only the parts that became disconnected are explored, and these will be moved into new networks.
+     * @param heads The sided path elements that were connected via the removed connections.
+     * @return If splitting succeeded, otherwise {@link #initiateNetworkSetup(ISidedPathElement)}
+     *         must be used for all heads.
+     */
+    public static boolean splitNetworks(List<ISidedPathElement> heads) {
+        return splitNetworks(heads, Network::getNetworkCarrierCapability, cluster -> {
+            Network network = new Network(cluster);
+            NetworkWorldStorage.getInstance(IntegratedDynamics._instance).addNewNetwork(network);
+            return network;
+        });
+    }
+
+    /**
+     * Split the networks of the given path elements after connections between them were removed.
+     * @param heads The sided path elements that were connected via the removed connections.
+     * @param carrierGetter Function to look up the network carrier of path elements.
+     * @param networkFactory Function to create a new network for a disconnected cluster.
+     * @return If splitting succeeded.
+     */
+    protected static boolean splitNetworks(List<ISidedPathElement> heads,
+                                           Function<ISidedPathElement, INetworkCarrier> carrierGetter,
+                                           Function<Cluster, Network> networkFactory) {
+        Map<Network, List<ISidedPathElement>> networkHeads = Maps.newIdentityHashMap();
+        for (ISidedPathElement head : heads) {
+            Network network = getValidNetwork(head, carrierGetter);
+            if (network == null) {
+                return false;
+            }
+            networkHeads.computeIfAbsent(network, n -> Lists.newArrayList()).add(head);
+        }
+        for (List<ISidedPathElement> currentHeads : networkHeads.values()) {
+            for (Cluster cluster : PathFinder.getDisconnectedClusters(currentHeads)) {
+                networkFactory.apply(cluster).initialize();
+            }
+        }
+        return true;
+    }
+
+    @Nullable
+    private static INetworkCarrier getNetworkCarrierCapability(ISidedPathElement sidedPathElement) {
+        return (INetworkCarrier) TileHelpers.getCapability(sidedPathElement.getPathElement().getPosition(),
+                sidedPathElement.getSide(), NetworkCarrierConfig.CAPABILITY);
+    }
+
+    @Nullable
+    private static Network getValidNetwork(ISidedPathElement sidedPathElement,
+                                           Function<ISidedPathElement, INetworkCarrier> carrierGetter) {
+        INetworkCarrier networkCarrier = carrierGetter.apply(sidedPathElement);
+        if (networkCarrier != null && networkCarrier.getNetwork() instanceof Network) {
+            Network network = (Network) networkCarrier.getNetwork();
+            if (network.isInitialized() && !network.isKilled() && network.containsSidedPathElement(sidedPathElement)) {
+                return network;
+            }
+        }
+        return null;
+    }
+
     /**
      * Check if two networks are equal.
      * @param networkA A network.
@@ -137,36 +255,113 @@ public class Network implements INetwork {
     private void deriveNetworkElements(Cluster pathElements) {
         if(!killIfEmpty()) {
             for (ISidedPathElement sidedPathElement : pathElements) {
-                World world = sidedPathElement.getPathElement().getPosition().getWorld();
-                BlockPos pos = sidedPathElement.getPathElement().getPosition().getBlockPos();
-                EnumFacing side = sidedPathElement.getSide();
-                INetworkCarrier networkCarrier = TileHelpers.getCapability(
-                        world, pos, side, NetworkCarrierConfig.CAPABILITY);
-                if (networkCarrier != null) {
-                    // Correctly remove any previously saved network in this carrier
-                    // and set the new network to this.
-                    INetwork network = networkCarrier.getNetwork();
-                    if (network != null) {
-                        network.removePathElement(sidedPathElement.getPathElement(), side);
-                    }
-                    networkCarrier.setNetwork(null);
-                    networkCarrier.setNetwork(this);
+                transferPathElement(sidedPathElement, true, null);
+            }
+            onNetworkChanged();
+        }
+    }
+
+    /**
+     * Move the given path element and the network elements it provides to this network.
+     * If the path element was part of another network, it will be removed from it,
+     * and the tick state of its network elements will be retained.
+     * @param sidedPathElement The sided path element.
+     * @param networkPreinit If the network is still in its initialization phase.
+     * @param addedElements An optional list to which the added network elements will be appended.
+     */
+    private void transferPathElement(ISidedPathElement sidedPathElement, boolean networkPreinit,
+                                     @Nullable List<INetworkElement> addedElements) {
+        EnumFacing side = sidedPathElement.getSide();
+        Collection<INetworkElement> networkElements = createNetworkElements(sidedPathElement);
+        if (networkElements == null) {
+            networkElements = Collections.emptyList();
+        }
+        INetworkCarrier networkCarrier = getNetworkCarrier(sidedPathElement);
+        if (networkCarrier != null) {
+            // Correctly remove any previously saved network in this carrier
+            // and set the new network to this.
+            INetwork network = networkCarrier.getNetwork();
+            if (network != null) {
+                if (network != this && network instanceof Network) {
+                    ((Network) network).carryElementTicks(networkElements, this);
                 }
-                INetworkElementProvider networkElementProvider = TileHelpers.getCapability(
-                        world, pos, side, NetworkElementProviderConfig.CAPABILITY);
-                if (networkElementProvider != null) {
-                    for(INetworkElement element : networkElementProvider.createNetworkElements(world, pos)) {
-                        addNetworkElement(element, true);
+                network.removePathElement(sidedPathElement.getPathElement(), side);
+            }
+            networkCarrier.setNetwork(null);
+            networkCarrier.setNetwork(this);
+        }
+        for(INetworkElement element : networkElements) {
+            if (addNetworkElement(element, networkPreinit) && addedElements != null) {
+                addedElements.add(element);
+            }
+        }
+    }
+
+    /**
+     * Create the network elements that are provided at the position of the given path element.
+     * @param sidedPathElement The sided path element.
+     * @return The network elements, or null if no network element provider is present.
+     */
+    @Nullable
+    protected Collection<INetworkElement> createNetworkElements(ISidedPathElement sidedPathElement) {
+        World world = sidedPathElement.getPathElement().getPosition().getWorld();
+        BlockPos pos = sidedPathElement.getPathElement().getPosition().getBlockPos();
+        INetworkElementProvider networkElementProvider = TileHelpers.getCapability(
+                world, pos, sidedPathElement.getSide(), NetworkElementProviderConfig.CAPABILITY);
+        return networkElementProvider != null ? networkElementProvider.createNetworkElements(world, pos) : null;
+    }
+
+    /**
+     * @param sidedPathElement The sided path element.
+     * @return The network carrier at the position of the given path element.
+     */
+    @Nullable
+    protected INetworkCarrier getNetworkCarrier(ISidedPathElement sidedPathElement) {
+        return getNetworkCarrierCapability(sidedPathElement);
+    }
+
+    /**
+     * Remember the update ticks of the given elements of this network in the target network.
+     * @param elements The network elements.
+     * @param target The network the elements will be moved to.
+     */
+    private void carryElementTicks(Collection<INetworkElement> elements, Network target) {
+        if (updateScheduler != null) {
+            for (INetworkElement element : elements) {
+                Integer tick = updateScheduler.getRemainingTicks(element);
+                if (tick != null) {
+                    if (target.carriedElementTicks == null) {
+                        target.carriedElementTicks = Maps.newTreeMap();
                     }
+                    target.carriedElementTicks.put(element, tick);
                 }
             }
-            onNetworkChanged();
         }
     }
 
+    /**
+     * Add the given path elements to this initialized network.
+     * They will be removed from the networks they were part of before,
+     * while their network elements are moved to this network.
+     * @param pathElements The sided path elements.
+     */
+    protected void addPathElements(Collection<ISidedPathElement> pathElements) {
+        List<INetworkElement> addedElements = Lists.newArrayList();
+        for (ISidedPathElement sidedPathElement : pathElements) {
+            baseCluster.add(sidedPathElement);
+            transferPathElement(sidedPathElement, false, addedElements);
+        }
+        carriedElementTicks = null;
+        for (INetworkElement element : addedElements) {
+            element.afterNetworkAlive(this);
+            element.afterNetworkReAlive(this);
+        }
+        onNetworkChanged();
+    }
+
     @Override
     public boolean isInitialized() {
-        return updateableElements != null;
+        return updateScheduler != null;
     }
 
     @Override
@@ -251,8 +446,8 @@ public class Network implements INetwork {
     @Override
     public void addNetworkElementUpdateable(INetworkElement element) {
         if(element.isUpdate()) {
-            updateableElements.add(element);
-            updateableElementsTicks.put(element, 0);
+            Integer tick = carriedElementTicks != null ? carriedElementTicks.remove(element) : null;
+            updateScheduler.add(element, tick != null ? tick : 0);
         }
     }
 
@@ -271,8 +466,7 @@ public class Network implements INetwork {
         elements.remove(element);
         Integer oldTickValue = null;
         if (element.isUpdate()) {
-            updateableElements.remove(element);
-            oldTickValue = updateableElementsTicks.remove(element);
+            oldTickValue = updateScheduler.remove(element);
         }
 
         //noinspection deprecation
@@ -280,10 +474,7 @@ public class Network implements INetwork {
 
         elements.add(element);
         if (element.isUpdate()) {
-            updateableElements.add(element);
-            if (oldTickValue != null) {
-                updateableElementsTicks.put(element, oldTickValue);
-            }
+            updateScheduler.add(element, oldTickValue != null ? oldTickValue : 0);
         }
     }
 
@@ -310,8 +501,7 @@ public class Network implements INetwork {
 
     @Override
     public synchronized void removeNetworkElementUpdateable(INetworkElement element) {
-        updateableElements.remove(element);
-        updateableElementsTicks.remove(element);
+        updateScheduler.remove(element);
     }
 
     /**
@@ -319,8 +509,7 @@ public class Network implements INetwork {
      * @param silent If the element should not be notified for the network becoming alive.
      */
     protected void initialize(boolean silent) {
-        updateableElements = Sets.newTreeSet();
-        updateableElementsTicks = Maps.newTreeMap();
+        updateScheduler = new NetworkElementUpdateScheduler();
         for(INetworkElement element : elements) {
             addNetworkElementUpdateable(element);
             if(!silent) {
@@ -328,6 +517,7 @@ public class Network implements INetwork {
             }
             element.afterNetworkReAlive(this);
         }
+        carriedElementTicks = null;
     }
 
     @Override
@@ -389,48 +579,71 @@ public class Network implements INetwork {
             onUpdate();
 
             // Update updateable network elements
-            boolean isBeingDiagnozed = NetworkDiagnostics.getInstance().isBeingDiagnozed();
-            if (!isBeingDiagnozed && !lastSecondDurations.isEmpty()) {
-                // Make sure we aren't using any unnecessary memory.
-                lastSecondDurations.clear();
+            if (updateScheduler.getCurrentTick() % MinecraftHelpers.SECOND_IN_TICKS == 0) {
+                updateScheduler.getStatistics().roll();
+            }
+            // All elements are checked each tick, so that listeners such as the energy network can notify them,
+            // but only the due elements are actually updated.
+            IntArrayList dueElements = updateScheduler.nextTick();
+            int size = updateScheduler.size();
+            int dueIndex = 0;
+            for (int index = 0; index < size; index++) {
+                boolean due = dueIndex < dueElements.size() && dueElements.getInt(dueIndex) == index;
+                if (due) {
+                    dueIndex++;
+                }
+                updateElement(index, due);
             }
-            for (INetworkElement element : updateableElements) {
-                try {
-                    if (isValid(element)) {
-                        long startTime = 0;
-                        if (isBeingDiagnozed) {
-                            startTime = System.nanoTime();
-                        }
-                        int lastElementTick = updateableElementsTicks.getOrDefault(element, 0);
-                        if (canUpdate(element)) {
-                            if (lastElementTick <= 0) {
-                                updateableElementsTicks.put(element, element.getUpdateInterval() - 1);
-                                element.update(this);
-                                postUpdate(element);
-                            } else {
-                                updateableElementsTicks.put(element, lastElementTick - 1);
-                            }
-                        } else {
-                            onSkipUpdate(element);
-                            updateableElementsTicks.put(element, lastElementTick - 1);
-                        }
-                        if (isBeingDiagnozed) {
-                            long duration = System.nanoTime() - startTime;
-                            Long lastDuration = lastSecondDurations.get(element);
-                            if (lastDuration != null) {
-                                duration = duration + lastDuration;
-                            }
-                            lastSecondDurations.put(element, duration);
-                        }
+
+            onAfterUpdate();
+        }
+    }
+
+    /**
+     * Check the element at the given index, and update it if it is due.
+     * @param index An element index.
+     * @param due If the element must be updated in this tick.
+     */
+    protected void updateElement(int index, boolean due) {
+        INetworkElement element = updateScheduler.getElement(index);
+        if (element == null) {
+            return; // The element was removed during this tick
+        }
+        // Invalid elements and elements that could not be updated are retried in the next tick.
+        int delay = 1;
+        try {
+            if (isValid(element)) {
+                long startTime = System.nanoTime();
+                if (canUpdate(element)) {
+                    if (due) {
+                        delay = element.getUpdateInterval();
+                        element.update(this);
+                        postUpdate(element);
+                        updateScheduler.getStatistics().recordUpdate(index, System.nanoTime() - startTime);
                     }
-                } catch (PartStateException e) {
-                    IntegratedDynamics.clog(Level.WARN, "Attempted to tick a part that was not properly unloaded. " +
-                            "Report this to the Integrated Dynamics issue tracker with details on what you did " +
-                            "leading up to this stacktrace. The part was forcefully unloaded");
-                    e.printStackTrace();
-                    element.invalidate(this);
+                } else {
+                    onSkipUpdate(element);
+                    updateScheduler.getStatistics().recordSkip(index);
                 }
             }
+        } catch (PartStateException e) {
+            IntegratedDynamics.clog(Level.WARN, "Attempted to tick a part that was not properly unloaded. " +
+                    "Report this to the Integrated Dynamics issue tracker with details on what you did " +
+                    "leading up to this stacktrace. The part was forcefully unloaded");
+            e.printStackTrace();
+            element.invalidate(this);
+        } finally {
+            if (due) {
+                updateScheduler.reschedule(index, delay);
+            }
+        }
+    }
+
+    protected void onEvent(INetworkEvent event) {
+        if (this.fullNetworkListeners != null) {
+            for (IFullNetworkListener fullNetworkListener : this.fullNetworkListeners) {
+                fullNetworkListener.onEvent(event);
+            }
         }
     }
 
@@ -440,6 +653,12 @@ public class Network implements INetwork {
         }
     }
 
+    protected void onAfterUpdate() {
+        for (IFullNetworkListener fullNetworkListener : this.fullNetworkListeners) {
+            fullNetworkListener.afterUpdate();
+        }
+    }
+
     @Override
     public synchronized boolean removePathElement(IPathElement pathElement, EnumFacing side) {
         for (IFullNetworkListener fullNetworkListener : this.fullNetworkListeners) {
@@ -448,12 +667,8 @@ public class Network implements INetwork {
             }
         }
         if(baseCluster.remove(SidedPathElement.of(pathElement, null))) {
-            DimPos position = pathElement.getPosition();
-            INetworkElementProvider networkElementProvider = (INetworkElementProvider) TileHelpers.getCapability(
-                    position, side, NetworkElementProviderConfig.CAPABILITY);
-            if (networkElementProvider != null) {
-                Collection<INetworkElement> networkElements = networkElementProvider.
-                        createNetworkElements(position.getWorld(), position.getBlockPos());
+            Collection<INetworkElement> networkElements = createNetworkElements(SidedPathElement.of(pathElement, side));
+            if (networkElements != null) {
                 for (INetworkElement networkElement : networkElements) {
                     if(!removeNetworkElementPre(networkElement)) {
                         return false;
@@ -519,13 +734,40 @@ public class Network implements INetwork {
 
     @Override
     public long getLastSecondDuration(INetworkElement networkElement) {
-        Long duration = lastSecondDurations.get(networkElement);
-        return duration == null ? 0 : duration;
+        return updateScheduler == null ? 0 : updateScheduler.getStatistics()
+                .getLastDuration(updateScheduler.getIndex(networkElement));
+    }
+
+    /**
+     * @param networkElement A network element.
+     * @return The number of times the given element was updated in the last second.
+     */
+    public int getLastSecondUpdates(INetworkElement networkElement) {
+        return updateScheduler == null ? 0 : updateScheduler.getStatistics()
+                .getLastUpdates(updateScheduler.getIndex(networkElement));
+    }
+
+    /**
+     * @param networkElement A network element.
+     * @return The number of times the given element could not be updated in the last second.
+     */
+    public int getLastSecondSkips(INetworkElement networkElement) {
+        return updateScheduler == null ? 0 : updateScheduler.getStatistics()
+                .getLastSkips(updateScheduler.getIndex(networkElement));
+    }
+
+    /**
+     * @return The histogram of element update durations in the last second,
+     *         as defined by {@link NetworkElementStatistics}.
+     */
+    public int[] getLastSecondUpdateHistogram() {
+        return updateScheduler == null ? new int[NetworkElementStatistics.HISTOGRAM_BUCKETS]
+                : updateScheduler.getStatistics().getLastHistogram();
     }
 
     @Override
     public void resetLastSecondDurations() {
-        lastSecondDurations.clear();
+        // Statistics windows are rolled automatically every second in update().
     }
 
     @Override
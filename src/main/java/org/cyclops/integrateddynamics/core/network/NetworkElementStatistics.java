@@ -0,0 +1,158 @@
+package org.cyclops.integrateddynamics.core.network;
+
+import java.util.Arrays;
+
+/**
+ * Allocation-free update statistics for the network elements in a {@link NetworkElementUpdateScheduler}.
+ *
+ * Statistics are stored in primitive arrays that are indexed by scheduler element index,
+ * and are kept in two windows: the window that is currently being recorded, and the last completed window.
+ * Next to that, a histogram of update durations is kept for the whole network,
+ * where bucket i counts the updates that took between 2^i and 2^(i+1) nanoseconds.
+ * @author rubensworks
+ */
+public class NetworkElementStatistics {
+
+    public static final int HISTOGRAM_BUCKETS = 32;
+
+    private long[] durations = new long[0];
+    private int[] updates = new int[0];
+    private int[] skips = new int[0];
+    private long[] lastDurations = new long[0];
+    private int[] lastUpdates = new int[0];
+    private int[] lastSkips = new int[0];
+    private int[] histogram = new int[HISTOGRAM_BUCKETS];
+    private int[] lastHistogram = new int[HISTOGRAM_BUCKETS];
+
+    protected void ensureCapacity(int index) {
+        if (index >= durations.length) {
+            int capacity = Math.max(16, Math.max(index + 1, durations.length * 2));
+            durations = Arrays.copyOf(durations, capacity);
+            updates = Arrays.copyOf(updates, capacity);
+            skips = Arrays.copyOf(skips, capacity);
+            lastDurations = Arrays.copyOf(lastDurations, capacity);
+            lastUpdates = Arrays.copyOf(lastUpdates, capacity);
+            lastSkips = Arrays.copyOf(lastSkips, capacity);
+        }
+    }
+
+    /**
+     * Record an update of an element.
+     * @param index The element index.
+     * @param duration The update duration in nanoseconds.
+     */
+    public void recordUpdate(int index, long duration) {
+        ensureCapacity(index);
+        durations[index] += duration;
+        updates[index]++;
+        histogram[getHistogramBucket(duration)]++;
+    }
+
+    /**
+     * Record a skipped update of an element, because it could not be updated.
+     * @param index The element index.
+     */
+    public void recordSkip(int index) {
+        ensureCapacity(index);
+        skips[index]++;
+    }
+
+    /**
+     * Make the current window the last window, and start a new current window.
+     */
+    public void roll() {
+        long[] durations = this.lastDurations;
+        this.lastDurations = this.durations;
+        this.durations = durations;
+        Arrays.fill(durations, 0);
+
+        int[] updates = this.lastUpdates;
+        this.lastUpdates = this.updates;
+        this.updates = updates;
+        Arrays.fill(updates, 0);
+
+        int[] skips = this.lastSkips;
+        this.lastSkips = this.skips;
+        this.skips = skips;
+        Arrays.fill(skips, 0);
+
+        int[] histogram = this.lastHistogram;
+        this.lastHistogram = this.histogram;
+        this.histogram = histogram;
+        Arrays.fill(histogram, 0);
+    }
+
+    /**
+     * Move the statistics to new element indexes.
+     * @param oldIndexes The old index for each new index.
+     * @param size The number of new indexes.
+     */
+    public void reorder(int[] oldIndexes, int size) {
+        long[] newDurations = new long[Math.max(16, size)];
+        int[] newUpdates = new int[newDurations.length];
+        int[] newSkips = new int[newDurations.length];
+        long[] newLastDurations = new long[newDurations.length];
+        int[] newLastUpdates = new int[newDurations.length];
+        int[] newLastSkips = new int[newDurations.length];
+        for (int i = 0; i < size; i++) {
+            int oldIndex = oldIndexes[i];
+            if (oldIndex < durations.length) {
+                newDurations[i] = durations[oldIndex];
+                newUpdates[i] = updates[oldIndex];
+                newSkips[i] = skips[oldIndex];
+                newLastDurations[i] = lastDurations[oldIndex];
+                newLastUpdates[i] = lastUpdates[oldIndex];
+                newLastSkips[i] = lastSkips[oldIndex];
+            }
+        }
+        durations = newDurations;
+        updates = newUpdates;
+        skips = newSkips;
+        lastDurations = newLastDurations;
+        lastUpdates = newLastUpdates;
+        lastSkips = newLastSkips;
+    }
+
+    /**
+     * @param index An element index.
+     * @return The total update duration of the element in the last window, in nanoseconds.
+     */
+    public long getLastDuration(int index) {
+        return index >= 0 && index < lastDurations.length ? lastDurations[index] : 0;
+    }
+
+    /**
+     * @param index An element index.
+     * @return The number of updates of the element in the last window.
+     */
+    public int getLastUpdates(int index) {
+        return index >= 0 && index < lastUpdates.length ? lastUpdates[index] : 0;
+    }
+
+    /**
+     * @param index An element index.
+     * @return The number of skipped updates of the element in the last window.
+     */
+    public int getLastSkips(int index) {
+        return index >= 0 && index < lastSkips.length ? lastSkips[index] : 0;
+    }
+
+    /**
+     * @return A copy of the update duration histogram of the last window.
+     */
+    public int[] getLastHistogram() {
+        return lastHistogram.clone();
+    }
+
+    /**
+     * @param duration A duration in nanoseconds.
+     * @return The histogram bucket for the given duration.
+     */
+    public static int getHistogramBucket(long duration) {
+        if (duration <= 1) {
+            return 0;
+        }
+        return Math.min(HISTOGRAM_BUCKETS - 1, 63 - Long.numberOfLeadingZeros(duration));
+    }
+
+}
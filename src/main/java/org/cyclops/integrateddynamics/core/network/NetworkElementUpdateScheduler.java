@@ -0,0 +1,217 @@
+package org.cyclops.integrateddynamics.core.network;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntRBTreeMap;
+import it.unimi.dsi.fastutil.objects.Object2IntSortedMap;
+import org.cyclops.integrateddynamics.api.network.INetworkElement;
+
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * A hashed timer wheel that determines which updateable network elements are due in each network tick.
+ *
+ * Each tick only touches the elements that are due, and rescheduling an element is a constant-time operation.
+ * Due elements are always returned in the natural order of the network elements.
+ * @author rubensworks
+ */
+public class NetworkElementUpdateScheduler {
+
+    private static final int WHEEL_SIZE = 64;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int REMOVED = Integer.MIN_VALUE;
+
+    private final Object2IntSortedMap<INetworkElement> indices = new Object2IntRBTreeMap<>();
+    private final IntArrayList[] wheel = new IntArrayList[WHEEL_SIZE];
+    private final IntArrayList due = new IntArrayList();
+    private final NetworkElementStatistics statistics = new NetworkElementStatistics();
+    private INetworkElement[] elements = new INetworkElement[0];
+    private int[] dueTicks = new int[0];
+    private int size = 0;
+    private int currentTick = 0;
+    private boolean dirty = false;
+
+    public NetworkElementUpdateScheduler() {
+        indices.defaultReturnValue(-1);
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = new IntArrayList();
+        }
+    }
+
+    /**
+     * @return The scheduled elements.
+     */
+    public Set<INetworkElement> getElements() {
+        return indices.keySet();
+    }
+
+    /**
+     * @return The update statistics, indexed by element index.
+     */
+    public NetworkElementStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * @return The current tick of this scheduler.
+     */
+    public int getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * @param element A network element.
+     * @return The current index of the element, or -1 if it is not present.
+     */
+    public int getIndex(INetworkElement element) {
+        return indices.getInt(element);
+    }
+
+    /**
+     * @param element A network element.
+     * @return If the element is scheduled.
+     */
+    public boolean contains(INetworkElement element) {
+        return indices.containsKey(element);
+    }
+
+    /**
+     * Add an element.
+     * @param element The network element.
+     * @param remainingTicks The number of network ticks to skip before the element is due.
+     */
+    public void add(INetworkElement element, int remainingTicks) {
+        if (indices.containsKey(element)) {
+            remove(element);
+        }
+        if (size == elements.length) {
+            int capacity = Math.max(16, size * 2);
+            elements = Arrays.copyOf(elements, capacity);
+            dueTicks = Arrays.copyOf(dueTicks, capacity);
+        }
+        int index = size++;
+        elements[index] = element;
+        indices.put(element, index);
+        schedule(index, currentTick + 1 + remainingTicks);
+        dirty = true;
+    }
+
+    /**
+     * Remove an element.
+     * @param element The network element.
+     * @return The number of network ticks the element still had to skip, or null if it was not present.
+     */
+    public Integer remove(INetworkElement element) {
+        int index = indices.removeInt(element);
+        if (index < 0) {
+            return null;
+        }
+        int remainingTicks = dueTicks[index] - currentTick - 1;
+        elements[index] = null;
+        dueTicks[index] = REMOVED;
+        dirty = true;
+        return remainingTicks;
+    }
+
+    /**
+     * @param element A network element.
+     * @return The number of network ticks the element still has to skip, or null if it is not present.
+     */
+    public Integer getRemainingTicks(INetworkElement element) {
+        int index = indices.getInt(element);
+        return index < 0 ? null : dueTicks[index] - currentTick - 1;
+    }
+
+    /**
+     * Advance to the next network tick and determine the elements that are due.
+     * Each due element must be rescheduled via {@link #reschedule(int, int)}.
+     * @return The indexes of the due elements, in the natural element order.
+     *         This list is reused on the next tick.
+     */
+    public IntArrayList nextTick() {
+        currentTick++;
+        if (dirty) {
+            rebuild();
+        }
+
+        due.clear();
+        IntArrayList slot = wheel[currentTick & WHEEL_MASK];
+        int[] entries = slot.elements();
+        int kept = 0;
+        for (int i = 0; i < slot.size(); i++) {
+            int index = entries[i];
+            int dueTick = dueTicks[index];
+            if (dueTick == currentTick) {
+                due.add(index);
+            } else if (dueTick > currentTick && (dueTick & WHEEL_MASK) == (currentTick & WHEEL_MASK)) {
+                entries[kept++] = index; // Due in a later round of the wheel
+            }
+            // Otherwise the entry is stale because the element was rescheduled or removed.
+        }
+        slot.size(kept);
+        IntArrays.quickSort(due.elements(), 0, due.size());
+        return due;
+    }
+
+    /**
+     * @return The number of element indexes, including removed elements until the next tick.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param index An element index.
+     * @return The element at the given index, or null if it was removed.
+     */
+    public INetworkElement getElement(int index) {
+        return elements[index];
+    }
+
+    /**
+     * Schedule the element at the given index again.
+     * @param index An element index, as returned by {@link #nextTick()}.
+     * @param delay The number of ticks after the current tick at which the element must be due again.
+     */
+    public void reschedule(int index, int delay) {
+        if (dueTicks[index] != REMOVED) {
+            schedule(index, currentTick + Math.max(1, delay));
+        }
+    }
+
+    protected void schedule(int index, int dueTick) {
+        dueTicks[index] = dueTick;
+        wheel[dueTick & WHEEL_MASK].add(index);
+    }
+
+    /**
+     * Compact the elements into the natural element order, and rebuild the wheel.
+     */
+    protected void rebuild() {
+        INetworkElement[] newElements = new INetworkElement[Math.max(16, indices.size())];
+        int[] newDueTicks = new int[newElements.length];
+        int[] oldIndexes = new int[newElements.length];
+        int newSize = 0;
+        for (Object2IntMap.Entry<INetworkElement> entry : indices.object2IntEntrySet()) {
+            newElements[newSize] = entry.getKey();
+            newDueTicks[newSize] = Math.max(currentTick, dueTicks[entry.getIntValue()]);
+            oldIndexes[newSize] = entry.getIntValue();
+            entry.setValue(newSize);
+            newSize++;
+        }
+        elements = newElements;
+        dueTicks = newDueTicks;
+        size = newSize;
+        statistics.reorder(oldIndexes, size);
+        for (IntArrayList slot : wheel) {
+            slot.clear();
+        }
+        for (int i = 0; i < size; i++) {
+            wheel[dueTicks[i] & WHEEL_MASK].add(i);
+        }
+        dirty = false;
+    }
+
+}
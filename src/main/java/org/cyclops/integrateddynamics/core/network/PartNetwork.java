@@ -1,24 +1,29 @@
 package org.cyclops.integrateddynamics.core.network;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import lombok.Getter;
 import lombok.Setter;
 import net.minecraft.util.EnumFacing;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.Level;
 import org.cyclops.cyclopscore.datastructure.CompositeMap;
 import org.cyclops.cyclopscore.datastructure.DimPos;
+import org.cyclops.cyclopscore.helper.L10NHelpers;
 import org.cyclops.cyclopscore.helper.TileHelpers;
 import org.cyclops.integrateddynamics.IntegratedDynamics;
 import org.cyclops.integrateddynamics.api.block.IVariableContainer;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
 import org.cyclops.integrateddynamics.api.item.IVariableFacade;
 import org.cyclops.integrateddynamics.api.network.FullNetworkListenerAdapter;
 import org.cyclops.integrateddynamics.api.network.INetwork;
 import org.cyclops.integrateddynamics.api.network.INetworkElement;
 import org.cyclops.integrateddynamics.api.network.IPartNetwork;
+import org.cyclops.integrateddynamics.api.network.event.INetworkEvent;
 import org.cyclops.integrateddynamics.api.part.IPartContainer;
 import org.cyclops.integrateddynamics.api.part.IPartState;
 import org.cyclops.integrateddynamics.api.part.IPartType;
@@ -28,7 +33,11 @@ import org.cyclops.integrateddynamics.api.part.read.IPartStateReader;
 import org.cyclops.integrateddynamics.api.part.read.IPartTypeReader;
 import org.cyclops.integrateddynamics.api.path.IPathElement;
 import org.cyclops.integrateddynamics.capability.variablecontainer.VariableContainerConfig;
+import org.cyclops.integrateddynamics.core.evaluate.expression.LazyExpressionValueCache;
 import org.cyclops.integrateddynamics.core.helper.PartHelpers;
+import org.cyclops.integrateddynamics.core.network.event.VariableContentsUpdatedEvent;
+
+import javax.annotation.Nullable;
 
 import java.util.Iterator;
 import java.util.List;
@@ -47,8 +56,9 @@ public class PartNetwork extends FullNetworkListenerAdapter implements IPartNetw
     private Int2ObjectMap<PartPos> partPositions = new Int2ObjectOpenHashMap<>();
     private List<DimPos> variableContainerPositions = Lists.newArrayList();
     private Map<Integer, IVariableFacade> compositeVariableCache = null;
-    private Int2ObjectMap<IValue> lazyExpressionValueCache = new Int2ObjectOpenHashMap<>();
+    private final LazyExpressionValueCache lazyExpressionValueCache = new LazyExpressionValueCache();
     private Int2ObjectMap<DimPos> proxyPositions = new Int2ObjectOpenHashMap<>();
+    private final Map<Pair<Integer, IValueType>, List<L10NHelpers.UnlocalizedString>> validationResults = Maps.newConcurrentMap();
 
     private volatile boolean partsChanged = false;
 
@@ -58,6 +68,7 @@ public class PartNetwork extends FullNetworkListenerAdapter implements IPartNetw
             return false;
         }
         compositeVariableCache = null;
+        invalidateValidationResults();
         partPositions.put(partId, partPos);
         return true;
     }
@@ -77,6 +88,7 @@ public class PartNetwork extends FullNetworkListenerAdapter implements IPartNetw
     @Override
     public void removePart(int partId) {
         compositeVariableCache = null;
+        invalidateValidationResults();
         partPositions.remove(partId);
     }
 
@@ -159,33 +171,66 @@ public class PartNetwork extends FullNetworkListenerAdapter implements IPartNetw
 
     @Override
     public void setValue(int id, IValue value) {
-        lazyExpressionValueCache.put(id, value);
+        lazyExpressionValueCache.setValue(id, value);
     }
 
     @Override
     public boolean hasValue(int id) {
-        return lazyExpressionValueCache.containsKey(id);
+        return lazyExpressionValueCache.hasValue(id);
     }
 
     @Override
     public IValue getValue(int id) {
-        return lazyExpressionValueCache.get(id);
+        return lazyExpressionValueCache.getValue(id);
     }
 
     @Override
     public void removeValue(int id) {
-        lazyExpressionValueCache.remove(id);
+        lazyExpressionValueCache.removeValue(id);
+    }
+
+    @Override
+    public void setExpression(int id, IVariable<?> expression) {
+        lazyExpressionValueCache.setExpression(id, expression);
+    }
+
+    @Override
+    public boolean addDependency(int id, int dependentId) {
+        return lazyExpressionValueCache.addDependency(id, dependentId);
+    }
+
+    @Override
+    public void removeDependencies(int dependentId) {
+        lazyExpressionValueCache.removeDependencies(dependentId);
+    }
+
+    @Nullable
+    @Override
+    public List<L10NHelpers.UnlocalizedString> getValidationResult(int variableId, IValueType valueType) {
+        return validationResults.get(Pair.of(variableId, valueType));
+    }
+
+    @Override
+    public void setValidationResult(int variableId, IValueType valueType, List<L10NHelpers.UnlocalizedString> errors) {
+        validationResults.put(Pair.of(variableId, valueType), errors);
+    }
+
+    @Override
+    public void invalidateValidationResults() {
+        validationResults.clear();
     }
 
     @Override
     public boolean addVariableContainer(DimPos dimPos) {
         compositeVariableCache = null;
+        invalidateValidationResults();
         return variableContainerPositions.add(dimPos);
     }
 
     @Override
     public void removeVariableContainer(DimPos dimPos) {
         compositeVariableCache = null;
+        invalidateValidationResults();
         variableContainerPositions.remove(dimPos);
     }
 
@@ -232,15 +277,30 @@ public class PartNetwork extends FullNetworkListenerAdapter implements IPartNetw
         return true;
     }
 
+    @Override
+    public void kill() {
+        lazyExpressionValueCache.clear();
+        super.kill();
+    }
+
+    @Override
+    public void onEvent(INetworkEvent event) {
+        if (event instanceof VariableContentsUpdatedEvent) {
+            invalidateValidationResults();
+        }
+    }
+
     @Override
     public void invalidateElement(INetworkElement element) {
         compositeVariableCache = null;
+        invalidateValidationResults();
         super.invalidateElement(element);
     }
 
     @Override
     public void revalidateElement(INetworkElement element) {
         compositeVariableCache = null;
+        invalidateValidationResults();
         super.revalidateElement(element);
     }
 }
@@ -0,0 +1,68 @@
+package org.cyclops.integrateddynamics.core.network;
+
+import com.google.common.collect.Maps;
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import org.cyclops.cyclopscore.helper.MinecraftHelpers;
+import org.cyclops.integrateddynamics.api.part.PartPos;
+
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Rolling per-position durations, without boxing on the recording path.
+ *
+ * Durations are kept in two windows of one second: the window that is currently being recorded,
+ * and the last completed window.
+ * Windows are rolled based on the tick that is passed when recording.
+ * @author rubensworks
+ */
+public class PositionDurationStatistics {
+
+    private Object2LongOpenHashMap<PartPos> durations = new Object2LongOpenHashMap<>();
+    private Object2LongOpenHashMap<PartPos> lastDurations = new Object2LongOpenHashMap<>();
+    private int window = 0;
+
+    /**
+     * Add a duration for the given position.
+     * @param pos A position.
+     * @param tick The current tick.
+     * @param duration The duration in nanoseconds.
+     */
+    public synchronized void record(PartPos pos, int tick, long duration) {
+        roll(tick);
+        durations.addTo(pos, duration);
+    }
+
+    protected void roll(int tick) {
+        int window = tick / MinecraftHelpers.SECOND_IN_TICKS;
+        if (window != this.window) {
+            Object2LongOpenHashMap<PartPos> durations = this.lastDurations;
+            durations.clear();
+            if (window == this.window + 1) {
+                this.lastDurations = this.durations;
+                this.durations = durations;
+            } else {
+                // Nothing was recorded in the last window
+                this.durations.clear();
+            }
+            this.window = window;
+        }
+    }
+
+    /**
+     * Create a map of the durations in the last completed window.
+     * @param tick The current tick.
+     * @param keyMapper A function to map the recorded positions to the exported positions.
+     * @return A new map from position to duration in nanoseconds.
+     */
+    public synchronized Map<PartPos, Long> getLastDurations(int tick, Function<PartPos, PartPos> keyMapper) {
+        roll(tick);
+        Map<PartPos, Long> map = Maps.newHashMapWithExpectedSize(lastDurations.size());
+        for (Object2LongMap.Entry<PartPos> entry : lastDurations.object2LongEntrySet()) {
+            map.merge(keyMapper.apply(entry.getKey()), entry.getLongValue(), Long::sum);
+        }
+        return map;
+    }
+
+}
@@ -1,6 +1,5 @@
 package org.cyclops.integrateddynamics.core.network;
 
-import com.google.common.collect.Maps;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import net.minecraft.util.EnumFacing;
@@ -8,6 +7,7 @@ import net.minecraftforge.common.capabilities.Capability;
 import org.cyclops.commoncapabilities.api.ingredient.IngredientComponent;
 import org.cyclops.commoncapabilities.api.ingredient.storage.IIngredientComponentStorage;
 import org.cyclops.commoncapabilities.api.ingredient.storage.IIngredientComponentStorageWrapperHandler;
+import org.cyclops.cyclopscore.datastructure.DimPos;
 import org.cyclops.cyclopscore.ingredient.collection.IIngredientCollection;
 import org.cyclops.integrateddynamics.GeneralConfig;
 import org.cyclops.integrateddynamics.api.ingredient.IIngredientComponentStorageObservable;
@@ -17,6 +17,7 @@ import org.cyclops.integrateddynamics.api.network.INetworkElement;
 import org.cyclops.integrateddynamics.api.network.IPositionedAddonsNetwork;
 import org.cyclops.integrateddynamics.api.network.IPositionedAddonsNetworkIngredients;
 import org.cyclops.integrateddynamics.api.part.PartPos;
+import org.cyclops.integrateddynamics.api.part.PartTarget;
 import org.cyclops.integrateddynamics.api.part.PrioritizedPartPos;
 import org.cyclops.integrateddynamics.api.path.IPathElement;
 
@@ -40,7 +41,7 @@ public abstract class PositionedAddonsNetworkIngredients<T, M> extends Positione
     private final Int2ObjectMap<IngredientPositionsIndex<T, M>> indexes;
 
     private boolean observe;
-    private Map<PartPos, Long> lastSecondDurations = Maps.newHashMap();
+    private final PositionDurationStatistics lastSecondDurations = new PositionDurationStatistics();
 
     public PositionedAddonsNetworkIngredients(IngredientComponent<T, M> component) {
         this.component = component;
@@ -158,6 +159,11 @@ public abstract class PositionedAddonsNetworkIngredients<T, M> extends Positione
         }
     }
 
+    @Override
+    public void markPositionDirty(DimPos pos) {
+        this.ingredientObserver.markDirty(pos);
+    }
+
     @Override
     public boolean shouldObserve() {
         return this.observe;
@@ -243,12 +249,20 @@ public abstract class PositionedAddonsNetworkIngredients<T, M> extends Positione
 
     @Override
     public Map<PartPos, Long> getLastSecondDurationIndex() {
+        return lastSecondDurations.getLastDurations(ingredientObserver.getCurrentTick(),
+                pos -> PartTarget.fromCenter(pos).getTarget());
+    }
+
+    /**
+     * @return The rolling observation durations, keyed by observed position.
+     */
+    public PositionDurationStatistics getLastSecondDurationStatistics() {
         return lastSecondDurations;
     }
 
     @Override
     public void resetLastSecondDurationsIndex() {
-        lastSecondDurations.clear();
+        // Durations are rolled automatically every second.
     }
 
     @Override
@@ -11,6 +11,7 @@ import org.cyclops.integrateddynamics.api.network.INetworkElement;
 import org.cyclops.integrateddynamics.api.network.IPartNetworkElement;
 import org.cyclops.integrateddynamics.api.network.IPositionedAddonsNetworkIngredients;
 import org.cyclops.integrateddynamics.api.part.PartPos;
+import org.cyclops.integrateddynamics.core.network.Network;
 import org.cyclops.integrateddynamics.core.persist.world.NetworkWorldStorage;
 import org.cyclops.integrateddynamics.network.packet.NetworkDiagnosticsNetworkPacket;
 
@@ -61,10 +62,16 @@ public class NetworkDiagnostics {
                 IPartNetworkElement partNetworkElement = (IPartNetworkElement) networkElement;
                 PartPos pos = partNetworkElement.getTarget().getCenter();
                 long lastSecondDurationNs = network.getLastSecondDuration(networkElement);
+                int lastSecondUpdates = 0;
+                int lastSecondSkips = 0;
+                if (network instanceof Network) {
+                    lastSecondUpdates = ((Network) network).getLastSecondUpdates(networkElement);
+                    lastSecondSkips = ((Network) network).getLastSecondSkips(networkElement);
+                }
                 rawParts.add(new RawPartData(pos.getPos().getDimensionId(),
                         pos.getPos().getBlockPos(), pos.getSide(),
                         L10NHelpers.localize(partNetworkElement.getPart().getTranslationKey()),
-                        lastSecondDurationNs));
+                        lastSecondDurationNs, lastSecondUpdates, lastSecondSkips));
             } else {
                 // If needed, we can send the other part types later on as well
             }
@@ -84,7 +91,9 @@ public class NetworkDiagnostics {
             }
         }
 
-        RawNetworkData rawNetworkData = new RawNetworkData(network.isKilled(), network.hashCode(), network.getCablesCount(), rawParts, rawObservers);
+        int[] updateHistogram = network instanceof Network ? ((Network) network).getLastSecondUpdateHistogram() : new int[0];
+        RawNetworkData rawNetworkData = new RawNetworkData(network.isKilled(), network.hashCode(), network.getCablesCount(),
+                rawParts, rawObservers, updateHistogram);
         IntegratedDynamics._instance.getPacketHandler().sendToPlayer(new NetworkDiagnosticsNetworkPacket(rawNetworkData.toNbt()), player);
     }
 
@@ -19,6 +19,7 @@ public class RawNetworkData implements IRawData {
     private final int cables;
     private final List<RawPartData> parts;
     private final List<RawObserverData> observers;
+    private final int[] last20TicksUpdateHistogram;
 
     @Override
     public String toString() {
@@ -43,6 +44,8 @@ public class RawNetworkData implements IRawData {
         }
         tag.setTag("observers", listObservers);
 
+        tag.setIntArray("last20TicksUpdateHistogram", last20TicksUpdateHistogram);
+
         return tag;
     }
 
@@ -62,7 +65,7 @@ public class RawNetworkData implements IRawData {
         }
 
         return new RawNetworkData(tag.getBoolean("killed"), tag.getInteger("id"),
-                tag.getInteger("cables"), parts, observers);
+                tag.getInteger("cables"), parts, observers, tag.getIntArray("last20TicksUpdateHistogram"));
     }
 
 }
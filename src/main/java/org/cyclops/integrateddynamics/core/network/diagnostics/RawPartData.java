@@ -16,6 +16,8 @@ public class RawPartData implements IRawData {
     private final EnumFacing side;
     private final String name;
     private final long last20TicksDurationNs;
+    private final int last20TicksUpdates;
+    private final int last20TicksSkips;
 
     @Override
     public String toString() {
@@ -29,12 +31,15 @@ public class RawPartData implements IRawData {
         tag.setInteger("side", side.ordinal());
         tag.setString("name", name);
         tag.setLong("last20TicksDurationNs", last20TicksDurationNs);
+        tag.setInteger("last20TicksUpdates", last20TicksUpdates);
+        tag.setInteger("last20TicksSkips", last20TicksSkips);
         return tag;
     }
 
     public static RawPartData fromNbt(NBTTagCompound tag) {
         return new RawPartData(tag.getInteger("dimension"), BlockPos.fromLong(tag.getLong("pos")),
-                EnumFacing.VALUES[tag.getInteger("side")], tag.getString("name"), tag.getLong("last20TicksDurationNs"));
+                EnumFacing.VALUES[tag.getInteger("side")], tag.getString("name"), tag.getLong("last20TicksDurationNs"),
+                tag.getInteger("last20TicksUpdates"), tag.getInteger("last20TicksSkips"));
     }
 
 }
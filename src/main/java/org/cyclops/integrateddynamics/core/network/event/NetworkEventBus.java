@@ -10,9 +10,11 @@ import org.cyclops.integrateddynamics.api.network.event.ICancelableNetworkEvent;
 import org.cyclops.integrateddynamics.api.network.event.INetworkEvent;
 import org.cyclops.integrateddynamics.api.network.event.INetworkEventBus;
 
+import javax.annotation.Nullable;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * An event bus for {@link INetwork} events where
@@ -25,6 +27,19 @@ import java.util.Set;
 public class NetworkEventBus implements INetworkEventBus {
 
     private final Map<Class<? extends INetworkEvent>, Set<IEventListenableNetworkElement<?>>> listeners = Collections.synchronizedMap(Maps.<Class<? extends INetworkEvent>, Set<IEventListenableNetworkElement<?>>>newHashMap());
+    @Nullable
+    private final Consumer<INetworkEvent> preListener;
+
+    public NetworkEventBus() {
+        this(null);
+    }
+
+    /**
+     * @param preListener A listener that is called for all events, before they are passed to the registered elements.
+     */
+    public NetworkEventBus(@Nullable Consumer<INetworkEvent> preListener) {
+        this.preListener = preListener;
+    }
 
     @Override
     public void register(IEventListenableNetworkElement<?> target, Class<? extends INetworkEvent> eventType) {
@@ -48,6 +63,9 @@ public class NetworkEventBus implements INetworkEventBus {
 
     @Override
     public void post(INetworkEvent event) {
+        if(preListener != null) {
+            preListener.accept(event);
+        }
         Set<IEventListenableNetworkElement<?>> listeners = this.listeners.get(event.getClass());
         if(listeners != null) {
             for (IEventListenableNetworkElement listener : listeners) {
@@ -9,7 +9,8 @@ import org.cyclops.integrateddynamics.api.network.INetwork;
 import javax.annotation.Nullable;
 
 /**
- * An event that is posted in the Forge event bus.
+ * An event that is posted in the Forge event bus when a cable placement formed a new network,
+ * or extended an existing network, possibly absorbing other networks.
  * @author rubensworks
  */
 public class NetworkInitializedEvent extends Event {
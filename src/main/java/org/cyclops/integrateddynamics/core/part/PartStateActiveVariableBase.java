@@ -27,6 +27,7 @@ import org.cyclops.integrateddynamics.core.helper.NetworkHelpers;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * An abstract part state with a focus on activatable variables.
@@ -121,6 +122,7 @@ public abstract class PartStateActiveVariableBase<P extends IPartType> extends P
         INetwork network = NetworkHelpers.getNetwork(center.getPos().getWorld(), center.getPos().getBlockPos(),
                 center.getSide());
         variableContainer.refreshVariables(network, inventory, false);
+        sendUpdate(); // The inventory may have changed, so this requires a full update.
     }
 
     /**
@@ -141,7 +143,7 @@ public abstract class PartStateActiveVariableBase<P extends IPartType> extends P
             globalErrorMessages.add(error);
         }
         onDirty();
-        sendUpdate(); // We want this error messages to be sent to the client(s).
+        sendFieldUpdate("globalErrorMessages"); // We want this error messages to be sent to the client(s).
     }
 
     @Override
@@ -159,6 +161,23 @@ public abstract class PartStateActiveVariableBase<P extends IPartType> extends P
         inventory.readFromNBT(tag);
     }
 
+    @Override
+    protected void writeFieldsToNBT(NBTTagCompound tag, Set<String> fields) {
+        super.writeFieldsToNBT(tag, fields);
+        if (fields.contains("globalErrorMessages")) {
+            NBTClassType.writeNbt(List.class, "globalErrorMessages", globalErrorMessages, tag);
+        }
+    }
+
+    @Override
+    public void readFieldUpdates(NBTTagCompound tag) {
+        super.readFieldUpdates(tag);
+        if (tag.hasKey("globalErrorMessages")) {
+            //noinspection unchecked
+            this.globalErrorMessages = NBTClassType.readNbt(List.class, "globalErrorMessages", tag);
+        }
+    }
+
     @Override
     public boolean hasCapability(Capability<?> capability, INetwork network, IPartNetwork partNetwork, PartTarget target) {
         return capability == ValueInterfaceConfig.CAPABILITY || super.hasCapability(capability, network, partNetwork, target);
@@ -1,5 +1,6 @@
 package org.cyclops.integrateddynamics.core.part;
 
+import com.google.common.collect.Sets;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
 import net.minecraft.util.EnumFacing;
@@ -25,6 +26,7 @@ import org.cyclops.integrateddynamics.part.aspect.Aspects;
 import javax.annotation.Nullable;
 import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * A default implementation of the {@link IPartState}.
@@ -35,6 +37,7 @@ public abstract class PartStateBase<P extends IPartType> implements IPartState<P
     private boolean dirty = false;
     private boolean update = false;
     private boolean forceBlockUpdateRender = false;
+    private final Set<String> updatedFields = Sets.newHashSet();
 
     private int updateInterval = getDefaultUpdateInterval();
     private int priority = 0;
@@ -204,6 +207,36 @@ public abstract class PartStateBase<P extends IPartType> implements IPartState<P
         this.update = true;
     }
 
+    /**
+     * Enables a flag that tells the part container to send the given field to the client(s),
+     * without sending a full NBT update.
+     * @param field The name of a field that is written by {@link #writeFieldsToNBT(NBTTagCompound, Set)}.
+     */
+    public void sendFieldUpdate(String field) {
+        this.updatedFields.add(field);
+    }
+
+    @Nullable
+    @Override
+    public NBTTagCompound writeFieldUpdatesAndReset() {
+        if (this.updatedFields.isEmpty()) {
+            return null;
+        }
+        NBTTagCompound tag = new NBTTagCompound();
+        writeFieldsToNBT(tag, this.updatedFields);
+        this.updatedFields.clear();
+        return tag;
+    }
+
+    /**
+     * Write the given fields of this state.
+     * @param tag The tag to write to.
+     * @param fields The names of the fields to write.
+     */
+    protected void writeFieldsToNBT(NBTTagCompound tag, Set<String> fields) {
+
+    }
+
     @Override
     public IAspectProperties getAspectProperties(IAspect aspect) {
         return aspectProperties.get(aspect);
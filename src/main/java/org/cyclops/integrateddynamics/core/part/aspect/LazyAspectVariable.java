@@ -14,6 +14,7 @@ import org.cyclops.integrateddynamics.api.part.PartTarget;
 import org.cyclops.integrateddynamics.api.part.aspect.IAspectRead;
 import org.cyclops.integrateddynamics.api.part.aspect.IAspectVariable;
 import org.cyclops.integrateddynamics.api.part.aspect.property.IAspectProperties;
+import org.cyclops.integrateddynamics.core.part.aspect.build.IAspectFingerprint;
 
 /**
  * Variable for a specific aspect from a part that calculates its target value only maximum once per ticking interval.
@@ -27,6 +28,7 @@ public abstract class LazyAspectVariable<V extends IValue> extends VariableAdapt
     @Getter private final IAspectRead<V, ?> aspect;
     @NonNull private V value;
     private IAspectProperties cachedProperties = null;
+    private long fingerprint = IAspectFingerprint.UNKNOWN;
 
     public LazyAspectVariable(IValueType<V> type, PartTarget target, IAspectRead<V, ?> aspect) {
         this.type = type;
@@ -43,6 +45,17 @@ public abstract class LazyAspectVariable<V extends IValue> extends VariableAdapt
         }
     }
 
+    /**
+     * Invalidate this variable only if the given fingerprint of the target differs from the previous one.
+     * @param fingerprint The current fingerprint of the target, or {@link IAspectFingerprint#UNKNOWN}.
+     */
+    public void invalidate(long fingerprint) {
+        if (fingerprint == IAspectFingerprint.UNKNOWN || fingerprint != this.fingerprint) {
+            this.fingerprint = fingerprint;
+            invalidate();
+        }
+    }
+
     @Override
     public V getValue() throws EvaluationException {
         if(value == null) {
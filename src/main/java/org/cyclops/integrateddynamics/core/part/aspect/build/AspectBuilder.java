@@ -50,12 +50,13 @@ public class AspectBuilder<V extends IValue, T extends IValueType<V>, O> {
     private final List<IAspectUpdateListener.Before> beforeUpdateListeners;
     private final List<IAspectUpdateListener.After> afterUpdateListeners;
     private final AspectUpdateType updateType;
+    private final IAspectFingerprint fingerprint;
 
     private AspectBuilder(boolean read, T valueType, List<String> kinds, IAspectProperties defaultAspectProperties,
                           List<IAspectValuePropagator> valuePropagators, List<IAspectWriteActivator> writeActivators,
                           List<IAspectWriteDeactivator> writeDeactivators, ModBase mod, ModBase modGui,
                           List<IAspectUpdateListener.Before> beforeUpdateListeners, List<IAspectUpdateListener.After> afterUpdateListeners,
-                          AspectUpdateType updateType) {
+                          AspectUpdateType updateType, IAspectFingerprint fingerprint) {
         this.read = read;
         this.valueType = valueType;
         this.kinds = kinds;
@@ -68,6 +69,7 @@ public class AspectBuilder<V extends IValue, T extends IValueType<V>, O> {
         this.beforeUpdateListeners = beforeUpdateListeners;
         this.afterUpdateListeners = afterUpdateListeners;
         this.updateType = updateType;
+        this.fingerprint = fingerprint;
     }
 
     /**
@@ -99,7 +101,8 @@ public class AspectBuilder<V extends IValue, T extends IValueType<V>, O> {
                 modGui,
                 beforeUpdateListeners,
                 afterUpdateListeners,
-                updateType);
+                updateType,
+                fingerprint);
     }
 
     /**
@@ -119,7 +122,8 @@ public class AspectBuilder<V extends IValue, T extends IValueType<V>, O> {
                 modGui,
                 beforeUpdateListeners,
                 afterUpdateListeners,
-                updateType);
+                updateType,
+                fingerprint);
     }
 
     /**
@@ -139,7 +143,8 @@ public class AspectBuilder<V extends IValue, T extends IValueType<V>, O> {
                 modGui,
                 beforeUpdateListeners,
                 afterUpdateListeners,
-                updateType);
+                updateType,
+                fingerprint);
     }
 
     /**
@@ -163,7 +168,8 @@ public class AspectBuilder<V extends IValue, T extends IValueType<V>, O> {
                 modGui,
                 beforeUpdateListeners,
                 afterUpdateListeners,
-                updateType);
+                updateType,
+                fingerprint);
     }
 
     /**
@@ -187,7 +193,8 @@ public class AspectBuilder<V extends IValue, T extends IValueType<V>, O> {
                 modGui,
                 beforeUpdateListeners,
                 afterUpdateListeners,
-                updateType);
+                updateType,
+                fingerprint);
     }
 
     /**
@@ -207,7 +214,8 @@ public class AspectBuilder<V extends IValue, T extends IValueType<V>, O> {
                 modGui,
                 beforeUpdateListeners,
                 afterUpdateListeners,
-                updateType);
+                updateType,
+                fingerprint);
     }
 
     /**
@@ -227,7 +235,8 @@ public class AspectBuilder<V extends IValue, T extends IValueType<V>, O> {
                 modGui,
                 beforeUpdateListeners,
                 afterUpdateListeners,
-                updateType);
+                updateType,
+                fingerprint);
     }
 
     /**
@@ -247,7 +256,8 @@ public class AspectBuilder<V extends IValue, T extends IValueType<V>, O> {
                 modGui,
                 Helpers.joinList(beforeUpdateListeners, listener),
                 Helpers.joinList(afterUpdateListeners, null),
-                updateType);
+                updateType,
+                fingerprint);
     }
 
     /**
@@ -267,7 +277,8 @@ public class AspectBuilder<V extends IValue, T extends IValueType<V>, O> {
                 modGui,
                 Helpers.joinList(beforeUpdateListeners, null),
                 Helpers.joinList(afterUpdateListeners, listener),
-                updateType);
+                updateType,
+                fingerprint);
     }
 
     /**
@@ -290,7 +301,34 @@ public class AspectBuilder<V extends IValue, T extends IValueType<V>, O> {
                 modGui,
                 beforeUpdateListeners,
                 afterUpdateListeners,
-                updateType);
+                updateType,
+                fingerprint);
+    }
+
+    /**
+     * Set the fingerprint of the reader aspect.
+     * When change detection is enabled, the variable of the built aspect will only be invalidated
+     * when the fingerprint of its target has changed since the previous update.
+     * @param fingerprint The fingerprint.
+     * @return The new builder instance.
+     */
+    public AspectBuilder<V, T, O> withFingerprint(IAspectFingerprint fingerprint) {
+        if(!this.read) {
+            throw new RuntimeException("Fingerprints are only applicable to readers.");
+        }
+        return new AspectBuilder<>(
+                this.read, this.valueType,
+                Helpers.joinList(this.kinds, null),
+                this.defaultAspectProperties,
+                Helpers.joinList(this.valuePropagators, null),
+                Helpers.joinList(writeActivators, null),
+                Helpers.joinList(writeDeactivators, null),
+                mod,
+                modGui,
+                beforeUpdateListeners,
+                afterUpdateListeners,
+                updateType,
+                fingerprint);
     }
 
     /**
@@ -323,7 +361,7 @@ public class AspectBuilder<V extends IValue, T extends IValueType<V>, O> {
     public static <V extends IValue, T extends IValueType<V>> AspectBuilder<V, T, Pair<PartTarget, IAspectProperties>> forReadType(T valueType) {
         return new AspectBuilder<>(true, valueType, ImmutableList.of(valueType.getTypeName()), null,
                 Collections.<IAspectValuePropagator>emptyList(), Collections.<IAspectWriteActivator>emptyList(),
-                Collections.<IAspectWriteDeactivator>emptyList(), IntegratedDynamics._instance, IntegratedDynamics._instance, Lists.newArrayList(), Lists.newArrayList(), AspectUpdateType.NETWORK_TICK);
+                Collections.<IAspectWriteDeactivator>emptyList(), IntegratedDynamics._instance, IntegratedDynamics._instance, Lists.newArrayList(), Lists.newArrayList(), AspectUpdateType.NETWORK_TICK, null);
     }
 
     /**
@@ -336,7 +374,7 @@ public class AspectBuilder<V extends IValue, T extends IValueType<V>, O> {
     public static <V extends IValue, T extends IValueType<V>> AspectBuilder<V, T, Triple<PartTarget, IAspectProperties, IVariable<V>>> forWriteType(T valueType) {
         return new AspectBuilder<>(false, valueType, ImmutableList.of(valueType.getTypeName()), null,
                 Collections.<IAspectValuePropagator>emptyList(), Collections.<IAspectWriteActivator>emptyList(),
-                Collections.<IAspectWriteDeactivator>emptyList(), IntegratedDynamics._instance, IntegratedDynamics._instance, Lists.newArrayList(), Lists.newArrayList(), AspectUpdateType.NETWORK_TICK);
+                Collections.<IAspectWriteDeactivator>emptyList(), IntegratedDynamics._instance, IntegratedDynamics._instance, Lists.newArrayList(), Lists.newArrayList(), AspectUpdateType.NETWORK_TICK, null);
     }
 
     private static class BuiltReader<V extends IValue, T extends IValueType<V>> extends AspectReadBase<V, T> {
@@ -345,6 +383,7 @@ public class AspectBuilder<V extends IValue, T extends IValueType<V>, O> {
         private final List<IAspectValuePropagator> valuePropagators;
         private final List<IAspectUpdateListener.Before> beforeUpdateListeners;
         private final List<IAspectUpdateListener.After> afterUpdateListeners;
+        private final IAspectFingerprint fingerprint;
 
         public BuiltReader(AspectBuilder<V, T, V> aspectBuilder) {
             super(aspectBuilder.mod, aspectBuilder.modGui,
@@ -354,6 +393,7 @@ public class AspectBuilder<V extends IValue, T extends IValueType<V>, O> {
             this.valuePropagators = aspectBuilder.valuePropagators;
             this.beforeUpdateListeners = aspectBuilder.beforeUpdateListeners;
             this.afterUpdateListeners = aspectBuilder.afterUpdateListeners;
+            this.fingerprint = aspectBuilder.fingerprint;
         }
 
         protected static <V extends IValue, T extends IValueType<V>> String deriveUnlocalizedType(AspectBuilder<V, T, V> aspectBuilder) {
@@ -365,6 +405,16 @@ public class AspectBuilder<V extends IValue, T extends IValueType<V>, O> {
             return sb.toString();
         }
 
+        @Override
+        protected boolean hasFingerprint() {
+            return fingerprint != null;
+        }
+
+        @Override
+        protected long getFingerprint(PartTarget target) {
+            return fingerprint.getFingerprint(target);
+        }
+
         @Override
         protected V getValue(PartTarget target, IAspectProperties properties) throws EvaluationException {
             Object output = Pair.of(target, properties);
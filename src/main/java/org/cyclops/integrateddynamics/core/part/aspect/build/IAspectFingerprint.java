@@ -0,0 +1,24 @@
+package org.cyclops.integrateddynamics.core.part.aspect.build;
+
+import org.cyclops.integrateddynamics.api.part.PartTarget;
+
+/**
+ * Calculates a cheap fingerprint of the target of a read aspect.
+ * If two fingerprints are equal, the aspect is assumed to produce the same value.
+ * @author rubensworks
+ */
+public interface IAspectFingerprint {
+
+    /**
+     * Fingerprint value that indicates that no fingerprint could be determined,
+     * in which case the aspect value must always be invalidated.
+     */
+    public static final long UNKNOWN = Long.MIN_VALUE;
+
+    /**
+     * @param target The target of the aspect.
+     * @return The fingerprint of the target, or {@link #UNKNOWN}.
+     */
+    public long getFingerprint(PartTarget target);
+
+}
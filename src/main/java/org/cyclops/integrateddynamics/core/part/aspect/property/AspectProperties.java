@@ -71,7 +71,7 @@ public class AspectProperties implements IAspectProperties {
             NBTTagCompound nbtEntry = new NBTTagCompound();
             nbtEntry.setString("key", entry.getKey().getType().getTranslationKey());
             nbtEntry.setString("label", entry.getKey().getTranslationKey());
-            nbtEntry.setString("value", ValueHelpers.serializeRaw(entry.getValue()));
+            ValueHelpers.serializeRaw(nbtEntry, "value", entry.getValue());
             map.appendTag(nbtEntry);
         }
         tag.setTag("map", map);
@@ -89,7 +89,7 @@ public class AspectProperties implements IAspectProperties {
             if(type == null) {
                 IntegratedDynamics.clog(Level.ERROR, String.format("Could not find value type with name %s, skipping loading.", valueTypeName));
             } else {
-                IValue value = ValueHelpers.deserializeRaw(type, nbtEntry.getString("value"));
+                IValue value = ValueHelpers.deserializeRaw(nbtEntry, "value", type);
                 String label = nbtEntry.getString("label");
                 if(value == null) {
                     IntegratedDynamics.clog(Level.ERROR, String.format("The value type %s could not load its value, using default.", valueTypeName));
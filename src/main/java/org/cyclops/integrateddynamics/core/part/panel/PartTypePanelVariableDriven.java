@@ -17,7 +17,6 @@ import net.minecraft.util.text.TextFormatting;
 import net.minecraft.world.World;
 import org.apache.logging.log4j.Level;
 import org.cyclops.cyclopscore.config.extendedconfig.BlockConfig;
-import org.cyclops.cyclopscore.helper.BlockHelpers;
 import org.cyclops.cyclopscore.helper.L10NHelpers;
 import org.cyclops.cyclopscore.helper.MinecraftHelpers;
 import org.cyclops.integrateddynamics.IntegratedDynamics;
@@ -49,6 +48,7 @@ import org.cyclops.integrateddynamics.inventory.container.ContainerPartDisplay;
 import javax.annotation.Nullable;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * A panel part that is driven by a contained variable.
@@ -134,20 +134,12 @@ public abstract class PartTypePanelVariableDriven<P extends PartTypePanelVariabl
         if(!ValueHelpers.areValuesEqual(lastValue, newValue)) {
             onValueChanged(network, partNetwork, target, state, lastValue, newValue);
 
-            // We can't call state.sendUpdate() here, so we must trigger a block update manually.
-            // This was the cause of issue #46 which made it so that values that change after one tick are
-            // NOT sent to the client.
-            // This was because in each server tick, all tiles are first updated and then the networks.
-            // Since sendUpdate marks a flag for the part to update, this caused a loss of one tick.
-            // For example:
-            // tick-0: Tile tick
-            // tick-0: Part tick: update a value, and mark part to invalidate
-            // tick-0: -- send all block updates to client ---
-            // tick-1: Tile tick: notices and update, marks a block invalidate
-            // tick-1: Part tick: update the value again, the old value has still not been sent here!
-            // tick-1: -- send all block updates to client --- This will contain the value that was set in tick-1.
+            // Only the display value is sent to the client(s), instead of a full block update.
+            // The part container sends it as a packet in the next tile tick, with the value of that moment.
+            // So unlike with a block update that is marked in that tile tick, values that change after one tick
+            // are not lost, which was the cause of issue #46.
             state.onDirty();
-            BlockHelpers.markForUpdate(target.getCenter().getPos().getWorld(), target.getCenter().getPos().getBlockPos());
+            state.sendFieldUpdate("displayValue");
         }
     }
 
@@ -287,27 +279,58 @@ public abstract class PartTypePanelVariableDriven<P extends PartTypePanelVariabl
         @Override
         public void writeToNBT(NBTTagCompound tag) {
             super.writeToNBT(tag);
-            IValue value = getDisplayValue();
-            if(value != null) {
-                tag.setString("displayValueType", value.getType().getTranslationKey());
-                tag.setString("displayValue", ValueHelpers.serializeRaw(value));
-            }
+            writeDisplayValue(tag);
             tag.setInteger("facingRotation", facingRotation.ordinal());
         }
 
         @Override
         public void readFromNBT(NBTTagCompound tag) {
             super.readFromNBT(tag);
+            readDisplayValue(tag);
+            facingRotation = EnumFacing.values()[Math.max(2, tag.getInteger("facingRotation"))];
+        }
+
+        @Override
+        protected void writeFieldsToNBT(NBTTagCompound tag, Set<String> fields) {
+            super.writeFieldsToNBT(tag, fields);
+            if (fields.contains("displayValue")) {
+                NBTTagCompound displayValueTag = new NBTTagCompound();
+                writeDisplayValue(displayValueTag);
+                tag.setTag("displayValue", displayValueTag);
+            }
+        }
+
+        @Override
+        public void readFieldUpdates(NBTTagCompound tag) {
+            super.readFieldUpdates(tag);
+            if (tag.hasKey("displayValue", MinecraftHelpers.NBTTag_Types.NBTTagCompound.ordinal())) {
+                readDisplayValue(tag.getCompoundTag("displayValue"));
+            }
+        }
+
+        protected void writeDisplayValue(NBTTagCompound tag) {
+            IValue value = getDisplayValue();
+            if(value != null) {
+                tag.setString("displayValueType", value.getType().getTranslationKey());
+                ValueHelpers.serializeRaw(tag, "displayValue", value);
+            }
+        }
+
+        protected void readDisplayValue(NBTTagCompound tag) {
             if(tag.hasKey("displayValueType", MinecraftHelpers.NBTTag_Types.NBTTagString.ordinal())
-                    && tag.hasKey("displayValue", MinecraftHelpers.NBTTag_Types.NBTTagString.ordinal())) {
+                    && ValueHelpers.hasSerializedRaw(tag, "displayValue")) {
                 IValueType valueType = ValueTypes.REGISTRY.getValueType(tag.getString("displayValueType"));
                 if(valueType != null) {
-                    String serializedValue = tag.getString("displayValue");
-                    L10NHelpers.UnlocalizedString deserializationError = valueType.canDeserialize(serializedValue);
-                    if(deserializationError == null) {
-                        setDisplayValue(ValueHelpers.deserializeRaw(valueType, serializedValue));
+                    if(!tag.hasKey("displayValue", MinecraftHelpers.NBTTag_Types.NBTTagString.ordinal())) {
+                        setDisplayValue(ValueHelpers.deserializeRaw(tag, "displayValue", valueType));
                     } else {
-                        IntegratedDynamics.clog(Level.ERROR, deserializationError.localize());
+                        String serializedValue = tag.getString("displayValue");
+                        L10NHelpers.UnlocalizedString deserializationError = valueType.canDeserialize(serializedValue);
+                        if(deserializationError == null) {
+                            setDisplayValue(ValueHelpers.deserializeRaw(valueType, serializedValue));
+                        } else {
+                            IntegratedDynamics.clog(Level.ERROR, deserializationError.localize());
+                        }
                     }
                 } else {
                     IntegratedDynamics.clog(Level.ERROR,
@@ -317,7 +340,6 @@ public abstract class PartTypePanelVariableDriven<P extends PartTypePanelVariabl
             } else {
                 setDisplayValue(null);
             }
-            facingRotation = EnumFacing.values()[Math.max(2, tag.getInteger("facingRotation"))];
         }
     }
 
@@ -1,48 +1,202 @@
 package org.cyclops.integrateddynamics.core.path;
 
+import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
 import org.cyclops.cyclopscore.datastructure.DimPos;
 import org.cyclops.integrateddynamics.api.path.IPathElement;
 import org.cyclops.integrateddynamics.api.path.ISidedPathElement;
 
-import java.util.Set;
+import java.util.ArrayDeque;
+import java.util.List;
 import java.util.TreeSet;
 
 /**
  * Algorithm to construct paths/clusters of {@link IPathElement}s.
+ *
+ * Elements are found with an iterative breadth-first search,
+ * so that the stack depth does not grow with the cluster size.
  * @author rubensworks
  */
 public final class PathFinder {
 
-    protected static TreeSet<ISidedPathElement> getConnectedElements(ISidedPathElement head, Set<DimPos> visitedPositions) {
+    protected static TreeSet<ISidedPathElement> getConnectedElements(ISidedPathElement head) {
         TreeSet<ISidedPathElement> elements = Sets.newTreeSet();
+        PositionIndex visitedPositions = new PositionIndex();
+        ArrayDeque<ISidedPathElement> queue = new ArrayDeque<>();
 
         // Make sure to add our head
-        if(!visitedPositions.contains(head.getPathElement().getPosition())) {
-            elements.add(head);
-            visitedPositions.add(head.getPathElement().getPosition());
+        visitedPositions.putIfAbsent(head.getPathElement().getPosition(), 0);
+        queue.add(head);
+
+        // Add neighbours that haven't been checked yet, and check their neighbours afterwards.
+        ISidedPathElement element;
+        while ((element = queue.poll()) != null) {
+            elements.add(element);
+            for (ISidedPathElement neighbour : element.getPathElement().getReachableElements()) {
+                if (visitedPositions.putIfAbsent(neighbour.getPathElement().getPosition(), 0) < 0) {
+                    queue.add(neighbour);
+                }
+            }
         }
 
-        // Add neighbours that haven't been checked yet.
-        for(ISidedPathElement neighbour : head.getPathElement().getReachableElements()) {
-            if(!visitedPositions.contains(neighbour.getPathElement().getPosition())) {
-                elements.add(neighbour);
-                visitedPositions.add(neighbour.getPathElement().getPosition());
+        return elements;
+    }
+
+    public static Cluster getConnectedCluster(ISidedPathElement head) {
+        return new Cluster(getConnectedElements(head));
+    }
+
+    /**
+     * Find the clusters that have become disconnected from each other,
+     * starting from the given heads that used to be part of a single cluster.
+     *
+     * A search is started from each head, and these are advanced one element at a time in turn.
+     * Searches that meet each other are joined, and searching stops as soon as at most one joined search
+     * still has unexplored elements.
+     * This makes the cost proportional to the size of the disconnected clusters,
+     * instead of the size of the original cluster.
+     *
+     * @param heads The path elements to start from.
+     * @return The fully explored clusters that must be separated from the remaining cluster.
+     *         If all clusters were fully explored, the largest one will be considered the remaining cluster.
+     */
+    public static List<Cluster> getDisconnectedClusters(List<ISidedPathElement> heads) {
+        int count = heads.size();
+        PositionIndex visitedPositions = new PositionIndex();
+        int[] parents = new int[count];
+        List<ArrayDeque<ISidedPathElement>> queues = Lists.newArrayListWithCapacity(count);
+        List<TreeSet<ISidedPathElement>> elements = Lists.newArrayListWithCapacity(count);
+        for (int i = 0; i < count; i++) {
+            parents[i] = i;
+            queues.add(new ArrayDeque<>());
+            elements.add(Sets.newTreeSet());
+            ISidedPathElement head = heads.get(i);
+            int owner = visitedPositions.putIfAbsent(head.getPathElement().getPosition(), i);
+            if (owner < 0) {
+                queues.get(i).add(head);
+            } else {
+                union(parents, owner, i);
             }
         }
 
-        // Loop over the added neighbours to recursively check their neighbours.
-        Set<ISidedPathElement> neighbourElements = Sets.newHashSet();
-        for(ISidedPathElement addedElement : elements) {
-            neighbourElements.addAll(getConnectedElements(addedElement, visitedPositions));
+        boolean[] activeRoots = new boolean[count];
+        while (true) {
+            // Determine how many joined searches still have unexplored elements
+            int activeCount = 0;
+            for (int i = 0; i < count; i++) {
+                activeRoots[i] = false;
+            }
+            for (int i = 0; i < count; i++) {
+                int root = find(parents, i);
+                if (!queues.get(i).isEmpty() && !activeRoots[root]) {
+                    activeRoots[root] = true;
+                    activeCount++;
+                }
+            }
+            if (activeCount <= 1) {
+                break;
+            }
+
+            // Advance each search with one element
+            for (int i = 0; i < count; i++) {
+                ISidedPathElement element = queues.get(i).poll();
+                if (element != null) {
+                    elements.get(i).add(element);
+                    for (ISidedPathElement neighbour : element.getPathElement().getReachableElements()) {
+                        int owner = visitedPositions.putIfAbsent(neighbour.getPathElement().getPosition(), i);
+                        if (owner < 0) {
+                            queues.get(i).add(neighbour);
+                        } else {
+                            union(parents, owner, i);
+                        }
+                    }
+                }
+            }
         }
-        elements.addAll(neighbourElements);
 
-        return elements;
+        // Collect the fully explored clusters
+        List<Cluster> clusters = Lists.newArrayList();
+        boolean remainingCluster = false;
+        for (int i = 0; i < count; i++) {
+            remainingCluster |= activeRoots[find(parents, i)];
+        }
+        for (int root = 0; root < count; root++) {
+            if (find(parents, root) == root && !activeRoots[root]) {
+                TreeSet<ISidedPathElement> clusterElements = Sets.newTreeSet();
+                for (int i = 0; i < count; i++) {
+                    if (find(parents, i) == root) {
+                        clusterElements.addAll(elements.get(i));
+                    }
+                }
+                clusters.add(new Cluster(clusterElements));
+            }
+        }
+        if (!remainingCluster && !clusters.isEmpty()) {
+            Cluster largest = clusters.get(0);
+            for (Cluster cluster : clusters) {
+                if (cluster.size() > largest.size()) {
+                    largest = cluster;
+                }
+            }
+            clusters.remove(largest);
+        }
+        return clusters;
     }
 
-    public static Cluster getConnectedCluster(ISidedPathElement head) {
-        return new Cluster(getConnectedElements(head, Sets.<DimPos>newTreeSet()));
+    private static int find(int[] parents, int i) {
+        while (parents[i] != i) {
+            parents[i] = parents[parents[i]];
+            i = parents[i];
+        }
+        return i;
+    }
+
+    private static void union(int[] parents, int a, int b) {
+        int rootA = find(parents, a);
+        int rootB = find(parents, b);
+        if (rootA != rootB) {
+            parents[Math.max(rootA, rootB)] = Math.min(rootA, rootB);
+        }
+    }
+
+    /**
+     * A mapping from positions to integers, stored as packed block positions per dimension.
+     */
+    protected static class PositionIndex {
+
+        private final Int2ObjectMap<Long2IntMap> dimensionPositions = new Int2ObjectOpenHashMap<>();
+        private int lastDimension;
+        private Long2IntMap lastPositions = null;
+
+        /**
+         * Store a value for the given position if none was present yet.
+         * @param pos A position.
+         * @param value A non-negative value.
+         * @return The value that was already present, or -1 if the value was newly stored.
+         */
+        public int putIfAbsent(DimPos pos, int value) {
+            int dimension = pos.getDimensionId();
+            if (lastPositions == null || lastDimension != dimension) {
+                lastPositions = dimensionPositions.get(dimension);
+                if (lastPositions == null) {
+                    lastPositions = new Long2IntOpenHashMap();
+                    lastPositions.defaultReturnValue(-1);
+                    dimensionPositions.put(dimension, lastPositions);
+                }
+                lastDimension = dimension;
+            }
+            long key = pos.getBlockPos().toLong();
+            int existing = lastPositions.get(key);
+            if (existing < 0) {
+                lastPositions.put(key, value);
+            }
+            return existing;
+        }
+
     }
 
 }
@@ -0,0 +1,76 @@
+package org.cyclops.integrateddynamics.network.packet;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+import org.cyclops.cyclopscore.network.CodecField;
+import org.cyclops.cyclopscore.network.PacketCodec;
+import org.cyclops.integrateddynamics.api.part.IPartContainer;
+import org.cyclops.integrateddynamics.api.part.IPartType;
+import org.cyclops.integrateddynamics.core.helper.PartHelpers;
+
+/**
+ * Packet for sending changed fields of a part state to the client,
+ * without a full update of its part container.
+ * @author rubensworks
+ *
+ */
+public class PartStateFieldsPacket extends PacketCodec {
+
+    @CodecField
+    private int x;
+    @CodecField
+    private int y;
+    @CodecField
+    private int z;
+    @CodecField
+    private int side;
+    @CodecField
+    private NBTTagCompound fields;
+
+    public PartStateFieldsPacket() {
+
+    }
+
+    public PartStateFieldsPacket(BlockPos pos, EnumFacing side, NBTTagCompound fields) {
+        this.x = pos.getX();
+        this.y = pos.getY();
+        this.z = pos.getZ();
+        this.side = side.ordinal();
+        this.fields = fields;
+    }
+
+    @Override
+    public boolean isAsync() {
+        return false;
+    }
+
+    @Override
+    @SideOnly(Side.CLIENT)
+    public void actionClient(World world, EntityPlayer player) {
+        BlockPos pos = new BlockPos(x, y, z);
+        EnumFacing side = EnumFacing.VALUES[this.side];
+        IPartContainer partContainer = PartHelpers.getPartContainer(world, pos, side);
+        if (partContainer != null && partContainer.hasPart(side)) {
+            IPartType partType = partContainer.getPart(side);
+            IBlockState oldBlockState = partType.getBlockState(partContainer, side);
+            partContainer.getPartState(side).readFieldUpdates(fields);
+            // Fields such as errors can change the status of the part
+            if (oldBlockState != partType.getBlockState(partContainer, side)) {
+                world.markBlockRangeForRenderUpdate(pos, pos);
+            }
+        }
+    }
+
+    @Override
+    public void actionServer(World world, EntityPlayerMP player) {
+
+    }
+
+}
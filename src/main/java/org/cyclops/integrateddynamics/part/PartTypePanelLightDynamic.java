@@ -67,7 +67,6 @@ public class PartTypePanelLightDynamic extends PartTypePanelVariableDriven<PartT
             lightLevel = getLightLevel(state, newValue);
         }
         setLightLevel(target, lightLevel);
-        state.sendUpdate();
     }
 
     protected int getLightLevel(State state, IValue value) {
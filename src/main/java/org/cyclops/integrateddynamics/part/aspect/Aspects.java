@@ -302,12 +302,12 @@ public class Aspects {
                     }).handle(AspectReadBuilders.PROP_GET_DOUBLE, "fillratio").buildRead();
 
             public static final IAspectRead<ValueTypeList.ValueList, ValueTypeList> LIST_TANKFLUIDS =
-                    AspectReadBuilders.BUILDER_LIST.appendKind("fluid").handle(AspectReadBuilders.Fluid.PROP_GET_LIST_FLUIDSTACKS, "fluidstacks").buildRead();
+                    AspectReadBuilders.BUILDER_LIST.appendKind("fluid").withFingerprint(AspectReadBuilders.Fluid.FINGERPRINT).handle(AspectReadBuilders.Fluid.PROP_GET_LIST_FLUIDSTACKS, "fluidstacks").buildRead();
             public static final IAspectRead<ValueTypeList.ValueList, ValueTypeList> LIST_TANKCAPACITIES =
-                    AspectReadBuilders.BUILDER_LIST.appendKind("fluid").handle(AspectReadBuilders.Fluid.PROP_GET_LIST_CAPACITIES, "capacities").buildRead();
+                    AspectReadBuilders.BUILDER_LIST.appendKind("fluid").withFingerprint(AspectReadBuilders.Fluid.FINGERPRINT).handle(AspectReadBuilders.Fluid.PROP_GET_LIST_CAPACITIES, "capacities").buildRead();
 
             public static final IAspectRead<ValueObjectTypeFluidStack.ValueFluidStack, ValueObjectTypeFluidStack> FLUIDSTACK =
-                    AspectReadBuilders.BUILDER_OBJECT_FLUIDSTACK
+                    AspectReadBuilders.BUILDER_OBJECT_FLUIDSTACK.withFingerprint(AspectReadBuilders.Fluid.FINGERPRINT)
                             .handle(AspectReadBuilders.Fluid.PROP_GET_ACTIVATABLE, "fluid").withProperties(AspectReadBuilders.Fluid.PROPERTIES)
                             .handle(AspectReadBuilders.Fluid.PROP_GET_FLUIDSTACK).handle(AspectReadBuilders.PROP_GET_FLUIDSTACK).buildRead();
 
@@ -417,7 +417,7 @@ public class Aspects {
                     }).handle(AspectReadBuilders.PROP_GET_DOUBLE, "fillratio").buildRead();
 
             public static final IAspectRead<ValueTypeList.ValueList, ValueTypeList> LIST_ITEMSTACKS =
-                    AspectReadBuilders.BUILDER_LIST.appendKind("inventory")
+                    AspectReadBuilders.BUILDER_LIST.appendKind("inventory").withFingerprint(AspectReadBuilders.Inventory.FINGERPRINT)
                             .handle(AspectReadBuilders.Inventory.PROP_GET_LIST, "itemstacks").buildRead();
 
             public static final IAspectRead<ValueObjectTypeItemStack.ValueItemStack, ValueObjectTypeItemStack> OBJECT_ITEM_STACK_SLOT =
@@ -5,6 +5,7 @@ import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 import org.cyclops.cyclopscore.helper.MinecraftHelpers;
 import org.cyclops.cyclopscore.init.ModBase;
+import org.cyclops.integrateddynamics.GeneralConfig;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
@@ -20,6 +21,7 @@ import org.cyclops.integrateddynamics.api.part.aspect.property.IAspectProperties
 import org.cyclops.integrateddynamics.api.part.read.IPartStateReader;
 import org.cyclops.integrateddynamics.api.part.read.IPartTypeReader;
 import org.cyclops.integrateddynamics.core.part.aspect.LazyAspectVariable;
+import org.cyclops.integrateddynamics.core.part.aspect.build.IAspectFingerprint;
 import org.cyclops.integrateddynamics.part.aspect.AspectBase;
 import org.cyclops.integrateddynamics.part.aspect.Aspects;
 
@@ -50,7 +52,28 @@ public abstract class AspectReadBase<V extends IValue, T extends IValueType<V>>
     @Override
     public <P extends IPartType<P, S>, S extends IPartState<P>> void update(INetwork network, IPartNetwork partNetwork, P partType, PartTarget target, S state) {
         IAspectVariable variable = ((IPartTypeReader) partType).getVariable(target, (IPartStateReader) state, this);
-        variable.invalidate();
+        if (GeneralConfig.aspectChangeDetection && hasFingerprint() && variable instanceof LazyAspectVariable) {
+            ((LazyAspectVariable) variable).invalidate(getFingerprint(target));
+        } else {
+            variable.invalidate();
+        }
+    }
+
+    /**
+     * @return If this aspect can calculate fingerprints of its target.
+     */
+    protected boolean hasFingerprint() {
+        return false;
+    }
+
+    /**
+     * Calculate a cheap fingerprint of the given target.
+     * This is only called if {@link #hasFingerprint()} is true.
+     * @param target The target to get the fingerprint for.
+     * @return The fingerprint, or {@link IAspectFingerprint#UNKNOWN}.
+     */
+    protected long getFingerprint(PartTarget target) {
+        return IAspectFingerprint.UNKNOWN;
     }
 
     protected String getUnlocalizedType() {
@@ -23,6 +23,7 @@ import net.minecraftforge.items.CapabilityItemHandler;
 import net.minecraftforge.items.IItemHandler;
 import org.apache.commons.lang3.tuple.Pair;
 import org.cyclops.commoncapabilities.api.capability.block.BlockCapabilities;
+import org.cyclops.commoncapabilities.api.capability.inventorystate.IInventoryState;
 import org.cyclops.commoncapabilities.api.capability.recipehandler.IRecipeHandler;
 import org.cyclops.commoncapabilities.api.capability.temperature.ITemperature;
 import org.cyclops.commoncapabilities.api.capability.work.IWorker;
@@ -41,6 +42,7 @@ import org.cyclops.integrateddynamics.core.NoteBlockEventReceiver;
 import org.cyclops.integrateddynamics.core.evaluate.variable.*;
 import org.cyclops.integrateddynamics.core.helper.NetworkHelpers;
 import org.cyclops.integrateddynamics.core.part.aspect.build.AspectBuilder;
+import org.cyclops.integrateddynamics.core.part.aspect.build.IAspectFingerprint;
 import org.cyclops.integrateddynamics.core.part.aspect.build.IAspectValuePropagator;
 import org.cyclops.integrateddynamics.core.part.aspect.property.AspectProperties;
 import org.cyclops.integrateddynamics.core.part.aspect.property.AspectPropertyTypeInstance;
@@ -241,6 +243,34 @@ public class AspectReadBuilders {
             }
             return null;
         };
+        public static final IAspectFingerprint FINGERPRINT = target -> {
+            DimPos dimPos = target.getTarget().getPos();
+            if (!dimPos.isLoaded()) {
+                return IAspectFingerprint.UNKNOWN;
+            }
+            IFluidHandler fluidHandler = TileHelpers.getCapability(dimPos, target.getTarget().getSide(),
+                    CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY);
+            if(fluidHandler == null) {
+                return 0;
+            }
+            IFluidTankProperties[] tankInfo = fluidHandler.getTankProperties();
+            if(tankInfo == null) {
+                return IAspectFingerprint.UNKNOWN;
+            }
+            long hash = tankInfo.length;
+            for(IFluidTankProperties tank : tankInfo) {
+                hash = 31 * hash + tank.getCapacity();
+                FluidStack contents = tank.getContents();
+                if(contents != null) {
+                    hash = 31 * hash + contents.getFluid().getName().hashCode();
+                    hash = 31 * hash + contents.amount;
+                    hash = 31 * hash + (contents.tag != null ? contents.tag.hashCode() : 0);
+                } else {
+                    hash = 31 * hash;
+                }
+            }
+            return hash == IAspectFingerprint.UNKNOWN ? 0 : hash;
+        };
         public static final IAspectValuePropagator<IFluidTankProperties, FluidStack>
                 PROP_GET_FLUIDSTACK = tankInfo -> tankInfo != null ? tankInfo.getContents() : null;
 
@@ -254,13 +284,13 @@ public class AspectReadBuilders {
                 ));
 
         public static final AspectBuilder<ValueTypeBoolean.ValueBoolean, ValueTypeBoolean, IFluidTankProperties[]>
-                BUILDER_BOOLEAN = AspectReadBuilders.BUILDER_BOOLEAN.handle(PROP_GET, "fluid");
+                BUILDER_BOOLEAN = AspectReadBuilders.BUILDER_BOOLEAN.withFingerprint(FINGERPRINT).handle(PROP_GET, "fluid");
         public static final AspectBuilder<ValueTypeInteger.ValueInteger, ValueTypeInteger, IFluidTankProperties[]>
-                BUILDER_INTEGER = AspectReadBuilders.BUILDER_INTEGER.handle(PROP_GET, "fluid");
+                BUILDER_INTEGER = AspectReadBuilders.BUILDER_INTEGER.withFingerprint(FINGERPRINT).handle(PROP_GET, "fluid");
         public static final AspectBuilder<ValueTypeInteger.ValueInteger, ValueTypeInteger, IFluidTankProperties>
-                BUILDER_INTEGER_ACTIVATABLE = AspectReadBuilders.BUILDER_INTEGER.handle(PROP_GET_ACTIVATABLE, "fluid").withProperties(PROPERTIES);
+                BUILDER_INTEGER_ACTIVATABLE = AspectReadBuilders.BUILDER_INTEGER.withFingerprint(FINGERPRINT).handle(PROP_GET_ACTIVATABLE, "fluid").withProperties(PROPERTIES);
         public static final AspectBuilder<ValueTypeDouble.ValueDouble, ValueTypeDouble, IFluidTankProperties>
-                BUILDER_DOUBLE_ACTIVATABLE = AspectReadBuilders.BUILDER_DOUBLE.handle(PROP_GET_ACTIVATABLE, "fluid").withProperties(PROPERTIES);
+                BUILDER_DOUBLE_ACTIVATABLE = AspectReadBuilders.BUILDER_DOUBLE.withFingerprint(FINGERPRINT).handle(PROP_GET_ACTIVATABLE, "fluid").withProperties(PROPERTIES);
 
     }
 
@@ -275,6 +305,14 @@ public class AspectReadBuilders {
             PROPERTIES.setValue(PROPERTY_SLOTID, ValueTypeInteger.ValueInteger.of(0)); // Not required in this case, but we do this here just as an example on how to set default values.
         }
 
+        public static final IAspectFingerprint FINGERPRINT = target -> {
+            PartPos pos = target.getTarget();
+            if (!pos.getPos().isLoaded()) {
+                return IAspectFingerprint.UNKNOWN;
+            }
+            IInventoryState inventoryState = TileHelpers.getCapability(pos.getPos(), pos.getSide(), Capabilities.INVENTORY_STATE);
+            return inventoryState != null ? inventoryState.getHash() : IAspectFingerprint.UNKNOWN;
+        };
         public static final IAspectValuePropagator<Pair<PartTarget, IAspectProperties>, IItemHandler> PROP_GET = input -> {
             PartPos target = input.getLeft().getTarget();
             return TileHelpers.getCapability(target.getPos().getWorld(), target.getPos().getBlockPos(), target.getSide(), CapabilityItemHandler.ITEM_HANDLER_CAPABILITY);
@@ -292,13 +330,13 @@ public class AspectReadBuilders {
                 PROP_GET_LIST = input -> ValueTypeList.ValueList.ofFactory(new ValueTypeListProxyPositionedInventory(input.getLeft().getTarget().getPos(), input.getLeft().getTarget().getSide()));
 
         public static final AspectBuilder<ValueTypeBoolean.ValueBoolean, ValueTypeBoolean, IItemHandler>
-                BUILDER_BOOLEAN = AspectReadBuilders.BUILDER_BOOLEAN.handle(PROP_GET, "inventory");
+                BUILDER_BOOLEAN = AspectReadBuilders.BUILDER_BOOLEAN.withFingerprint(FINGERPRINT).handle(PROP_GET, "inventory");
         public static final AspectBuilder<ValueTypeInteger.ValueInteger, ValueTypeInteger, IItemHandler>
-                BUILDER_INTEGER = AspectReadBuilders.BUILDER_INTEGER.handle(PROP_GET, "inventory");
+                BUILDER_INTEGER = AspectReadBuilders.BUILDER_INTEGER.withFingerprint(FINGERPRINT).handle(PROP_GET, "inventory");
         public static final AspectBuilder<ValueTypeDouble.ValueDouble, ValueTypeDouble, IItemHandler>
-                BUILDER_DOUBLE = AspectReadBuilders.BUILDER_DOUBLE.handle(PROP_GET, "inventory");
+                BUILDER_DOUBLE = AspectReadBuilders.BUILDER_DOUBLE.withFingerprint(FINGERPRINT).handle(PROP_GET, "inventory");
         public static final AspectBuilder<ValueObjectTypeItemStack.ValueItemStack, ValueObjectTypeItemStack, ItemStack>
-                BUILDER_ITEMSTACK = BUILDER_OBJECT_ITEMSTACK.handle(PROP_GET_SLOT, "inventory").withProperties(PROPERTIES);
+                BUILDER_ITEMSTACK = BUILDER_OBJECT_ITEMSTACK.withFingerprint(FINGERPRINT).handle(PROP_GET_SLOT, "inventory").withProperties(PROPERTIES);
 
     }
 
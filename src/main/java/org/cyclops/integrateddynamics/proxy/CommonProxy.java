@@ -41,6 +41,7 @@ public class CommonProxy extends CommonProxyComponent {
         packetHandler.register(LogicProgrammerValueTypeIngredientsValueChangedPacket.class);
         packetHandler.register(LogicProgrammerValueTypeRecipeValueChangedPacket.class);
         packetHandler.register(SpeakTextPacket.class);
+        packetHandler.register(PartStateFieldsPacket.class);
 
         IntegratedDynamics.clog("Registered packet handler.");
     }
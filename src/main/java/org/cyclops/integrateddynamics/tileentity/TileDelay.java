@@ -1,7 +1,5 @@
 package org.cyclops.integrateddynamics.tileentity;
 
-import com.google.common.collect.Lists;
-import com.google.common.collect.Queues;
 import lombok.Getter;
 import lombok.Setter;
 import net.minecraft.entity.player.EntityPlayer;
@@ -28,13 +26,12 @@ import org.cyclops.integrateddynamics.capability.networkelementprovider.NetworkE
 import org.cyclops.integrateddynamics.core.evaluate.DelayVariableFacadeHandler;
 import org.cyclops.integrateddynamics.core.evaluate.variable.ValueHelpers;
 import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeList;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeListProxyWindow;
 import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypes;
 import org.cyclops.integrateddynamics.core.helper.NetworkHelpers;
 import org.cyclops.integrateddynamics.core.item.DelayVariableFacade;
 import org.cyclops.integrateddynamics.network.DelayNetworkElement;
 
-import java.util.Queue;
-
 /**
  * A part entity for the variable delay.
  *
@@ -42,7 +39,7 @@ import java.util.Queue;
  */
 public class TileDelay extends TileProxy {
 
-    protected Queue<IValue> values = null;
+    protected ValueTypeListProxyWindow.Buffer<IValue> values = null;
     @NBTPersist
     @Getter
     private int capacity = 5;
@@ -101,12 +98,12 @@ public class TileDelay extends TileProxy {
 
     public void setCapacity(int capacity) {
         this.capacity = Math.max(1, capacity);
-        this.values = Queues.newArrayBlockingQueue(this.capacity);
+        this.values = new ValueTypeListProxyWindow.Buffer<>(this.capacity);
     }
 
-    public Queue<IValue> getValues() {
+    public ValueTypeListProxyWindow.Buffer<IValue> getValues() {
         if (values == null) {
-            values = Queues.newArrayBlockingQueue(this.capacity);
+            values = new ValueTypeListProxyWindow.Buffer<>(this.capacity);
         }
         return values;
     }
@@ -115,8 +112,11 @@ public class TileDelay extends TileProxy {
     public NBTTagCompound writeToNBT(NBTTagCompound tag) {
         tag = super.writeToNBT(tag);
         NBTTagList valueList = new NBTTagList();
-        for (IValue value : getValues()) {
-            valueList.appendTag(ValueHelpers.serialize(value));
+        ValueTypeListProxyWindow.Buffer<IValue> values = getValues();
+        for (int i = 0; i < values.size(); i++) {
+            // Values are only serialized once, and copies are used in later writes,
+            // as the written tag may be modified by others.
+            valueList.appendTag(values.getSerialized(i).copy());
         }
         tag.setTag("values", valueList);
         return tag;
@@ -126,7 +126,7 @@ public class TileDelay extends TileProxy {
     public void readFromNBT(NBTTagCompound tag) {
         super.readFromNBT(tag);
         if (this.capacity <= 0) this.capacity = 1;
-        values = Queues.newArrayBlockingQueue(this.capacity);
+        values = new ValueTypeListProxyWindow.Buffer<>(this.capacity);
 
         NBTTagList valueList = tag.getTagList("values", MinecraftHelpers.NBTTag_Types.NBTTagCompound.ordinal());
         for (int i = 0; i < valueList.tagCount(); i++) {
@@ -141,11 +141,6 @@ public class TileDelay extends TileProxy {
     protected void updateTileEntity() {
         super.updateTileEntity();
         if (!getWorld().isRemote && updateInterval > 0 && getWorld().getTotalWorldTime() % updateInterval == 0) {
-            // Remove oldest elements from the queue until we have room for a new one.
-            while (getValues().size() >= this.capacity) {
-                getValues().poll();
-            }
-
             // Add new value to the queue
             IVariable<?> variable = super.getVariable(NetworkHelpers.getPartNetwork(getNetwork()));
             IValue value = null;
@@ -161,10 +156,11 @@ public class TileDelay extends TileProxy {
                             getValues().clear();
                         }
                     } catch (EvaluationException e) {}
+                    // The oldest element is removed from the buffer if it is full.
                     getValues().add(value);
 
-                    // Update variable with as value the materialized queue list
-                    this.list = ValueTypeList.ValueList.ofList(value.getType(), Lists.newArrayList(values));
+                    // Update variable with as value a snapshot of the buffer
+                    this.list = ValueTypeList.ValueList.ofFactory(getValues().snapshot(value.getType()));
                 }
             } else {
                 getValues().clear();
@@ -0,0 +1,140 @@
+package org.cyclops.integrateddynamics.core.evaluate.expression;
+
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.expression.VariableAdapter;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueCastMappings;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeInteger;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypes;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the invalidation of lazy expressions through the dependency graph.
+ * @author rubensworks
+ */
+public class TestLazyExpression {
+
+    private LazyExpressionValueCache cache;
+    private SettableVariable a;
+    private SettableVariable b;
+    private LazyExpression<ValueTypeInteger.ValueInteger> e1;
+    private LazyExpression<ValueTypeInteger.ValueInteger> e2;
+    private int e2Invalidations;
+
+    @Before
+    public void beforeEach() {
+        ValueCastMappings.load();
+        cache = new LazyExpressionValueCache();
+        a = new SettableVariable(1);
+        b = new SettableVariable(2);
+        // e1 = a + b, e2 = e1 + b
+        e1 = new LazyExpression<>(1, Operators.ARITHMETIC_ADDITION, new IVariable[]{a, b}, cache);
+        e2 = new LazyExpression<>(2, Operators.ARITHMETIC_ADDITION, new IVariable[]{e1, b}, cache);
+        e2Invalidations = 0;
+    }
+
+    protected void listenE2() {
+        e2.addInvalidationListener(() -> e2Invalidations++);
+    }
+
+    @Test
+    public void testEvaluate() throws EvaluationException {
+        assertThat(e1.getValue().getRawValue(), is(3));
+        assertThat(e2.getValue().getRawValue(), is(5));
+        assertThat(cache.getDependents(1).contains(2), is(true));
+    }
+
+    @Test
+    public void testExternalChangePropagates() throws EvaluationException {
+        assertThat(e2.getValue().getRawValue(), is(5));
+        listenE2();
+
+        a.setValue(10);
+        assertThat(cache.hasValue(1), is(false));
+        assertThat(cache.hasValue(2), is(false));
+        assertThat(e2Invalidations, is(1));
+        assertThat(e2.getValue().getRawValue(), is(14));
+    }
+
+    @Test
+    public void testDirtyDependentsNotNotifiedAgain() throws EvaluationException {
+        assertThat(e2.getValue().getRawValue(), is(5));
+        listenE2();
+
+        e1.invalidate();
+        assertThat(e2Invalidations, is(1));
+
+        listenE2();
+        e1.invalidate();
+        assertThat(e2Invalidations, is(1));
+
+        assertThat(e2.getValue().getRawValue(), is(5));
+        e1.invalidate();
+        assertThat(e2Invalidations, is(2));
+    }
+
+    @Test
+    public void testReplaceExpression() throws EvaluationException {
+        assertThat(e2.getValue().getRawValue(), is(5));
+
+        // Replace e2 by e2 = a + b, which does not depend on e1 anymore
+        e2 = new LazyExpression<>(2, Operators.ARITHMETIC_ADDITION, new IVariable[]{a, b}, cache);
+        assertThat(cache.getDependents(1).isEmpty(), is(true));
+        assertThat(e2.getValue().getRawValue(), is(3));
+        listenE2();
+        e1.invalidate();
+        assertThat(e2Invalidations, is(0));
+        assertThat(cache.hasValue(2), is(true));
+    }
+
+    @Test
+    public void testRemoveExpression() throws EvaluationException {
+        assertThat(e2.getValue().getRawValue(), is(5));
+        listenE2();
+
+        cache.removeExpression(2);
+        assertThat(cache.getDependents(1).isEmpty(), is(true));
+        e1.invalidate();
+        assertThat(e2Invalidations, is(0));
+    }
+
+    @Test
+    public void testClear() throws EvaluationException {
+        assertThat(e2.getValue().getRawValue(), is(5));
+        cache.clear();
+        assertThat(cache.hasValue(1), is(false));
+        assertThat(cache.hasValue(2), is(false));
+        assertThat(cache.getDependents(1).isEmpty(), is(true));
+    }
+
+    private static class SettableVariable extends VariableAdapter<ValueTypeInteger.ValueInteger> {
+
+        private ValueTypeInteger.ValueInteger value;
+
+        public SettableVariable(int value) {
+            this.value = ValueTypeInteger.ValueInteger.of(value);
+        }
+
+        public void setValue(int value) {
+            this.value = ValueTypeInteger.ValueInteger.of(value);
+            invalidate();
+        }
+
+        @Override
+        public IValueType<ValueTypeInteger.ValueInteger> getType() {
+            return ValueTypes.INTEGER;
+        }
+
+        @Override
+        public ValueTypeInteger.ValueInteger getValue() throws EvaluationException {
+            return value;
+        }
+    }
+
+}
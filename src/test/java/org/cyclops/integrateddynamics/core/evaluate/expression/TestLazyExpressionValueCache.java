@@ -0,0 +1,75 @@
+package org.cyclops.integrateddynamics.core.evaluate.expression;
+
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeInteger;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the dependency graph of the lazy expression value cache.
+ * @author rubensworks
+ */
+public class TestLazyExpressionValueCache {
+
+    private LazyExpressionValueCache cache;
+
+    @Before
+    public void beforeEach() {
+        cache = new LazyExpressionValueCache();
+        // 0 -> 1 -> 3, 0 -> 2 -> 3
+        cache.addDependency(0, 1);
+        cache.addDependency(0, 2);
+        cache.addDependency(1, 3);
+        cache.addDependency(2, 3);
+        for (int i = 0; i <= 4; i++) {
+            cache.setValue(i, ValueTypeInteger.ValueInteger.of(i));
+        }
+    }
+
+    @Test
+    public void testRemoveLeaf() {
+        cache.removeValue(3);
+        assertThat(cache.hasValue(0), is(true));
+        assertThat(cache.hasValue(1), is(true));
+        assertThat(cache.hasValue(2), is(true));
+        assertThat(cache.hasValue(3), is(false));
+        assertThat(cache.hasValue(4), is(true));
+    }
+
+    @Test
+    public void testRemoveRootPropagates() {
+        cache.removeValue(0);
+        assertThat(cache.hasValue(0), is(false));
+        assertThat(cache.hasValue(1), is(false));
+        assertThat(cache.hasValue(2), is(false));
+        assertThat(cache.hasValue(3), is(false));
+        assertThat(cache.hasValue(4), is(true));
+    }
+
+    @Test
+    public void testRemoveIntermediatePropagates() {
+        cache.removeValue(1);
+        assertThat(cache.hasValue(0), is(true));
+        assertThat(cache.hasValue(1), is(false));
+        assertThat(cache.hasValue(2), is(true));
+        assertThat(cache.hasValue(3), is(false));
+    }
+
+    @Test
+    public void testRemoveDependencies() {
+        cache.removeDependencies(3);
+        assertThat(cache.getDependents(1).isEmpty(), is(true));
+        assertThat(cache.getDependents(2).isEmpty(), is(true));
+        cache.removeValue(0);
+        assertThat(cache.hasValue(1), is(false));
+        assertThat(cache.hasValue(3), is(true));
+    }
+
+    @Test
+    public void testGetValue() {
+        assertThat(cache.getValue(2), is(ValueTypeInteger.ValueInteger.of(2)));
+    }
+
+}
@@ -0,0 +1,106 @@
+package org.cyclops.integrateddynamics.core.evaluate.operator;
+
+import com.google.common.collect.Lists;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.core.evaluate.variable.DummyVariableInteger;
+import org.cyclops.integrateddynamics.core.evaluate.variable.DummyVariableOperator;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueHelpers;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeInteger;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeOperator;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Test the evaluation context.
+ * @author rubensworks
+ */
+public class TestEvaluationContext {
+
+    private static final DummyVariableInteger I1 = new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(1));
+
+    @Test
+    public void testContextReleasedAfterEvaluation() throws EvaluationException {
+        EvaluationContext context = new EvaluationContext(256, 0);
+        IValue res = Operators.ARITHMETIC_ADDITION.evaluate(context, I1, I1);
+        assertThat(((ValueTypeInteger.ValueInteger) res).getRawValue(), is(2));
+        assertThat(context.getDepth(), is(0));
+        assertThat(EvaluationContext.current() == context, is(false));
+    }
+
+    @Test
+    public void testContextReleasedAfterFailure() {
+        EvaluationContext context = new EvaluationContext(256, 0);
+        try {
+            Operators.ARITHMETIC_ADDITION.evaluate(context, I1);
+        } catch (EvaluationException e) {
+            // Expected
+        }
+        assertThat(context.getDepth(), is(0));
+        assertThat(EvaluationContext.current() == context, is(false));
+    }
+
+    @Test
+    public void testRecursionLimit() throws EvaluationException {
+        EvaluationContext context = new EvaluationContext(2, 0);
+        context.enter(Operators.ARITHMETIC_ADDITION);
+        context.enter(Operators.ARITHMETIC_ADDITION);
+        // Other operators are not limited by the recursion of the addition operator
+        context.enter(Operators.ARITHMETIC_MULTIPLICATION);
+        assertThat(context.getDepth(), is(3));
+        try {
+            context.enter(Operators.ARITHMETIC_ADDITION);
+            fail("The recursion limit was not applied");
+        } catch (EvaluationException e) {
+            // Expected
+        }
+        assertThat(context.getDepth(), is(3));
+        context.exit(Operators.ARITHMETIC_MULTIPLICATION);
+        context.exit(Operators.ARITHMETIC_ADDITION);
+        context.enter(Operators.ARITHMETIC_ADDITION);
+        context.exit(Operators.ARITHMETIC_ADDITION);
+        context.exit(Operators.ARITHMETIC_ADDITION);
+        assertThat(context.getDepth(), is(0));
+    }
+
+    @Test(expected = EvaluationException.class)
+    public void testBudget() throws EvaluationException {
+        EvaluationContext context = new EvaluationContext(256, 1);
+        ValueHelpers.evaluateOperator(context, Operators.OPERATOR_APPLY,
+                new DummyVariableOperator(ValueTypeOperator.ValueOperator.of(Operators.INTEGER_INCREMENT)), I1);
+    }
+
+    @Test
+    public void testConcurrentEvaluation() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Integer>> futures = Lists.newArrayList();
+            for (int i = 0; i < 16; i++) {
+                final DummyVariableInteger input = new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(i));
+                futures.add(executor.submit((Callable<Integer>) () -> {
+                    int sum = 0;
+                    for (int j = 0; j < 1000; j++) {
+                        IValue res = ValueHelpers.evaluateOperator(Operators.ARITHMETIC_ADDITION, input, I1);
+                        sum += ((ValueTypeInteger.ValueInteger) res).getRawValue();
+                    }
+                    return sum;
+                }));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                assertThat(futures.get(i).get(), is((i + 1) * 1000));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+}
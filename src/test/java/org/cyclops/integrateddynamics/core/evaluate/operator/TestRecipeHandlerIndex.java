@@ -0,0 +1,120 @@
+package org.cyclops.integrateddynamics.core.evaluate.operator;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import org.cyclops.commoncapabilities.api.capability.recipehandler.IPrototypedIngredientAlternatives;
+import org.cyclops.commoncapabilities.api.capability.recipehandler.IRecipeDefinition;
+import org.cyclops.commoncapabilities.api.capability.recipehandler.PrototypedIngredientAlternativesList;
+import org.cyclops.commoncapabilities.api.capability.recipehandler.RecipeDefinition;
+import org.cyclops.commoncapabilities.api.ingredient.IMixedIngredients;
+import org.cyclops.commoncapabilities.api.ingredient.IngredientComponent;
+import org.cyclops.commoncapabilities.api.ingredient.MixedIngredients;
+import org.cyclops.commoncapabilities.api.ingredient.PrototypedIngredient;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the recipe handler index.
+ * @author rubensworks
+ */
+public class TestRecipeHandlerIndex {
+
+    private IRecipeDefinition r1;
+    private IRecipeDefinition r2;
+    private IRecipeDefinition r3;
+    private List<IRecipeDefinition> recipes;
+
+    @Before
+    public void before() {
+        r1 = recipe(1, 10);
+        r2 = recipe(2, 20);
+        r3 = recipe(3, 10);
+        recipes = Lists.newArrayList(r1, r2, r3);
+    }
+
+    protected static IMixedIngredients energy(int amount) {
+        Map<IngredientComponent<?, ?>, List<?>> ingredients = Maps.newIdentityHashMap();
+        ingredients.put(IngredientComponent.ENERGY, Collections.singletonList(amount));
+        return new MixedIngredients(ingredients);
+    }
+
+    protected static IRecipeDefinition recipe(int input, int output) {
+        Map<IngredientComponent<?, ?>, List<IPrototypedIngredientAlternatives<?, ?>>> inputs = Maps.newIdentityHashMap();
+        inputs.put(IngredientComponent.ENERGY, Collections.singletonList(new PrototypedIngredientAlternativesList<>(
+                Collections.singletonList(new PrototypedIngredient<>(IngredientComponent.ENERGY, input, false)))));
+        return new RecipeDefinition(inputs, energy(output));
+    }
+
+    @Test
+    public void testCandidatesOutput() {
+        RecipeHandlerIndex index = new RecipeHandlerIndex(recipes);
+        assertThat(index.getOutputIndex().getCandidates(energy(10)), is(Lists.newArrayList(r1, r3)));
+        assertThat(index.getOutputIndex().getCandidates(energy(20)), is(Lists.newArrayList(r2)));
+        assertThat(index.getOutputIndex().getCandidates(energy(30)).isEmpty(), is(true));
+    }
+
+    @Test
+    public void testCandidatesInput() {
+        RecipeHandlerIndex index = new RecipeHandlerIndex(recipes);
+        assertThat(index.getInputIndex().getCandidates(energy(2)), is(Lists.newArrayList(r2)));
+    }
+
+    @Test
+    public void testCandidatesUnconstrained() {
+        RecipeHandlerIndex index = new RecipeHandlerIndex(recipes);
+        assertThat(index.getOutputIndex().getCandidates(new MixedIngredients(Maps.newIdentityHashMap())), is(recipes));
+    }
+
+    @Test
+    public void testGetReusesIndex() {
+        Object owner = new Object();
+        RecipeHandlerIndex index = RecipeHandlerIndex.get(owner, recipes);
+        assertThat(RecipeHandlerIndex.get(owner, recipes), sameInstance(index));
+
+        // A new collection of the same recipes does not rebuild the index
+        assertThat(RecipeHandlerIndex.get(owner, Lists.newArrayList(r1, r2, r3)), sameInstance(index));
+
+        // New but equal recipe instances do not rebuild the index either
+        assertThat(RecipeHandlerIndex.get(owner, Lists.newArrayList(recipe(1, 10), recipe(2, 20), recipe(3, 10))),
+                sameInstance(index));
+    }
+
+    @Test
+    public void testGetRebuildsIndex() {
+        Object owner = new Object();
+        RecipeHandlerIndex index = RecipeHandlerIndex.get(owner, recipes);
+
+        RecipeHandlerIndex indexRemoved = RecipeHandlerIndex.get(owner, Lists.newArrayList(r1, r2));
+        assertThat(indexRemoved, not(sameInstance(index)));
+        assertThat(indexRemoved.getRecipes(), is(Lists.newArrayList(r1, r2)));
+
+        RecipeHandlerIndex indexChanged = RecipeHandlerIndex.get(owner, Lists.newArrayList(r1, r3));
+        assertThat(indexChanged, not(sameInstance(indexRemoved)));
+        assertThat(indexChanged.getOutputIndex().getCandidates(energy(20)).isEmpty(), is(true));
+
+        // Indexes are kept per owner
+        assertThat(RecipeHandlerIndex.get(new Object(), Lists.newArrayList(r1, r3)), not(sameInstance(indexChanged)));
+    }
+
+    @Test
+    public void testGetValidatesOncePerTick() {
+        Object owner = new Object();
+        RecipeHandlerIndex index = RecipeHandlerIndex.get(owner, () -> recipes, 1);
+
+        // Changes are only noticed in the next tick
+        assertThat(RecipeHandlerIndex.get(owner, () -> Lists.newArrayList(r1, r2), 1), sameInstance(index));
+        RecipeHandlerIndex indexRemoved = RecipeHandlerIndex.get(owner, () -> Lists.newArrayList(r1, r2), 2);
+        assertThat(indexRemoved, not(sameInstance(index)));
+        assertThat(indexRemoved.getRecipes(), is(Lists.newArrayList(r1, r2)));
+    }
+
+}
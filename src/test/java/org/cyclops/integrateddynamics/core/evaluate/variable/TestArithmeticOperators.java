@@ -126,6 +126,27 @@ public class TestArithmeticOperators {
         Operators.ARITHMETIC_ADDITION.evaluate(new IVariable[]{DUMMY_VARIABLE, DUMMY_VARIABLE});
     }
 
+    @Test
+    public void testArithmeticAddSameInput() throws EvaluationException {
+        IVariable[] input = new IVariable[]{i10, i15};
+        IValue res1 = Operators.ARITHMETIC_ADDITION.evaluate(input);
+        assertThat("10 + 15 = 25", ((ValueTypeInteger.ValueInteger) res1).getRawValue(), is(25));
+
+        input[1] = i1;
+        IValue res2 = Operators.ARITHMETIC_ADDITION.evaluate(input);
+        assertThat("10 + 1 = 11", ((ValueTypeInteger.ValueInteger) res2).getRawValue(), is(11));
+
+        IValue res3 = Operators.ARITHMETIC_ADDITION.evaluate(new IVariable[]{i0, i1});
+        assertThat("0 + 1 = 1", ((ValueTypeInteger.ValueInteger) res3).getRawValue(), is(1));
+    }
+
+    @Test(expected = EvaluationException.class)
+    public void testInvalidInputTypeAddAfterValid() throws EvaluationException {
+        Operators.ARITHMETIC_ADDITION.evaluate(new IVariable[]{i0, i1});
+        Operators.ARITHMETIC_ADDITION.evaluate(new IVariable[]{d0, d1});
+        Operators.ARITHMETIC_ADDITION.evaluate(new IVariable[]{i0, DUMMY_VARIABLE});
+    }
+
     /**
      * ----------------------------------- MINUS -----------------------------------
      */
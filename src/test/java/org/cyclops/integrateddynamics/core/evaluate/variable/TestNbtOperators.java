@@ -838,6 +838,16 @@ public class TestNbtOperators {
         assertThat("withstring({a:a;b:c}, a, c) = {a:c;b:c}", ((ValueTypeNbt.ValueNbt) res2).getRawValue(), is(t2));
     }
 
+    @Test
+    public void testNbtWithSharesNestedTags() throws EvaluationException {
+        NBTTagCompound original = nall.getValue().getRawValue().copy();
+        IValue res1 = Operators.NBT_WITH_STRING.evaluate(new IVariable[]{nall, sc, sc});
+        NBTTagCompound tag = ((ValueTypeNbt.ValueNbt) res1).getRawValue();
+        assertThat("with does not modify its input", nall.getValue().getRawValue(), is(original));
+        assertThat("with shares nested tags", tag.getTag("tag") == nall.getValue().getRawValue().getTag("tag"), is(true));
+        assertThat("with sets the entry", tag.getString("c"), is("c"));
+    }
+
     @Test(expected = EvaluationException.class)
     public void testInvalidInputNbtWithStringSizeLarge() throws EvaluationException {
         Operators.NBT_WITH_STRING.evaluate(new IVariable[]{nempty, sa, i1});
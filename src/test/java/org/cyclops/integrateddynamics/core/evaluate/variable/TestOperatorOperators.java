@@ -346,6 +346,25 @@ public class TestOperatorOperators {
         assertThat(list4.getValueType(), CoreMatchers.<IValueType>is(ValueTypes.OPERATOR));
     }
 
+    @Test
+    public void testMapMap() throws EvaluationException {
+        IValue res1 = Operators.OPERATOR_MAP.evaluate(new IVariable[]{oIntegerIncrement, lintegers});
+        IValue res2 = Operators.OPERATOR_MAP.evaluate(new IVariable[]{oIntegerIncrement, new DummyVariableList((ValueTypeList.ValueList) res1)});
+        IValueTypeListProxy list2 = ((ValueTypeList.ValueList) res2).getRawValue();
+        assertThat(list2.getLength(), is(4));
+        assertThat("map(map([0, 1, 2, 3], ++), ++)[0] == 2", ((ValueTypeInteger.ValueInteger) list2.get(0)).getRawValue(), is(2));
+        assertThat("map(map([0, 1, 2, 3], ++), ++)[1] == 3", ((ValueTypeInteger.ValueInteger) list2.get(1)).getRawValue(), is(3));
+        assertThat("map(map([0, 1, 2, 3], ++), ++)[2] == 4", ((ValueTypeInteger.ValueInteger) list2.get(2)).getRawValue(), is(4));
+        assertThat("map(map([0, 1, 2, 3], ++), ++)[3] == 5", ((ValueTypeInteger.ValueInteger) list2.get(3)).getRawValue(), is(5));
+        assertThat("repeated access is memoized", list2.get(3), sameInstance(list2.get(3)));
+
+        IValue res3 = Operators.OPERATOR_MAP.evaluate(new IVariable[]{oLogicalNot, new DummyVariableList((ValueTypeList.ValueList) Operators.OPERATOR_MAP.evaluate(new IVariable[]{oLogicalNot, lbooleans}))});
+        IValueTypeListProxy list3 = ((ValueTypeList.ValueList) res3).getRawValue();
+        assertThat("map(map([false, true, false, true], !), !)[0] == false", ((ValueTypeBoolean.ValueBoolean) list3.get(0)).getRawValue(), is(false));
+        assertThat("map(map([false, true, false, true], !), !)[1] == true", ((ValueTypeBoolean.ValueBoolean) list3.get(1)).getRawValue(), is(true));
+        assertThat(list3.getValueType(), CoreMatchers.<IValueType>is(ValueTypes.BOOLEAN));
+    }
+
     @Test(expected = EvaluationException.class)
     public void testInvalidInputSizeMapLarge() throws EvaluationException {
         Operators.OPERATOR_MAP.evaluate(new IVariable[]{oIntegerIncrement, lintegers, lintegers});
@@ -874,6 +893,23 @@ public class TestOperatorOperators {
         assertThat(list2.getValueType(), CoreMatchers.<IValueType>is(ValueTypes.INTEGER));
     }
 
+    @Test
+    public void testFilterMapped() throws EvaluationException {
+        DummyVariableOperator equalsTwo = new DummyVariableOperator((ValueTypeOperator.ValueOperator)
+                Operators.OPERATOR_APPLY.evaluate(new IVariable[]{oRelationalEquals, i2}));
+        IValue mapped = Operators.OPERATOR_MAP.evaluate(new IVariable[]{oIntegerIncrement, lintegers});
+        IValueTypeListProxy mappedList = ((ValueTypeList.ValueList) mapped).getRawValue();
+        IValue mapped0 = mappedList.get(0);
+
+        IValue res1 = Operators.OPERATOR_FILTER.evaluate(new IVariable[]{equalsTwo, new DummyVariableList((ValueTypeList.ValueList) mapped)});
+        IValueTypeListProxy list1 = ((ValueTypeList.ValueList) res1).getRawValue();
+        assertThat("length(filter(map([0, 1, 2, 3], ++), 2==)) == 1", list1.getLength(), is(1));
+        assertThat("filter(map([0, 1, 2, 3], ++), 2==)[0] == 2", ((ValueTypeInteger.ValueInteger) list1.get(0)).getRawValue(), is(2));
+        assertThat(list1.getValueType(), CoreMatchers.<IValueType>is(ValueTypes.INTEGER));
+        assertThat("filtered elements are memoized", mappedList.get(1), sameInstance(list1.get(0)));
+        assertThat("memoized elements are reused", mappedList.get(0), sameInstance(mapped0));
+    }
+
     @Test(expected = EvaluationException.class)
     public void testInvalidInputSizeFilterLarge() throws EvaluationException {
         DummyVariableOperator equalsTwo = new DummyVariableOperator((ValueTypeOperator.ValueOperator)
@@ -4,7 +4,9 @@ import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxy;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+import org.cyclops.integrateddynamics.core.evaluate.operator.CurriedOperator;
 import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
+import org.cyclops.integrateddynamics.core.evaluate.operator.RegexCache;
 import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -318,6 +320,26 @@ public class TestStringOperators {
         Operators.STRING_CONTAINS_REGEX.evaluate(new IVariable[]{DUMMY_VARIABLE, DUMMY_VARIABLE});
     }
 
+    @Test
+    public void testCurriedContainsRegexPrecompiles() throws EvaluationException {
+        long misses = RegexCache.getMissCount();
+        CurriedOperator curried = new CurriedOperator(Operators.STRING_CONTAINS_REGEX,
+                new Variable<>(ValueTypeString.ValueString.of("curried.+")));
+        assertThat("constant pattern is compiled when curried", RegexCache.getMissCount(), is(misses + 1));
+
+        long hits = RegexCache.getHitCount();
+        IValue res1 = curried.evaluate(new IVariable[]{new DummyVariableString(ValueTypeString.ValueString.of("curried regex"))});
+        assertThat("curried regex contains_regex curried.+", ((ValueTypeBoolean.ValueBoolean) res1).getRawValue(), is(true));
+        assertThat("compiled pattern is reused", RegexCache.getHitCount(), is(hits + 1));
+        assertThat("no pattern is compiled on evaluation", RegexCache.getMissCount(), is(misses + 1));
+    }
+
+    @Test(expected = EvaluationException.class)
+    public void testCurriedInvalidPatternContainsRegex() throws EvaluationException {
+        CurriedOperator curried = new CurriedOperator(Operators.STRING_CONTAINS_REGEX, new Variable<>(ValueTypeString.ValueString.of("[.+")));
+        curried.evaluate(new IVariable[]{sabc});
+    }
+
     /**
      * ----------------------------------- MATCHES_REGEX -----------------------------------
      */
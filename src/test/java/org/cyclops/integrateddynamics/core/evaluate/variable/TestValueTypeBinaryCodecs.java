@@ -0,0 +1,78 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import net.minecraft.nbt.NBTTagCompound;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the binary value codecs.
+ * @author rubensworks
+ */
+public class TestValueTypeBinaryCodecs {
+
+    protected IValue roundTrip(IValue value) throws IOException {
+        byte[] bytes = ValueTypeBinaryCodecs.encode(value);
+        assertThat(bytes, notNullValue());
+        return ValueTypeBinaryCodecs.decode(value.getType(), bytes);
+    }
+
+    @Test
+    public void testPrimitives() throws IOException {
+        assertThat(roundTrip(ValueTypeBoolean.ValueBoolean.of(true)), is(ValueTypeBoolean.ValueBoolean.of(true)));
+        assertThat(roundTrip(ValueTypeInteger.ValueInteger.of(0)), is(ValueTypeInteger.ValueInteger.of(0)));
+        assertThat(roundTrip(ValueTypeInteger.ValueInteger.of(-1)), is(ValueTypeInteger.ValueInteger.of(-1)));
+        assertThat(roundTrip(ValueTypeInteger.ValueInteger.of(Integer.MAX_VALUE)), is(ValueTypeInteger.ValueInteger.of(Integer.MAX_VALUE)));
+        assertThat(roundTrip(ValueTypeInteger.ValueInteger.of(Integer.MIN_VALUE)), is(ValueTypeInteger.ValueInteger.of(Integer.MIN_VALUE)));
+        assertThat(roundTrip(ValueTypeLong.ValueLong.of(Long.MIN_VALUE)), is(ValueTypeLong.ValueLong.of(Long.MIN_VALUE)));
+        assertThat(roundTrip(ValueTypeDouble.ValueDouble.of(-1.5D)), is(ValueTypeDouble.ValueDouble.of(-1.5D)));
+        assertThat(roundTrip(ValueTypeString.ValueString.of("abc;é")), is(ValueTypeString.ValueString.of("abc;é")));
+    }
+
+    @Test
+    public void testSmallIntegerIsCompact() {
+        assertThat(ValueTypeBinaryCodecs.encode(ValueTypeInteger.ValueInteger.of(10)).length, is(1));
+    }
+
+    @Test
+    public void testNbt() throws IOException {
+        NBTTagCompound tag = new NBTTagCompound();
+        tag.setInteger("a", 10);
+        tag.setString("b", "c");
+        assertThat(roundTrip(ValueTypeNbt.ValueNbt.of(tag)), is(ValueTypeNbt.ValueNbt.of(tag)));
+    }
+
+    @Test
+    public void testList() throws IOException {
+        IValue list = ValueTypeList.ValueList.ofAll(ValueTypeInteger.ValueInteger.of(1), ValueTypeInteger.ValueInteger.of(-2));
+        assertThat(roundTrip(list), is(list));
+
+        IValue heterogeneous = ValueTypeList.ValueList.ofAll(ValueTypes.CATEGORY_ANY,
+                ValueTypeInteger.ValueInteger.of(1), ValueTypeString.ValueString.of("a"));
+        assertThat(roundTrip(heterogeneous), is(heterogeneous));
+    }
+
+    @Test
+    public void testUnsupported() {
+        IValue list = ValueTypeList.ValueList.ofAll(ValueTypes.CATEGORY_ANY, ValueTypeOperator.ValueOperator.of(null));
+        assertThat(ValueTypeBinaryCodecs.encode(list), nullValue());
+    }
+
+    @Test
+    public void testNbtFallback() {
+        NBTTagCompound tag = new NBTTagCompound();
+        tag.setString("value", "10");
+        assertThat(ValueHelpers.deserializeRaw(tag, "value", ValueTypes.INTEGER), is(ValueTypeInteger.ValueInteger.of(10)));
+
+        ValueHelpers.serializeRaw(tag, "value", ValueTypeInteger.ValueInteger.of(20));
+        assertThat(ValueHelpers.hasSerializedRaw(tag, "value"), is(true));
+        assertThat(ValueHelpers.deserializeRaw(tag, "value", ValueTypes.INTEGER), is(ValueTypeInteger.ValueInteger.of(20)));
+    }
+
+}
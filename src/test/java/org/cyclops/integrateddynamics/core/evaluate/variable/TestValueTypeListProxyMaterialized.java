@@ -0,0 +1,139 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import com.google.common.collect.Lists;
+import net.minecraft.nbt.NBTTagCompound;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the indexed queries of materialized list proxies.
+ * @author rubensworks
+ */
+public class TestValueTypeListProxyMaterialized {
+
+    private ValueTypeListProxyMaterialized<ValueTypeString, ValueTypeString.ValueString> list;
+
+    @Before
+    public void before() {
+        ValueTypeListProxyFactories.load();
+        List<ValueTypeString.ValueString> values = Lists.newArrayList();
+        for (int i = 0; i < 100; i++) {
+            values.add(s("v" + (i % 50)));
+        }
+        list = new ValueTypeListProxyMaterialized<>(ValueTypes.STRING, values);
+    }
+
+    protected static ValueTypeString.ValueString s(String value) {
+        return ValueTypeString.ValueString.of(value);
+    }
+
+    @Test
+    public void testRepeatedQueries() {
+        for (int i = 0; i < 5; i++) {
+            assertThat(list.contains(s("v0")), is(true));
+            assertThat(list.contains(s("v50")), is(false));
+            assertThat(list.count(s("v49")), is(2));
+            assertThat(list.count(s("x")), is(0));
+        }
+    }
+
+    @Test
+    public void testIndexBuiltLazily() {
+        for (int i = 0; i < ValueTypeListProxyMaterialized.INDEX_MIN_QUERIES; i++) {
+            list.contains(s("v0"));
+            assertThat(list.getBuiltIndex(), nullValue());
+        }
+        list.contains(s("v0"));
+        assertThat(list.getBuiltIndex(), notNullValue());
+        assertThat(list.getBuiltIndex().count(s("v1")), is(2));
+    }
+
+    @Test
+    public void testUniq() throws EvaluationException {
+        ValueTypeListProxyMaterialized<ValueTypeString, ValueTypeString.ValueString> uniq = list.uniq();
+        assertThat(uniq.getLength(), is(50));
+        for (int i = 0; i < 50; i++) {
+            assertThat(uniq.get(i), is(s("v" + i)));
+        }
+    }
+
+    @Test
+    public void testHashConsistentAcrossProxies() throws EvaluationException {
+        ValueTypeListProxySlice<ValueTypeString, ValueTypeString.ValueString> slice = new ValueTypeListProxySlice<>(list, 0, 2);
+        ValueTypeListProxyMaterialized<ValueTypeString, ValueTypeString.ValueString> materialized =
+                new ValueTypeListProxyMaterialized<>(ValueTypes.STRING, Lists.newArrayList(s("v0"), s("v1")));
+        assertThat(materialized.equals(slice), is(true));
+        assertThat(materialized.hashCode(), is(slice.hashCode()));
+        assertThat(materialized.hashCode(), is(materialized.hashCode()));
+        assertThat(materialized.equals(list), is(false));
+        assertThat(list.hashCode() == materialized.hashCode(), is(false));
+    }
+
+    @Test
+    public void testNestedLists() {
+        List<IValue> values = Lists.newArrayList();
+        for (int i = 0; i < 20; i++) {
+            values.add(ValueTypeList.ValueList.ofAll(s("v" + i)));
+        }
+        ValueTypeListProxyMaterialized<?, IValue> nested = new ValueTypeListProxyMaterialized<>(ValueTypes.LIST, values);
+        IValue needle = ValueTypeList.ValueList.ofFactory(new ValueTypeListProxyMaterialized<>(ValueTypes.STRING,
+                Lists.newArrayList(s("v3"))));
+        for (int i = 0; i < 5; i++) {
+            assertThat(nested.contains(needle), is(true));
+        }
+    }
+
+    @Test
+    public void testNestedListsUniq() throws EvaluationException {
+        List<IValue> values = Lists.newArrayList();
+        for (int i = 0; i < 20; i++) {
+            values.add(ValueTypeList.ValueList.ofAll(s("v" + (i % 10))));
+            values.add(ValueTypeList.ValueList.ofFactory(new ValueTypeListProxyMaterialized<>(ValueTypes.STRING,
+                    Lists.newArrayList(s("v" + (i % 10))))));
+        }
+        ValueTypeListProxyMaterialized<?, IValue> uniq = new ValueTypeListProxyMaterialized<>(ValueTypes.LIST, values).uniq();
+        assertThat(uniq.getLength(), is(10));
+    }
+
+    @Test
+    public void testImmutable() {
+        assertThat(list.isImmutable(), is(true));
+
+        List<IValue> nested = Lists.newArrayList();
+        nested.add(ValueTypeList.ValueList.ofFactory(list));
+        assertThat(new ValueTypeListProxyMaterialized<>(ValueTypes.LIST, nested).isImmutable(), is(true));
+
+        // Lists of other proxies may be backed by live values
+        nested.add(ValueTypeList.ValueList.ofFactory(new ValueTypeListProxySlice<>(list, 0, 2)));
+        assertThat(new ValueTypeListProxyMaterialized<>(ValueTypes.LIST, nested).isImmutable(), is(false));
+    }
+
+    @Test
+    public void testMutableElementsNotIndexed() {
+        List<ValueTypeNbt.ValueNbt> values = Lists.newArrayList();
+        for (int i = 0; i < 20; i++) {
+            NBTTagCompound tag = new NBTTagCompound();
+            tag.setInteger("i", i);
+            values.add(ValueTypeNbt.ValueNbt.of(tag));
+        }
+        ValueTypeListProxyMaterialized<ValueTypeNbt, ValueTypeNbt.ValueNbt> nbtList =
+                new ValueTypeListProxyMaterialized<>(ValueTypes.NBT, values);
+        assertThat(nbtList.isImmutable(), is(false));
+        for (int i = 0; i < 5; i++) {
+            assertThat(nbtList.contains(values.get(3)), is(true));
+        }
+        assertThat(nbtList.getBuiltIndex(), nullValue());
+        nbtList.uniq();
+        assertThat(nbtList.getBuiltIndex(), nullValue());
+    }
+
+}
@@ -0,0 +1,120 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import com.google.common.collect.Lists;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.BitSet;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the primitive list proxies and the list operators on them.
+ * @author rubensworks
+ */
+public class TestValueTypeListProxyPrimitive {
+
+    private DummyVariableList lints;
+    private DummyVariableList lboxed;
+
+    @Before
+    public void before() {
+        ValueTypeListProxyFactories.load();
+        lints = new DummyVariableList(ValueTypeList.ValueList.ofFactory(new ValueTypeListProxyIntegers(new int[]{3, 1, 3, 2, 1})));
+        lboxed = new DummyVariableList(ValueTypeList.ValueList.ofAll(i(3), i(1), i(3), i(2), i(1)));
+    }
+
+    protected static ValueTypeInteger.ValueInteger i(int value) {
+        return ValueTypeInteger.ValueInteger.of(value);
+    }
+
+    protected static DummyVariableInteger vi(int value) {
+        return new DummyVariableInteger(i(value));
+    }
+
+    @Test
+    public void testOf() {
+        assertThat(ValueTypeListProxyPrimitive.of(ValueTypes.INTEGER, Lists.newArrayList(i(1), i(2))),
+                instanceOf(ValueTypeListProxyIntegers.class));
+        assertThat(ValueTypeListProxyPrimitive.of(ValueTypes.BOOLEAN, Lists.newArrayList(ValueTypeBoolean.ValueBoolean.of(true))),
+                instanceOf(ValueTypeListProxyBooleans.class));
+        assertThat(ValueTypeListProxyPrimitive.of(ValueTypes.STRING, Lists.newArrayList(ValueTypeString.ValueString.of("a"))),
+                instanceOf(ValueTypeListProxyMaterialized.class));
+    }
+
+    @Test
+    public void testEqualsBoxed() {
+        assertThat(lints.getValue(), is(lboxed.getValue()));
+        assertThat(lints.getValue().hashCode(), is(lboxed.getValue().hashCode()));
+    }
+
+    @Test
+    public void testContainsCount() throws EvaluationException {
+        assertThat(Operators.LIST_CONTAINS.evaluate(lints, vi(2)), is(ValueTypeBoolean.ValueBoolean.of(true)));
+        assertThat(Operators.LIST_CONTAINS.evaluate(lints, vi(4)), is(ValueTypeBoolean.ValueBoolean.of(false)));
+        assertThat(Operators.LIST_CONTAINS.evaluate(lints, new DummyVariableDouble(ValueTypeDouble.ValueDouble.of(2))),
+                is(ValueTypeBoolean.ValueBoolean.of(false)));
+        assertThat(Operators.LIST_COUNT.evaluate(lints, vi(3)), is(i(2)));
+        assertThat(Operators.LIST_COUNT.evaluate(lints, vi(4)), is(i(0)));
+    }
+
+    @Test
+    public void testUniq() throws EvaluationException {
+        assertThat(Operators.LIST_UNIQ.evaluate(lints), is(Operators.LIST_UNIQ.evaluate(lboxed)));
+        assertThat(Operators.LIST_UNIQ.evaluate(lints), is(ValueTypeList.ValueList.ofAll(i(3), i(1), i(2))));
+    }
+
+    @Test
+    public void testUniqDoubles() throws EvaluationException {
+        DummyVariableList list = new DummyVariableList(ValueTypeList.ValueList.ofFactory(
+                new ValueTypeListProxyDoubles(new double[]{0D, -0D, 1.5D, 1.5D})));
+        IValue res = Operators.LIST_UNIQ.evaluate(list);
+        assertThat(((ValueTypeList.ValueList) res).getRawValue().getLength(), is(2));
+    }
+
+    @Test
+    public void testUniqBooleans() throws EvaluationException {
+        BitSet bits = new BitSet();
+        bits.set(1);
+        bits.set(2);
+        DummyVariableList list = new DummyVariableList(ValueTypeList.ValueList.ofFactory(new ValueTypeListProxyBooleans(bits, 3)));
+        assertThat(Operators.LIST_UNIQ.evaluate(list), is(ValueTypeList.ValueList.ofAll(
+                ValueTypeBoolean.ValueBoolean.of(false), ValueTypeBoolean.ValueBoolean.of(true))));
+        assertThat(Operators.LIST_COUNT.evaluate(list, new DummyVariableBoolean(ValueTypeBoolean.ValueBoolean.of(true))), is(i(2)));
+    }
+
+    @Test
+    public void testSlice() throws EvaluationException {
+        assertThat(Operators.LIST_SLICE.evaluate(lints, vi(1), vi(3)), is(ValueTypeList.ValueList.ofAll(i(1), i(3))));
+        assertThat(Operators.LIST_SLICE.evaluate(lints, vi(3), vi(10)), is(ValueTypeList.ValueList.ofAll(i(2), i(1))));
+    }
+
+    @Test
+    public void testReduceSum() throws EvaluationException {
+        DummyVariableOperator addition = new DummyVariableOperator(ValueTypeOperator.ValueOperator.of(Operators.ARITHMETIC_ADDITION));
+        assertThat(Operators.OPERATOR_REDUCE.evaluate(addition, lints, vi(10)), is(i(20)));
+        assertThat(Operators.OPERATOR_REDUCE.evaluate(addition, lints, new DummyVariableDouble(ValueTypeDouble.ValueDouble.of(0.5D))),
+                is(ValueTypeDouble.ValueDouble.of(10.5D)));
+    }
+
+    @Test
+    public void testReduceSumBooleansEmpty() throws EvaluationException {
+        DummyVariableOperator addition = new DummyVariableOperator(ValueTypeOperator.ValueOperator.of(Operators.ARITHMETIC_ADDITION));
+        DummyVariableList list = new DummyVariableList(ValueTypeList.ValueList.ofFactory(new ValueTypeListProxyBooleans(new BitSet(), 0)));
+        DummyVariableBoolean start = new DummyVariableBoolean(ValueTypeBoolean.ValueBoolean.of(true));
+        assertThat(Operators.OPERATOR_REDUCE.evaluate(addition, list, start), is(ValueTypeBoolean.ValueBoolean.of(true)));
+    }
+
+    @Test(expected = EvaluationException.class)
+    public void testReduceSumBooleans() throws EvaluationException {
+        DummyVariableOperator addition = new DummyVariableOperator(ValueTypeOperator.ValueOperator.of(Operators.ARITHMETIC_ADDITION));
+        DummyVariableList list = new DummyVariableList(ValueTypeList.ValueList.ofFactory(new ValueTypeListProxyBooleans(new BitSet(), 2)));
+        Operators.OPERATOR_REDUCE.evaluate(addition, list, new DummyVariableBoolean(ValueTypeBoolean.ValueBoolean.of(false)));
+    }
+
+}
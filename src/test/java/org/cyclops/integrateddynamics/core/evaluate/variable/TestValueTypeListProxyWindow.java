@@ -0,0 +1,79 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the window list proxy and its buffer.
+ * @author rubensworks
+ */
+public class TestValueTypeListProxyWindow {
+
+    private ValueTypeListProxyWindow.Buffer<IValue> buffer;
+
+    @Before
+    public void beforeEach() {
+        buffer = new ValueTypeListProxyWindow.Buffer<>(3);
+    }
+
+    protected static IValue i(int value) {
+        return ValueTypeInteger.ValueInteger.of(value);
+    }
+
+    @SuppressWarnings("unchecked")
+    protected ValueTypeListProxyWindow<?, IValue> snapshot() {
+        return buffer.snapshot((IValueType) ValueTypes.INTEGER);
+    }
+
+    @Test
+    public void testEmpty() throws EvaluationException {
+        assertThat(buffer.size(), is(0));
+        assertThat(snapshot().getLength(), is(0));
+    }
+
+    @Test
+    public void testDropsOldest() throws EvaluationException {
+        for (int i = 0; i < 5; i++) {
+            buffer.add(i(i));
+        }
+        ValueTypeListProxyWindow<?, IValue> snapshot = snapshot();
+        assertThat(snapshot.getLength(), is(3));
+        assertThat(snapshot.get(0), is(i(2)));
+        assertThat(snapshot.get(1), is(i(3)));
+        assertThat(snapshot.get(2), is(i(4)));
+    }
+
+    @Test
+    public void testSnapshotsAreImmutable() throws EvaluationException {
+        buffer.add(i(0));
+        buffer.add(i(1));
+        ValueTypeListProxyWindow<?, IValue> snapshot = snapshot();
+
+        // Wrap around the backing array multiple times
+        for (int i = 2; i < 20; i++) {
+            buffer.add(i(i));
+        }
+        buffer.clear();
+        buffer.add(i(100));
+
+        assertThat(snapshot.getLength(), is(2));
+        assertThat(snapshot.get(0), is(i(0)));
+        assertThat(snapshot.get(1), is(i(1)));
+        assertThat(snapshot().getLength(), is(1));
+        assertThat(snapshot().get(0), is(i(100)));
+    }
+
+    @Test
+    public void testEqualsMaterialized() {
+        buffer.add(i(0));
+        buffer.add(i(1));
+        assertThat(snapshot().equals(ValueTypeList.ValueList.ofAll(i(0), i(1)).getRawValue()), is(true));
+    }
+
+}
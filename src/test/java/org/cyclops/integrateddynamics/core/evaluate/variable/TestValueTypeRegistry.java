@@ -0,0 +1,76 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import net.minecraft.nbt.NBTTagCompound;
+import org.cyclops.integrateddynamics.api.item.IValueTypeVariableFacade;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the value variable facades of the value type registry.
+ * @author rubensworks
+ */
+public class TestValueTypeRegistry {
+
+    private ValueTypeRegistry registry;
+
+    @Before
+    public void before() {
+        ValueTypes.load();
+        registry = ValueTypeRegistry.getInstance();
+    }
+
+    protected static NBTTagCompound stringTag(String value) {
+        NBTTagCompound tag = new NBTTagCompound();
+        tag.setString("typeName", ValueTypes.STRING.getTranslationKey());
+        tag.setString("value", ValueHelpers.serializeRaw(ValueTypeString.ValueString.of(value)));
+        return tag;
+    }
+
+    protected static NBTTagCompound integerTag(int value) {
+        NBTTagCompound tag = new NBTTagCompound();
+        tag.setString("typeName", ValueTypes.INTEGER.getTranslationKey());
+        ValueHelpers.serializeRaw(tag, "value", ValueTypeInteger.ValueInteger.of(value));
+        return tag;
+    }
+
+    @Test
+    public void testFacadesNotShared() {
+        NBTTagCompound tag = stringTag("abc");
+        IValueTypeVariableFacade facade1 = registry.getVariableFacade(1, tag);
+        IValueTypeVariableFacade facade2 = registry.getVariableFacade(1, tag.copy());
+        assertThat(facade1, not(sameInstance(facade2)));
+        assertThat(facade1.getValue(), sameInstance(facade2.getValue()));
+        assertThat(facade1.getValue(), is(ValueTypeString.ValueString.of("abc")));
+    }
+
+    @Test
+    public void testValueCachedByContents() {
+        IValueTypeVariableFacade facade = registry.getVariableFacade(2, stringTag("abc"));
+        assertThat(registry.getVariableFacade(2, stringTag("abd")).getValue(), is(ValueTypeString.ValueString.of("abd")));
+        assertThat(registry.getVariableFacade(3, stringTag("abc")).getValue(), not(sameInstance(facade.getValue())));
+    }
+
+    @Test
+    public void testValueCachedByBinaryContents() {
+        IValueTypeVariableFacade facade = registry.getVariableFacade(4, integerTag(10));
+        assertThat(facade.getValue(), is(ValueTypeInteger.ValueInteger.of(10)));
+        assertThat(registry.getVariableFacade(4, integerTag(10)).getValue(), sameInstance(facade.getValue()));
+        assertThat(registry.getVariableFacade(4, integerTag(11)).getValue(), is(ValueTypeInteger.ValueInteger.of(11)));
+    }
+
+    @Test
+    public void testUnexpectedValueTag() {
+        NBTTagCompound tag = new NBTTagCompound();
+        tag.setString("typeName", ValueTypes.STRING.getTranslationKey());
+        assertThat(registry.getVariableFacade(5, tag).getValue(), is(ValueTypeString.ValueString.of("")));
+
+        tag.setInteger("value", 10);
+        assertThat(registry.getVariableFacade(5, tag).getValue(), is(ValueTypeString.ValueString.of("")));
+    }
+
+}
@@ -0,0 +1,268 @@
+package org.cyclops.integrateddynamics.core.network;
+
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import org.cyclops.integrateddynamics.GeneralConfig;
+import org.cyclops.integrateddynamics.api.network.INetwork;
+import org.cyclops.integrateddynamics.api.network.INetworkElement;
+import org.cyclops.integrateddynamics.core.path.Cluster;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the energy buffering of energy networks.
+ * @author rubensworks
+ */
+public class TestEnergyNetwork {
+
+    private int oldMultiplier;
+    private DummyEnergyNetwork network;
+    private DummyConsumer e1;
+    private DummyConsumer e2;
+
+    @Before
+    public void beforeEach() {
+        oldMultiplier = GeneralConfig.energyConsumptionMultiplier;
+        GeneralConfig.energyConsumptionMultiplier = 1;
+        network = new DummyEnergyNetwork(1000);
+        e1 = new DummyConsumer(1, 10);
+        e2 = new DummyConsumer(2, 10);
+    }
+
+    @After
+    public void afterEach() {
+        GeneralConfig.energyConsumptionMultiplier = oldMultiplier;
+    }
+
+    @Test
+    public void testBufferServesElements() {
+        network.batteries.put(0, 100);
+
+        assertThat(network.canUpdate(e1), is(true));
+        network.postUpdate(e1);
+        assertThat(network.extractions, is(1));
+        assertThat(network.batteries.get(0), is(90));
+
+        // e1 was the only known element when the buffer was filled
+        assertThat(network.canUpdate(e2), is(true));
+        network.postUpdate(e2);
+        assertThat(network.extractions, is(2));
+        assertThat(network.batteries.get(0), is(70));
+
+        // The unconsumed energy is returned at the end of the tick
+        network.afterUpdate();
+        assertThat(network.batteries.get(0), is(80));
+
+        // Both elements are known, so the consumption of both is extracted at once
+        assertThat(network.canUpdate(e1), is(true));
+        network.postUpdate(e1);
+        assertThat(network.canUpdate(e2), is(true));
+        network.postUpdate(e2);
+        assertThat(network.extractions, is(3));
+        assertThat(network.batteries.get(0), is(60));
+    }
+
+    @Test
+    public void testInsufficientEnergy() {
+        network.batteries.put(0, 5);
+
+        assertThat(network.canUpdate(e1), is(false));
+        assertThat(network.extractions, is(0));
+        assertThat(network.batteries.get(0), is(5));
+    }
+
+    @Test
+    public void testInsufficientEnergyForAllElements() {
+        network.batteries.put(0, 100);
+        network.canUpdate(e1);
+        network.postUpdate(e1);
+        network.canUpdate(e2);
+        network.postUpdate(e2);
+        network.afterUpdate();
+
+        // Only one of both elements can be served
+        network.batteries.put(0, 15);
+        assertThat(network.canUpdate(e1), is(true));
+        network.postUpdate(e1);
+        assertThat(network.canUpdate(e2), is(false));
+        network.onSkipUpdate(e2);
+
+        // The remainder is returned at the end of the tick
+        network.afterUpdate();
+        assertThat(network.batteries.get(0), is(5));
+    }
+
+    @Test
+    public void testRefundUnconsumed() {
+        network.batteries.put(0, 100);
+        network.canUpdate(e1);
+        network.postUpdate(e1);
+        network.canUpdate(e2);
+        network.postUpdate(e2);
+        network.afterUpdate();
+        assertThat(network.batteries.get(0), is(80));
+
+        // Only e1 is due in this tick, while the consumption of both is extracted
+        assertThat(network.canUpdate(e1), is(true));
+        network.postUpdate(e1);
+        assertThat(network.batteries.get(0), is(60));
+
+        network.afterUpdate();
+        assertThat(network.batteries.get(0), is(70));
+    }
+
+    @Test
+    public void testRefundFullBatteries() {
+        network = new DummyEnergyNetwork(100);
+        network.batteries.put(0, 100);
+        network.canUpdate(e1);
+        network.postUpdate(e1);
+        network.canUpdate(e2);
+        network.postUpdate(e2);
+        network.afterUpdate();
+        assertThat(network.canUpdate(e1), is(true));
+        network.postUpdate(e1);
+        assertThat(network.batteries.get(0), is(60));
+
+        // Energy that can not be inserted remains buffered
+        network.batteries.put(0, 95);
+        network.afterUpdate();
+        assertThat(network.batteries.get(0), is(100));
+        network.batteries.put(0, 0);
+        network.kill();
+        assertThat(network.batteries.get(0), is(5));
+    }
+
+    @Test
+    public void testRefundOnKill() {
+        network.batteries.put(0, 100);
+        network.canUpdate(e1);
+        network.postUpdate(e1);
+        network.canUpdate(e2);
+        network.postUpdate(e2);
+        network.afterUpdate();
+        network.canUpdate(e1);
+        network.postUpdate(e1);
+        assertThat(network.batteries.get(0), is(60));
+
+        network.kill();
+        assertThat(network.batteries.get(0), is(70));
+    }
+
+    @Test
+    public void testChannels() {
+        DummyConsumer e3 = new DummyConsumer(3, 10);
+        e3.channel = 1;
+        network.batteries.put(0, 100);
+        network.batteries.put(1, 5);
+
+        assertThat(network.canUpdate(e1), is(true));
+        assertThat(network.canUpdate(e3), is(false));
+        assertThat(network.batteries.get(1), is(5));
+    }
+
+    @Test
+    public void testConsumptionRate() {
+        network.setNetwork(new TestNetwork.TestableNetwork(new Cluster()));
+        assertThat(network.getConsumptionRate(), is(0));
+
+        // All elements are counted, also the ones that have not been updated yet
+        network.getNetwork().getElements().add(e1);
+        network.getNetwork().getElements().add(e2);
+        assertThat(network.getConsumptionRate(), is(20));
+
+        e1.rate = 5;
+        assertThat(network.getConsumptionRate(), is(15));
+
+        GeneralConfig.energyConsumptionMultiplier = 2;
+        assertThat(network.getConsumptionRate(), is(30));
+
+        network.getNetwork().getElements().remove(e2);
+        assertThat(network.getConsumptionRate(), is(10));
+    }
+
+    protected static class DummyEnergyNetwork extends EnergyNetwork {
+
+        private final int capacity;
+        private final Int2IntOpenHashMap batteries = new Int2IntOpenHashMap();
+        private int extractions = 0;
+
+        public DummyEnergyNetwork(int capacity) {
+            super(null);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected int extractEnergy(int channel, int amount, boolean simulate) {
+            int extracted = Math.min(amount, batteries.get(channel));
+            if (!simulate && extracted > 0) {
+                batteries.addTo(channel, -extracted);
+                extractions++;
+            }
+            return extracted;
+        }
+
+        @Override
+        protected int insertEnergy(int channel, int amount) {
+            int inserted = Math.min(amount, capacity - batteries.get(channel));
+            batteries.addTo(channel, inserted);
+            return amount - inserted;
+        }
+    }
+
+    protected static class DummyConsumer extends ConsumingNetworkElementBase {
+
+        private final int id;
+        private int rate;
+        private int channel = 0;
+
+        public DummyConsumer(int id, int rate) {
+            this.id = id;
+            this.rate = rate;
+        }
+
+        @Override
+        public int getConsumptionRate() {
+            return rate;
+        }
+
+        @Override
+        public void setPriorityAndChannel(INetwork network, int priority, int channel) {
+
+        }
+
+        @Override
+        public int getPriority() {
+            return 0;
+        }
+
+        @Override
+        public int getChannel() {
+            return channel;
+        }
+
+        @Override
+        public boolean canRevalidate(INetwork network) {
+            return true;
+        }
+
+        @Override
+        public int compareTo(INetworkElement o) {
+            return Integer.compare(id, ((DummyConsumer) o).id);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o;
+        }
+
+        @Override
+        public int hashCode() {
+            return id;
+        }
+    }
+
+}
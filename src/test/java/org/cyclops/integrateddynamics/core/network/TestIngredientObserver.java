@@ -0,0 +1,86 @@
+package org.cyclops.integrateddynamics.core.network;
+
+import net.minecraft.util.math.BlockPos;
+import org.cyclops.cyclopscore.datastructure.DimPos;
+import org.cyclops.integrateddynamics.GeneralConfig;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the dirty tracking of the ingredient observer.
+ * @author rubensworks
+ */
+public class TestIngredientObserver {
+
+    private static final DimPos POS_A = DimPos.of(0, new BlockPos(0, 0, 0));
+    private static final DimPos POS_B = DimPos.of(0, new BlockPos(1, 0, 0));
+
+    private IngredientObserver<Integer, Boolean> observer;
+
+    @Before
+    public void beforeEach() {
+        observer = new IngredientObserver<>(null);
+    }
+
+    @Test
+    public void testDrainDirtyPositions() {
+        assertThat(observer.drainDirtyPositions().isEmpty(), is(true));
+
+        observer.markDirty(POS_A);
+        observer.markDirty(POS_B);
+        observer.markDirty(POS_A);
+        assertThat(observer.drainDirtyPositions().size(), is(2));
+        assertThat(observer.drainDirtyPositions().isEmpty(), is(true));
+    }
+
+    @Test
+    public void testMarkDirtyDoesNotDemote() {
+        observer.markDirty(POS_A);
+        assertThat(observer.isNotifying(POS_A), is(false));
+        assertThat(observer.getNextTickInterval(POS_A, 10, false), is(10));
+    }
+
+    @Test
+    public void testDirtyWithoutChanges() {
+        observer.onObserved(POS_A, true, false);
+        assertThat(observer.isNotifying(POS_A), is(false));
+    }
+
+    @Test
+    public void testDirtyWithChanges() {
+        observer.onObserved(POS_A, true, true);
+        assertThat(observer.isNotifying(POS_A), is(true));
+        assertThat(observer.isNotifying(POS_B), is(false));
+
+        // Unchanged notifying positions are only polled at the fallback frequency
+        assertThat(observer.getNextTickInterval(POS_A, 10, false),
+                is(Math.max(10, GeneralConfig.ingredientNetworkObserverFrequencyFallback)));
+        // Changed positions keep their adaptive interval
+        assertThat(observer.getNextTickInterval(POS_A, 10, true), is(10));
+        assertThat(observer.getNextTickInterval(POS_B, 10, false), is(10));
+    }
+
+    @Test
+    public void testPolledChangesPromote() {
+        observer.onObserved(POS_A, true, true);
+        assertThat(observer.isNotifying(POS_A), is(true));
+
+        // Unchanged polls keep the position demoted
+        observer.onObserved(POS_A, false, false);
+        assertThat(observer.isNotifying(POS_A), is(true));
+
+        // A change that was not notified means that the position does not reliably notify
+        observer.onObserved(POS_A, false, true);
+        assertThat(observer.isNotifying(POS_A), is(false));
+        assertThat(observer.getNextTickInterval(POS_A, 10, false), is(10));
+
+        // Positions that only notify part of their changes keep their regular interval
+        observer.onObserved(POS_A, true, true);
+        assertThat(observer.isNotifying(POS_A), is(false));
+        assertThat(observer.getNextTickInterval(POS_A, 10, false), is(10));
+    }
+
+}
@@ -0,0 +1,260 @@
+package org.cyclops.integrateddynamics.core.network;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.common.capabilities.CapabilityDispatcher;
+import org.cyclops.cyclopscore.datastructure.DimPos;
+import org.cyclops.integrateddynamics.api.network.INetwork;
+import org.cyclops.integrateddynamics.api.network.INetworkCarrier;
+import org.cyclops.integrateddynamics.api.network.INetworkElement;
+import org.cyclops.integrateddynamics.api.path.IPathElement;
+import org.cyclops.integrateddynamics.api.path.ISidedPathElement;
+import org.cyclops.integrateddynamics.capability.path.SidedPathElement;
+import org.cyclops.integrateddynamics.core.path.Cluster;
+import org.cyclops.integrateddynamics.core.path.PathFinder;
+import org.junit.Test;
+
+import javax.annotation.Nullable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the incremental merging and splitting of networks.
+ * @author rubensworks
+ */
+public class TestNetwork {
+
+    private static final Function<ISidedPathElement, INetworkCarrier> CARRIER_GETTER =
+            sidedPathElement -> ((DummyPathElement) sidedPathElement.getPathElement()).getCarrier();
+
+    protected static DummyPathElement[] createLine(int offset, int length) {
+        DummyPathElement[] elements = new DummyPathElement[length];
+        for (int i = 0; i < length; i++) {
+            elements[i] = new DummyPathElement(DimPos.of(0, new BlockPos(offset + i, 0, 0)));
+            if (i > 0) {
+                elements[i].connect(elements[i - 1]);
+            }
+        }
+        return elements;
+    }
+
+    protected static TestableNetwork createNetwork(DummyPathElement head) {
+        TestableNetwork network = new TestableNetwork(PathFinder.getConnectedCluster(SidedPathElement.of(head, null)));
+        network.initialize();
+        return network;
+    }
+
+    protected static ISidedPathElement sided(DummyPathElement element) {
+        return SidedPathElement.of(element, null);
+    }
+
+    @Test
+    public void testCreate() {
+        DummyPathElement[] line = createLine(0, 10);
+        TestableNetwork network = createNetwork(line[0]);
+
+        assertThat(network.getCablesCount(), is(10));
+        for (DummyPathElement element : line) {
+            assertThat(element.getCarrier().getNetwork(), sameInstance((INetwork) network));
+        }
+    }
+
+    @Test
+    public void testJoinSingleNetwork() {
+        DummyPathElement[] line = createLine(0, 10);
+        TestableNetwork network = createNetwork(line[0]);
+
+        DummyPathElement added = new DummyPathElement(DimPos.of(0, new BlockPos(10, 0, 0)));
+        added.connect(line[9]);
+
+        assertThat(Network.joinNetworks(sided(added), CARRIER_GETTER), sameInstance((Network) network));
+        assertThat(network.getCablesCount(), is(11));
+        assertThat(network.isKilled(), is(false));
+        assertThat(added.getCarrier().getNetwork(), sameInstance((INetwork) network));
+    }
+
+    @Test
+    public void testJoinMergesIntoLargest() {
+        DummyPathElement[] lineSmall = createLine(0, 5);
+        DummyPathElement[] lineLarge = createLine(6, 10);
+        TestableNetwork networkSmall = createNetwork(lineSmall[0]);
+        TestableNetwork networkLarge = createNetwork(lineLarge[0]);
+
+        DummyPathElement added = new DummyPathElement(DimPos.of(0, new BlockPos(5, 0, 0)));
+        added.connect(lineSmall[4]);
+        added.connect(lineLarge[0]);
+
+        assertThat(Network.joinNetworks(sided(added), CARRIER_GETTER), sameInstance((Network) networkLarge));
+        assertThat(networkLarge.getCablesCount(), is(16));
+        assertThat(networkLarge.isKilled(), is(false));
+        assertThat(networkSmall.getCablesCount(), is(0));
+        assertThat(networkSmall.isKilled(), is(true));
+        for (DummyPathElement element : lineSmall) {
+            assertThat(element.getCarrier().getNetwork(), sameInstance((INetwork) networkLarge));
+        }
+        assertThat(added.getCarrier().getNetwork(), sameInstance((INetwork) networkLarge));
+    }
+
+    @Test
+    public void testJoinInvalidNeighbour() {
+        DummyPathElement[] line = createLine(0, 10);
+        TestableNetwork network = createNetwork(line[0]);
+
+        DummyPathElement added = new DummyPathElement(DimPos.of(0, new BlockPos(10, 0, 0)));
+        DummyPathElement orphan = new DummyPathElement(DimPos.of(0, new BlockPos(11, 0, 0)));
+        added.connect(line[9]);
+        added.connect(orphan);
+
+        assertThat(Network.joinNetworks(sided(added), CARRIER_GETTER), nullValue());
+        assertThat(network.getCablesCount(), is(10));
+    }
+
+    @Test
+    public void testSplit() {
+        DummyPathElement[] line = createLine(0, 10);
+        TestableNetwork network = createNetwork(line[0]);
+        Set<Network> created = Sets.newIdentityHashSet();
+
+        line[3].disconnect(line[2]);
+        assertThat(Network.splitNetworks(Lists.newArrayList(sided(line[2]), sided(line[3])), CARRIER_GETTER,
+                cluster -> {
+                    TestableNetwork newNetwork = new TestableNetwork(cluster);
+                    created.add(newNetwork);
+                    return newNetwork;
+                }), is(true));
+
+        assertThat(created.size(), is(1));
+        Network newNetwork = created.iterator().next();
+        assertThat(newNetwork.isInitialized(), is(true));
+        assertThat(newNetwork.getCablesCount(), is(3));
+        assertThat(network.getCablesCount(), is(7));
+        assertThat(network.isKilled(), is(false));
+        for (int i = 0; i < 3; i++) {
+            assertThat(line[i].getCarrier().getNetwork(), sameInstance((INetwork) newNetwork));
+        }
+        for (int i = 3; i < 10; i++) {
+            assertThat(line[i].getCarrier().getNetwork(), sameInstance((INetwork) network));
+        }
+    }
+
+    @Test
+    public void testSplitStillConnected() {
+        DummyPathElement[] line = createLine(0, 10);
+        line[0].connect(line[9]);
+        TestableNetwork network = createNetwork(line[0]);
+        Set<Network> created = Sets.newIdentityHashSet();
+
+        line[3].disconnect(line[2]);
+        assertThat(Network.splitNetworks(Lists.newArrayList(sided(line[2]), sided(line[3])), CARRIER_GETTER,
+                cluster -> {
+                    TestableNetwork newNetwork = new TestableNetwork(cluster);
+                    created.add(newNetwork);
+                    return newNetwork;
+                }), is(true));
+
+        assertThat(created.isEmpty(), is(true));
+        assertThat(network.getCablesCount(), is(10));
+    }
+
+    @Test
+    public void testSplitInvalidHead() {
+        DummyPathElement[] line = createLine(0, 10);
+        TestableNetwork network = createNetwork(line[0]);
+        network.kill();
+
+        line[3].disconnect(line[2]);
+        assertThat(Network.splitNetworks(Lists.newArrayList(sided(line[2]), sided(line[3])), CARRIER_GETTER,
+                TestableNetwork::new), is(false));
+        assertThat(line[0].getCarrier().getNetwork(), not(nullValue()));
+    }
+
+    protected static class TestableNetwork extends Network {
+
+        public TestableNetwork(Cluster pathElements) {
+            super(pathElements);
+        }
+
+        @Override
+        protected CapabilityDispatcher gatherCapabilities() {
+            return null;
+        }
+
+        @Nullable
+        @Override
+        protected Collection<INetworkElement> createNetworkElements(ISidedPathElement sidedPathElement) {
+            return Collections.emptyList();
+        }
+
+        @Nullable
+        @Override
+        protected INetworkCarrier getNetworkCarrier(ISidedPathElement sidedPathElement) {
+            return CARRIER_GETTER.apply(sidedPathElement);
+        }
+    }
+
+    protected static class DummyPathElement implements IPathElement {
+
+        private final DimPos position;
+        private final Set<ISidedPathElement> reachableElements = Sets.newHashSet();
+        private final DummyNetworkCarrier carrier = new DummyNetworkCarrier();
+
+        public DummyPathElement(DimPos position) {
+            this.position = position;
+        }
+
+        public void connect(DummyPathElement element) {
+            reachableElements.add(SidedPathElement.of(element, null));
+            element.reachableElements.add(SidedPathElement.of(this, null));
+        }
+
+        public void disconnect(DummyPathElement element) {
+            reachableElements.remove(SidedPathElement.of(element, null));
+            element.reachableElements.remove(SidedPathElement.of(this, null));
+        }
+
+        public DummyNetworkCarrier getCarrier() {
+            return carrier;
+        }
+
+        @Override
+        public DimPos getPosition() {
+            return position;
+        }
+
+        @Override
+        public Set<ISidedPathElement> getReachableElements() {
+            return reachableElements;
+        }
+
+        @Override
+        public int compareTo(IPathElement o) {
+            return getPosition().compareTo(o.getPosition());
+        }
+    }
+
+    protected static class DummyNetworkCarrier implements INetworkCarrier {
+
+        private INetwork network = null;
+
+        @Override
+        public void setNetwork(@Nullable INetwork network) {
+            this.network = network;
+        }
+
+        @Nullable
+        @Override
+        public INetwork getNetwork() {
+            return network;
+        }
+    }
+
+}
@@ -0,0 +1,79 @@
+package org.cyclops.integrateddynamics.core.network;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the network element statistics.
+ * @author rubensworks
+ */
+public class TestNetworkElementStatistics {
+
+    private NetworkElementStatistics statistics;
+
+    @Before
+    public void beforeEach() {
+        statistics = new NetworkElementStatistics();
+    }
+
+    @Test
+    public void testEmpty() {
+        assertThat(statistics.getLastDuration(0), is(0L));
+        assertThat(statistics.getLastUpdates(0), is(0));
+        assertThat(statistics.getLastSkips(0), is(0));
+        assertThat(statistics.getLastDuration(-1), is(0L));
+    }
+
+    @Test
+    public void testRoll() {
+        statistics.recordUpdate(0, 10);
+        statistics.recordUpdate(0, 20);
+        statistics.recordSkip(3);
+
+        assertThat(statistics.getLastDuration(0), is(0L));
+        assertThat(statistics.getLastUpdates(0), is(0));
+
+        statistics.roll();
+        assertThat(statistics.getLastDuration(0), is(30L));
+        assertThat(statistics.getLastUpdates(0), is(2));
+        assertThat(statistics.getLastSkips(3), is(1));
+        assertThat(statistics.getLastHistogram()[3], is(1));
+        assertThat(statistics.getLastHistogram()[4], is(1));
+
+        statistics.roll();
+        assertThat(statistics.getLastDuration(0), is(0L));
+        assertThat(statistics.getLastUpdates(0), is(0));
+        assertThat(statistics.getLastSkips(3), is(0));
+        assertThat(statistics.getLastHistogram()[3], is(0));
+    }
+
+    @Test
+    public void testReorder() {
+        statistics.recordUpdate(0, 10);
+        statistics.recordUpdate(2, 20);
+        statistics.roll();
+        statistics.recordSkip(2);
+
+        statistics.reorder(new int[]{2, 0}, 2);
+        assertThat(statistics.getLastDuration(0), is(20L));
+        assertThat(statistics.getLastDuration(1), is(10L));
+        assertThat(statistics.getLastDuration(2), is(0L));
+
+        statistics.roll();
+        assertThat(statistics.getLastSkips(0), is(1));
+        assertThat(statistics.getLastSkips(1), is(0));
+    }
+
+    @Test
+    public void testHistogramBucket() {
+        assertThat(NetworkElementStatistics.getHistogramBucket(0), is(0));
+        assertThat(NetworkElementStatistics.getHistogramBucket(1), is(0));
+        assertThat(NetworkElementStatistics.getHistogramBucket(2), is(1));
+        assertThat(NetworkElementStatistics.getHistogramBucket(1024), is(10));
+        assertThat(NetworkElementStatistics.getHistogramBucket(Long.MAX_VALUE), is(NetworkElementStatistics.HISTOGRAM_BUCKETS - 1));
+    }
+
+}
@@ -0,0 +1,145 @@
+package org.cyclops.integrateddynamics.core.network;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import org.cyclops.integrateddynamics.api.network.INetwork;
+import org.cyclops.integrateddynamics.api.network.INetworkElement;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the network element update scheduler.
+ * @author rubensworks
+ */
+public class TestNetworkElementUpdateScheduler {
+
+    private NetworkElementUpdateScheduler scheduler;
+
+    @Before
+    public void beforeEach() {
+        scheduler = new NetworkElementUpdateScheduler();
+    }
+
+    /**
+     * Advance one tick and reschedule all due elements at their interval.
+     * @return The ids of the due elements.
+     */
+    protected List<Integer> tick() {
+        IntArrayList due = scheduler.nextTick();
+        List<Integer> ids = IntStream.of(due.toIntArray())
+                .mapToObj(index -> ((DummyElement) scheduler.getElement(index)).id)
+                .collect(Collectors.toList());
+        for (int i = 0; i < due.size(); i++) {
+            int index = due.getInt(i);
+            scheduler.reschedule(index, scheduler.getElement(index).getUpdateInterval());
+        }
+        return ids;
+    }
+
+    @Test
+    public void testIntervals() {
+        scheduler.add(new DummyElement(0, 1), 0);
+        scheduler.add(new DummyElement(1, 2), 0);
+        scheduler.add(new DummyElement(2, 100), 0);
+        assertThat(tick(), is(list(0, 1, 2)));
+        assertThat(tick(), is(list(0)));
+        assertThat(tick(), is(list(0, 1)));
+        assertThat(tick(), is(list(0)));
+        for (int i = 4; i < 100; i++) {
+            tick();
+        }
+        assertThat(tick(), is(list(0, 1, 2)));
+    }
+
+    @Test
+    public void testOrder() {
+        scheduler.add(new DummyElement(3, 1), 0);
+        scheduler.add(new DummyElement(1, 1), 0);
+        scheduler.add(new DummyElement(2, 1), 0);
+        assertThat(tick(), is(list(1, 2, 3)));
+        scheduler.add(new DummyElement(0, 1), 0);
+        assertThat(tick(), is(list(0, 1, 2, 3)));
+    }
+
+    @Test
+    public void testRemainingTicks() {
+        DummyElement element = new DummyElement(0, 10);
+        scheduler.add(element, 3);
+        assertThat(scheduler.getRemainingTicks(element), is(3));
+        assertThat(tick(), is(list()));
+        assertThat(scheduler.getRemainingTicks(element), is(2));
+        assertThat(scheduler.remove(element), is(2));
+        assertThat(scheduler.getRemainingTicks(element), nullValue());
+        assertThat(scheduler.remove(element), nullValue());
+    }
+
+    @Test
+    public void testRemove() {
+        DummyElement element = new DummyElement(0, 1);
+        scheduler.add(element, 0);
+        scheduler.add(new DummyElement(1, 1), 0);
+        assertThat(tick(), is(list(0, 1)));
+        scheduler.remove(element);
+        assertThat(tick(), is(list(1)));
+        assertThat(scheduler.contains(element), is(false));
+    }
+
+    protected static List<Integer> list(Integer... ids) {
+        return Arrays.asList(ids);
+    }
+
+    protected static class DummyElement extends NetworkElementBase {
+
+        private final int id;
+        private final int interval;
+
+        public DummyElement(int id, int interval) {
+            this.id = id;
+            this.interval = interval;
+        }
+
+        @Override
+        public int getUpdateInterval() {
+            return interval;
+        }
+
+        @Override
+        public boolean isUpdate() {
+            return true;
+        }
+
+        @Override
+        public void setPriorityAndChannel(INetwork network, int priority, int channel) {
+
+        }
+
+        @Override
+        public int getPriority() {
+            return 0;
+        }
+
+        @Override
+        public int getChannel() {
+            return 0;
+        }
+
+        @Override
+        public boolean canRevalidate(INetwork network) {
+            return true;
+        }
+
+        @Override
+        public int compareTo(INetworkElement o) {
+            return Integer.compare(id, ((DummyElement) o).id);
+        }
+    }
+
+}
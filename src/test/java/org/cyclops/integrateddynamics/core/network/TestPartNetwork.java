@@ -0,0 +1,75 @@
+package org.cyclops.integrateddynamics.core.network;
+
+import com.google.common.collect.Lists;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import org.cyclops.cyclopscore.datastructure.DimPos;
+import org.cyclops.cyclopscore.helper.L10NHelpers;
+import org.cyclops.integrateddynamics.api.part.PartPos;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypes;
+import org.cyclops.integrateddynamics.core.network.event.VariableContentsUpdatedEvent;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the memoized variable validation results of part networks.
+ * @author rubensworks
+ */
+public class TestPartNetwork {
+
+    private static final DimPos POS = DimPos.of(0, new BlockPos(0, 0, 0));
+    private static final List<L10NHelpers.UnlocalizedString> ERRORS =
+            Lists.newArrayList(new L10NHelpers.UnlocalizedString("error"));
+
+    private PartNetwork network;
+
+    @Before
+    public void beforeEach() {
+        network = new PartNetwork();
+        network.setValidationResult(1, ValueTypes.INTEGER, Collections.emptyList());
+        network.setValidationResult(2, ValueTypes.INTEGER, ERRORS);
+    }
+
+    @Test
+    public void testMemoize() {
+        assertThat(network.getValidationResult(1, ValueTypes.INTEGER).isEmpty(), is(true));
+        assertThat(network.getValidationResult(2, ValueTypes.INTEGER), is(ERRORS));
+        assertThat(network.getValidationResult(1, ValueTypes.BOOLEAN), nullValue());
+        assertThat(network.getValidationResult(3, ValueTypes.INTEGER), nullValue());
+    }
+
+    @Test
+    public void testInvalidateOnVariableContentsUpdated() {
+        network.onEvent(new VariableContentsUpdatedEvent(null));
+        assertThat(network.getValidationResult(1, ValueTypes.INTEGER), nullValue());
+        assertThat(network.getValidationResult(2, ValueTypes.INTEGER), nullValue());
+    }
+
+    @Test
+    public void testInvalidateOnParts() {
+        network.addPart(0, PartPos.of(POS, EnumFacing.NORTH));
+        assertThat(network.getValidationResult(1, ValueTypes.INTEGER), nullValue());
+
+        network.setValidationResult(1, ValueTypes.INTEGER, Collections.emptyList());
+        network.removePart(0);
+        assertThat(network.getValidationResult(1, ValueTypes.INTEGER), nullValue());
+    }
+
+    @Test
+    public void testInvalidateOnVariableContainers() {
+        network.addVariableContainer(POS);
+        assertThat(network.getValidationResult(1, ValueTypes.INTEGER), nullValue());
+
+        network.setValidationResult(1, ValueTypes.INTEGER, Collections.emptyList());
+        network.removeVariableContainer(POS);
+        assertThat(network.getValidationResult(1, ValueTypes.INTEGER), nullValue());
+    }
+
+}
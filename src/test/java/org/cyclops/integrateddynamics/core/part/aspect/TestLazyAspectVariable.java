@@ -0,0 +1,92 @@
+package org.cyclops.integrateddynamics.core.part.aspect;
+
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeInteger;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypes;
+import org.cyclops.integrateddynamics.core.part.aspect.build.IAspectFingerprint;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the fingerprint-based invalidation of lazy aspect variables.
+ * @author rubensworks
+ */
+public class TestLazyAspectVariable {
+
+    private CountingVariable variable;
+
+    @Before
+    public void beforeEach() {
+        variable = new CountingVariable();
+    }
+
+    @Test
+    public void testInvalidate() throws EvaluationException {
+        assertThat(variable.getValue().getRawValue(), is(1));
+        assertThat(variable.getValue().getRawValue(), is(1));
+        variable.invalidate();
+        assertThat(variable.getValue().getRawValue(), is(2));
+    }
+
+    @Test
+    public void testInvalidateSameFingerprint() throws EvaluationException {
+        variable.invalidate(10);
+        assertThat(variable.getValue().getRawValue(), is(1));
+        variable.invalidate(10);
+        assertThat(variable.getValue().getRawValue(), is(1));
+        variable.invalidate(10);
+        assertThat(variable.getValue().getRawValue(), is(1));
+    }
+
+    @Test
+    public void testInvalidateChangedFingerprint() throws EvaluationException {
+        variable.invalidate(10);
+        assertThat(variable.getValue().getRawValue(), is(1));
+        variable.invalidate(11);
+        assertThat(variable.getValue().getRawValue(), is(2));
+        variable.invalidate(10);
+        assertThat(variable.getValue().getRawValue(), is(3));
+    }
+
+    @Test
+    public void testInvalidateUnknownFingerprint() throws EvaluationException {
+        variable.invalidate(IAspectFingerprint.UNKNOWN);
+        assertThat(variable.getValue().getRawValue(), is(1));
+        variable.invalidate(IAspectFingerprint.UNKNOWN);
+        assertThat(variable.getValue().getRawValue(), is(2));
+        variable.invalidate(IAspectFingerprint.UNKNOWN);
+        assertThat(variable.getValue().getRawValue(), is(3));
+    }
+
+    @Test
+    public void testInvalidateListeners() throws EvaluationException {
+        int[] invalidations = new int[1];
+        variable.getValue();
+        variable.addInvalidationListener(() -> invalidations[0]++);
+        variable.invalidate(10);
+        assertThat(invalidations[0], is(1));
+
+        variable.getValue();
+        variable.addInvalidationListener(() -> invalidations[0]++);
+        variable.invalidate(10);
+        assertThat(invalidations[0], is(1));
+    }
+
+    private static class CountingVariable extends LazyAspectVariable<ValueTypeInteger.ValueInteger> {
+
+        private int calculations = 0;
+
+        public CountingVariable() {
+            super(ValueTypes.INTEGER, null, null);
+        }
+
+        @Override
+        public ValueTypeInteger.ValueInteger getValueLazy() throws EvaluationException {
+            return ValueTypeInteger.ValueInteger.of(++calculations);
+        }
+    }
+
+}
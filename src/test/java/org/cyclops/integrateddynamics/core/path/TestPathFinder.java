@@ -0,0 +1,154 @@
+package org.cyclops.integrateddynamics.core.path;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import net.minecraft.util.math.BlockPos;
+import org.cyclops.cyclopscore.datastructure.DimPos;
+import org.cyclops.integrateddynamics.api.path.IPathElement;
+import org.cyclops.integrateddynamics.api.path.ISidedPathElement;
+import org.cyclops.integrateddynamics.capability.path.SidedPathElement;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the path finder.
+ * @author rubensworks
+ */
+public class TestPathFinder {
+
+    protected static DummyPathElement[] createLine(int dimension, int length) {
+        DummyPathElement[] elements = new DummyPathElement[length];
+        for (int i = 0; i < length; i++) {
+            elements[i] = new DummyPathElement(DimPos.of(dimension, new BlockPos(i, 0, 0)));
+        }
+        for (int i = 0; i < length; i++) {
+            if (i > 0) {
+                elements[i].connect(elements[i - 1]);
+            }
+            if (i < length - 1) {
+                elements[i].connect(elements[i + 1]);
+            }
+        }
+        return elements;
+    }
+
+    @Test
+    public void testSingle() {
+        DummyPathElement element = new DummyPathElement(DimPos.of(0, new BlockPos(0, 0, 0)));
+        assertThat(PathFinder.getConnectedCluster(SidedPathElement.of(element, null)).size(), is(1));
+    }
+
+    @Test
+    public void testLine() {
+        DummyPathElement[] elements = createLine(0, 10);
+        Cluster cluster = PathFinder.getConnectedCluster(SidedPathElement.of(elements[5], null));
+        assertThat(cluster.size(), is(10));
+        for (DummyPathElement element : elements) {
+            assertThat(cluster.contains(SidedPathElement.of(element, null)), is(true));
+        }
+    }
+
+    @Test
+    public void testCycle() {
+        DummyPathElement[] elements = createLine(0, 10);
+        elements[0].connect(elements[9]);
+        elements[9].connect(elements[0]);
+        assertThat(PathFinder.getConnectedCluster(SidedPathElement.of(elements[0], null)).size(), is(10));
+    }
+
+    @Test
+    public void testDisconnected() {
+        DummyPathElement[] elements1 = createLine(0, 10);
+        createLine(0, 5);
+        assertThat(PathFinder.getConnectedCluster(SidedPathElement.of(elements1[0], null)).size(), is(10));
+    }
+
+    @Test
+    public void testDimensions() {
+        DummyPathElement[] elements1 = createLine(0, 10);
+        DummyPathElement[] elements2 = createLine(1, 10);
+        elements1[9].connect(elements2[9]);
+        elements2[9].connect(elements1[9]);
+        assertThat(PathFinder.getConnectedCluster(SidedPathElement.of(elements1[0], null)).size(), is(20));
+    }
+
+    @Test
+    public void testLargeLine() {
+        DummyPathElement[] elements = createLine(0, 100000);
+        assertThat(PathFinder.getConnectedCluster(SidedPathElement.of(elements[0], null)).size(), is(100000));
+    }
+
+    protected static void disconnect(DummyPathElement a, DummyPathElement b) {
+        a.reachableElements.remove(SidedPathElement.of(b, null));
+        b.reachableElements.remove(SidedPathElement.of(a, null));
+    }
+
+    @Test
+    public void testDisconnectedClustersConnected() {
+        DummyPathElement[] elements = createLine(0, 10);
+        elements[0].connect(elements[9]);
+        elements[9].connect(elements[0]);
+        disconnect(elements[4], elements[5]);
+        List<Cluster> clusters = PathFinder.getDisconnectedClusters(Lists.newArrayList(
+                SidedPathElement.of(elements[4], null), SidedPathElement.of(elements[5], null)));
+        assertThat(clusters.isEmpty(), is(true));
+    }
+
+    @Test
+    public void testDisconnectedClustersSplit() {
+        DummyPathElement[] elements = createLine(0, 1000);
+        disconnect(elements[2], elements[3]);
+        List<Cluster> clusters = PathFinder.getDisconnectedClusters(Lists.newArrayList(
+                SidedPathElement.of(elements[2], null), SidedPathElement.of(elements[3], null)));
+        assertThat(clusters.size(), is(1));
+        assertThat(clusters.get(0).size(), is(3));
+        assertThat(clusters.get(0).contains(SidedPathElement.of(elements[0], null)), is(true));
+    }
+
+    @Test
+    public void testDisconnectedClustersSplitCompletely() {
+        DummyPathElement[] elements = createLine(0, 10);
+        disconnect(elements[2], elements[3]);
+        disconnect(elements[5], elements[6]);
+        List<Cluster> clusters = PathFinder.getDisconnectedClusters(Lists.newArrayList(
+                SidedPathElement.of(elements[2], null), SidedPathElement.of(elements[3], null),
+                SidedPathElement.of(elements[5], null), SidedPathElement.of(elements[6], null)));
+        assertThat(clusters.size(), is(2));
+        assertThat(clusters.get(0).size() + clusters.get(1).size(), is(6));
+    }
+
+    protected static class DummyPathElement implements IPathElement {
+
+        private final DimPos position;
+        private final Set<ISidedPathElement> reachableElements = Sets.newHashSet();
+
+        public DummyPathElement(DimPos position) {
+            this.position = position;
+        }
+
+        public void connect(DummyPathElement element) {
+            reachableElements.add(SidedPathElement.of(element, null));
+        }
+
+        @Override
+        public DimPos getPosition() {
+            return position;
+        }
+
+        @Override
+        public Set<ISidedPathElement> getReachableElements() {
+            return reachableElements;
+        }
+
+        @Override
+        public int compareTo(IPathElement o) {
+            return getPosition().compareTo(o.getPosition());
+        }
+    }
+
+}